@@ -94,6 +94,11 @@ import static org.pitest.mutationtest.config.ConfigOption.USE_INLINED_CODE_DETEC
 import static org.pitest.mutationtest.config.ConfigOption.VERBOSE;
 import static org.pitest.mutationtest.config.ConfigOption.VERBOSITY;
 import static org.pitest.mutationtest.config.ConfigOption.FAILING_TESTS;;
+import static org.pitest.mutationtest.config.ConfigOption.MAX_UNITS_PER_MINION;
+import static org.pitest.mutationtest.config.ConfigOption.COVERAGE_MINIONS;
+import static org.pitest.mutationtest.config.ConfigOption.COMPRESS_REPORTS;
+import static org.pitest.mutationtest.config.ConfigOption.NARROW_TO_FAILING_TESTS;
+import static org.pitest.mutationtest.config.ConfigOption.USE_CLASS_DATA_SHARING;
 
 public class OptionsParser {
 
@@ -150,6 +155,11 @@ public class OptionsParser {
   private final OptionSpec<String>                   inputEncoding;
   private final OptionSpec<String>                   outputEncoding;
   private final OptionSpec<String>                   failingTestsSpec;
+  private final ArgumentAcceptingOptionSpec<Integer> maxUnitsPerMinionSpec;
+  private final ArgumentAcceptingOptionSpec<Integer> coverageMinionsSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> compressReportsSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> narrowToFailingTestsSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> useClassDataSharingSpec;
   
   public OptionsParser(Predicate<String> dependencyFilter) {
 
@@ -395,6 +405,31 @@ public class OptionsParser {
         .withValuesSeparatedBy(',')
         .describedAs("Initial failing tests for the buggy program");
 
+    this.maxUnitsPerMinionSpec = parserAccepts(MAX_UNITS_PER_MINION)
+        .withRequiredArg().ofType(Integer.class)
+        .defaultsTo(MAX_UNITS_PER_MINION.getDefault(Integer.class))
+        .describedAs("maximum number of analysis units to run in each mutation test minion");
+
+    this.coverageMinionsSpec = parserAccepts(COVERAGE_MINIONS)
+        .withRequiredArg().ofType(Integer.class)
+        .defaultsTo(COVERAGE_MINIONS.getDefault(Integer.class))
+        .describedAs("number of processes to use when gathering coverage");
+
+    this.compressReportsSpec = parserAccepts(COMPRESS_REPORTS)
+        .withOptionalArg().ofType(Boolean.class)
+        .defaultsTo(COMPRESS_REPORTS.getDefault(Boolean.class))
+        .describedAs("whether to gzip the xml and csv reports");
+
+    this.narrowToFailingTestsSpec = parserAccepts(NARROW_TO_FAILING_TESTS)
+        .withOptionalArg().ofType(Boolean.class)
+        .defaultsTo(NARROW_TO_FAILING_TESTS.getDefault(Boolean.class))
+        .describedAs("whether to limit coverage and mutant discovery to code reached by the failing tests");
+
+    this.useClassDataSharingSpec = parserAccepts(USE_CLASS_DATA_SHARING)
+        .withOptionalArg().ofType(Boolean.class)
+        .defaultsTo(USE_CLASS_DATA_SHARING.getDefault(Boolean.class))
+        .describedAs("whether to share a class data archive recorded during coverage with minions (java 13+)");
+
   }
 
   private OptionSpecBuilder parserAccepts(final ConfigOption option) {
@@ -493,6 +528,16 @@ public class OptionsParser {
 
     data.setFailingTests(failingTestsSpec.values(userArgs));
 
+    data.setMaxUnitsPerMinion(this.maxUnitsPerMinionSpec.value(userArgs));
+
+    data.setCoverageMinions(this.coverageMinionsSpec.value(userArgs));
+
+    data.setCompressReports(userArgs.valueOf(this.compressReportsSpec));
+
+    data.setNarrowToFailingTests(userArgs.valueOf(this.narrowToFailingTestsSpec));
+
+    data.setUseClassDataSharing(userArgs.valueOf(this.useClassDataSharingSpec));
+
     if (userArgs.has("?")) {
       return new ParseResult(data, "See above for supported parameters.");
     } else {
@@ -9,6 +9,7 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.pitest.classinfo.CachingByteArraySource;
 import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassInfo;
 import org.pitest.classinfo.ClassInfoSource;
@@ -24,12 +25,23 @@ import org.pitest.functional.Streams;
  */
 public class CodeSource implements ClassInfoSource, ClassByteArraySource {
 
+  public static final long          CLASS_CACHE_BYTES = 64 * 1024 * 1024;
+
   private final ProjectClassPaths   classPath;
   private final Repository          classRepository;
 
   public CodeSource(final ProjectClassPaths classPath) {
-    this(classPath, new Repository(new ClassPathByteArraySource(
-        classPath.getClassPath())));
+    this(classPath, new CachingByteArraySource(new ClassPathByteArraySource(
+        classPath.getClassPath()), CLASS_CACHE_BYTES));
+  }
+
+  /**
+   * Reads classes from the supplied source, so bytes cached there are shared
+   * with everything else that uses it.
+   */
+  public CodeSource(final ProjectClassPaths classPath,
+      final ClassByteArraySource classBytes) {
+    this(classPath, new Repository(classBytes));
   }
 
   CodeSource(final ProjectClassPaths classPath,
@@ -25,14 +25,12 @@ import org.pitest.util.Log;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeSet;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.logging.Logger;
@@ -42,7 +40,8 @@ public class CoverageData implements CoverageDatabase {
 
   private static final Logger LOG = Log.getLogger();
 
-  private final Map<BlockLocation, Set<TestInfo>> blockCoverage = new LinkedHashMap<>();
+  private final TestIndex tests = new TestIndex();
+  private final Map<BlockLocation, TestIdSet> blockCoverage = new LinkedHashMap<>();
   private final LegacyClassCoverage legacyClassCoverage;
 
   private final CodeSource code;
@@ -51,7 +50,7 @@ public class CoverageData implements CoverageDatabase {
 
   public CoverageData(final CodeSource code, final LineMap lm) {
     this.code = code;
-    this.legacyClassCoverage = new LegacyClassCoverage(code, lm);
+    this.legacyClassCoverage = new LegacyClassCoverage(code, lm, this.tests);
   }
 
   public void calculateClassCoverage(final CoverageResult cr) {
@@ -60,10 +59,11 @@ public class CoverageData implements CoverageDatabase {
     final TestInfo ti = this.createTestInfo(cr.getTestUnitDescription(),
             cr.getExecutionTime(), cr.getNumberOfCoveredBlocks());
 
-    legacyClassCoverage.addTestToClasses(ti,cr.getCoverage());
+    final int testId = this.tests.idFor(ti);
+    legacyClassCoverage.addTestToClasses(testId, cr.getCoverage());
 
     for (final BlockLocation each : cr.getCoverage()) {
-        addTestsToBlockMap(ti, each);
+        addTestsToBlockMap(testId, each);
     }
     
     // LOG.info("Number of covered blocks: " + cr.getNumberOfCoveredBlocks());
@@ -77,7 +77,7 @@ public class CoverageData implements CoverageDatabase {
 
   @Override
   public Collection<TestInfo> getTestsForBlockLocation(BlockLocation location) {
-    return this.blockCoverage.getOrDefault(location, Collections.emptySet());
+    return this.tests.toTests(this.blockCoverage.get(location));
   }
 
   @Override
@@ -112,13 +112,8 @@ public class CoverageData implements CoverageDatabase {
     return legacyClassCoverage.getTestsForClass(clazz);
   }
 
-  private void addTestsToBlockMap(final TestInfo ti, BlockLocation each) {
-    Set<TestInfo> tests = this.blockCoverage.get(each);
-    if (tests == null) {
-      tests = new TreeSet<>(new TestInfoNameComparator());
-      this.blockCoverage.put(each, tests);
-    }
-    tests.add(ti);
+  private void addTestsToBlockMap(final int testId, BlockLocation each) {
+    this.blockCoverage.computeIfAbsent(each, b -> new TestIdSet()).add(testId);
   }
 
   @Override
@@ -135,8 +130,8 @@ public class CoverageData implements CoverageDatabase {
     return FCollection.map(this.blockCoverage.entrySet(), toBlockCoverage());
   }
 
-  private static Function<Entry<BlockLocation, Set<TestInfo>>, BlockCoverage> toBlockCoverage() {
-    return a -> new BlockCoverage(a.getKey(), FCollection.map(a.getValue(),
+  private Function<Entry<BlockLocation, TestIdSet>, BlockCoverage> toBlockCoverage() {
+    return a -> new BlockCoverage(a.getKey(), FCollection.map(this.tests.toTests(a.getValue()),
         TestInfo.toName()));
   }
 
@@ -0,0 +1,81 @@
+package org.pitest.coverage;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.testapi.Description;
+
+/**
+ * Hash indexed lookup of the tests named as failing. Failing tests are named
+ * as testClass.testMethod, while test names reported by the runner may carry
+ * a suffix such as (testClass). The suffix is stripped once per test name
+ * seen rather than each time the test is checked.
+ */
+public final class FailingTests {
+
+  private final Set<String>          names;
+  private final Map<String, Boolean> seen = new ConcurrentHashMap<>();
+
+  public FailingTests(final Collection<String> names) {
+    this.names = names == null ? Collections.emptySet() : new HashSet<>(names);
+  }
+
+  public boolean isEmpty() {
+    return this.names.isEmpty();
+  }
+
+  public boolean contains(final String testName) {
+    if (this.names.isEmpty()) {
+      return false;
+    }
+    return this.seen.computeIfAbsent(testName,
+        name -> this.names.contains(withoutSuffix(name)));
+  }
+
+  public boolean contains(final TestInfo test) {
+    return contains(test.getName());
+  }
+
+  public boolean contains(final Description test) {
+    return contains(test.getQualifiedName());
+  }
+
+  public boolean containsAny(final Collection<TestInfo> tests) {
+    for (final TestInfo each : tests) {
+      if (contains(each)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * The classes declaring the failing tests
+   */
+  public Set<ClassName> testClasses() {
+    final Set<ClassName> classes = new HashSet<>();
+    for (final String each : this.names) {
+      final int method = each.lastIndexOf('.');
+      if (method > 0) {
+        classes.add(ClassName.fromString(each.substring(0, method)));
+      }
+    }
+    return classes;
+  }
+
+  @Override
+  public String toString() {
+    return this.names.toString();
+  }
+
+  private static String withoutSuffix(final String name) {
+    final int suffix = name.indexOf('(');
+    return suffix < 0 ? name : name.substring(0, suffix);
+  }
+
+}
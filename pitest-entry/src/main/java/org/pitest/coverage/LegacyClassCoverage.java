@@ -11,9 +11,7 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeSet;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * Line based coverage data, used by html report and the history system
@@ -24,13 +22,19 @@ public class LegacyClassCoverage implements ReportCoverage {
 
     private final CodeSource code;
     private final Map<String, Collection<ClassInfo>> classesForFile;
-    private final Map<ClassName, Map<ClassLine, Set<TestInfo>>> lineCoverage  = new LinkedHashMap<>();
+    private final Map<ClassName, Map<Integer, TestIdSet>> lineCoverage  = new LinkedHashMap<>();
     private final Map<BlockLocation, Set<Integer>> blocksToLines = new LinkedHashMap<>();
     private final LineMap lm;
+    private final TestIndex tests;
 
     public LegacyClassCoverage(CodeSource code, LineMap lm) {
+        this(code, lm, new TestIndex());
+    }
+
+    LegacyClassCoverage(CodeSource code, LineMap lm, TestIndex tests) {
         this.code = code;
         this.lm = lm;
+        this.tests = tests;
         this.classesForFile = FCollection.bucket(code.getCode(),
                 keyFromClassInfo());
     }
@@ -55,13 +59,8 @@ public class LegacyClassCoverage implements ReportCoverage {
 
     @Override
     public Collection<TestInfo> getTestsForClassLine(final ClassLine classLine) {
-        final Collection<TestInfo> result = getLineCoverageForClassName(
-                classLine.getClassName()).get(classLine);
-        if (result == null) {
-            return Collections.emptyList();
-        } else {
-            return result;
-        }
+        return this.tests.toTests(getLineCoverageForClassName(
+                classLine.getClassName()).get(classLine.getLineNumber()));
     }
 
     @Override
@@ -77,34 +76,24 @@ public class LegacyClassCoverage implements ReportCoverage {
     }
 
     public Collection<TestInfo> getTestsForClass(ClassName clazz) {
-        return this.lineCoverage.getOrDefault(clazz, Collections.emptyMap()).values().stream()
-                .flatMap(s -> s.stream())
-                .collect(Collectors.toSet());
+        return this.tests.toTests(this.lineCoverage.getOrDefault(clazz, Collections.emptyMap()).values());
     }
 
     void addTestToClasses(TestInfo ti, Collection<BlockLocation> coverage) {
+        addTestToClasses(this.tests.idFor(ti), coverage);
+    }
+
+    void addTestToClasses(int testId, Collection<BlockLocation> coverage) {
         for (BlockLocation each : coverage) {
             ClassName clazz = each.getLocation().getClassName();
-            Map<ClassLine, Set<TestInfo>> linesToTests = lineCoverage.getOrDefault(clazz, new LinkedHashMap<>(0));
+            Map<Integer, TestIdSet> linesToTests = lineCoverage.computeIfAbsent(clazz, c -> new LinkedHashMap<>(0));
             for (int line : getLinesForBlock(each)) {
-                addTestToClassLine(each.getLocation().getClassName(), linesToTests, ti, line);
+                linesToTests.computeIfAbsent(line, l -> new TestIdSet()).add(testId);
             }
-            // can we get blocks from different classes?
-            this.lineCoverage.put(each.getLocation().getClassName(), linesToTests);
         }
     }
-    private void addTestToClassLine(ClassName clazz,
-                                    Map<ClassLine, Set<TestInfo>> linesToTests,
-                                    TestInfo test,
-                                    int line) {
-        ClassLine cl = new ClassLine(clazz, line);
-        Set<TestInfo> tis = linesToTests.getOrDefault(cl, new TreeSet<>(new TestInfoNameComparator()));
-        tis.add(test);
-        linesToTests.put(cl, tis);
-    }
-
 
-    private Map<ClassLine, Set<TestInfo>> getLineCoverageForClassName(final ClassName clazz) {
+    private Map<Integer, TestIdSet> getLineCoverageForClassName(final ClassName clazz) {
         return this.lineCoverage.getOrDefault(clazz, Collections.emptyMap());
     }
 
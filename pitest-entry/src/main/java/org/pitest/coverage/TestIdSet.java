@@ -0,0 +1,60 @@
+package org.pitest.coverage;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Ids of the tests covering a block or line. Tests are registered in the
+ * order they run, so ids normally arrive in ascending order and are appended.
+ */
+final class TestIdSet {
+
+  private int[] ids = new int[2];
+  private int   size;
+
+  void add(final int id) {
+    if (this.size != 0 && this.ids[this.size - 1] >= id) {
+      if (contains(id)) {
+        return;
+      }
+      insert(id);
+      return;
+    }
+    ensureCapacity();
+    this.ids[this.size] = id;
+    this.size++;
+  }
+
+  int size() {
+    return this.size;
+  }
+
+  int get(final int index) {
+    return this.ids[index];
+  }
+
+  void addTo(final BitSet bits) {
+    for (int i = 0; i != this.size; i++) {
+      bits.set(this.ids[i]);
+    }
+  }
+
+  private boolean contains(final int id) {
+    return Arrays.binarySearch(this.ids, 0, this.size, id) >= 0;
+  }
+
+  private void insert(final int id) {
+    ensureCapacity();
+    final int at = -(Arrays.binarySearch(this.ids, 0, this.size, id) + 1);
+    System.arraycopy(this.ids, at, this.ids, at + 1, this.size - at);
+    this.ids[at] = id;
+    this.size++;
+  }
+
+  private void ensureCapacity() {
+    if (this.size == this.ids.length) {
+      this.ids = Arrays.copyOf(this.ids, this.size * 2);
+    }
+  }
+
+}
@@ -0,0 +1,61 @@
+package org.pitest.coverage;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Assigns dense int ids to tests so coverage can be held as ids rather than
+ * as a set of TestInfo per block and line. Tests are identified by name, the
+ * first TestInfo registered under a name is the one returned.
+ */
+final class TestIndex {
+
+  private final Map<String, Integer> ids   = new HashMap<>();
+  private final List<TestInfo>       tests = new ArrayList<>();
+
+  int idFor(final TestInfo test) {
+    final Integer existing = this.ids.get(test.getName());
+    if (existing != null) {
+      return existing;
+    }
+    final int id = this.tests.size();
+    this.tests.add(test);
+    this.ids.put(test.getName(), id);
+    return id;
+  }
+
+  /**
+   * Tests for the ids, ordered by name
+   */
+  List<TestInfo> toTests(final TestIdSet testIds) {
+    if (testIds == null || testIds.size() == 0) {
+      return Collections.emptyList();
+    }
+    final List<TestInfo> result = new ArrayList<>(testIds.size());
+    for (int i = 0; i != testIds.size(); i++) {
+      result.add(this.tests.get(testIds.get(i)));
+    }
+    result.sort(new TestInfoNameComparator());
+    return result;
+  }
+
+  Set<TestInfo> toTests(final Collection<TestIdSet> testIds) {
+    final BitSet union = new BitSet(this.tests.size());
+    for (final TestIdSet each : testIds) {
+      each.addTo(union);
+    }
+    final Set<TestInfo> result = new LinkedHashSet<>();
+    for (int id = union.nextSetBit(0); id >= 0; id = union.nextSetBit(id + 1)) {
+      result.add(this.tests.get(id));
+    }
+    return result;
+  }
+
+}
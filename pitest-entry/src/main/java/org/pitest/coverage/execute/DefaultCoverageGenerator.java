@@ -18,7 +18,9 @@ package org.pitest.coverage.execute;
 import java.io.File;
 import java.io.IOException;
 import java.net.ServerSocket;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -28,11 +30,14 @@ import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.CodeSource;
+import org.pitest.coverage.BlockLocation;
 import org.pitest.coverage.CoverageData;
 import org.pitest.coverage.CoverageExporter;
 import org.pitest.coverage.CoverageGenerator;
 import org.pitest.coverage.CoverageResult;
+import org.pitest.coverage.FailingTests;
 import org.pitest.coverage.analysis.LineMapper;
 import org.pitest.functional.FCollection;
 import org.pitest.functional.prelude.Prelude;
@@ -62,12 +67,38 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
   private final File             workingDir;
   private final CoverageExporter exporter;
   private final Verbosity        verbosity;
-  private final Set<String>      failingTests;
+  private final FailingTests     failingTests;
+  private final int              minions;
+
+  // the first coverage minion records the class data archive, if there is one
+  private boolean                classDataRecorded;
 
   public DefaultCoverageGenerator(final File workingDir,
       final CoverageOptions coverageOptions, final LaunchOptions launchOptions,
       final CodeSource code, final CoverageExporter exporter,
       final Timings timings, Verbosity verbosity) {
+    this(workingDir, coverageOptions, launchOptions, code, exporter, timings,
+        verbosity, 1);
+  }
+
+  public DefaultCoverageGenerator(final File workingDir,
+      final CoverageOptions coverageOptions, final LaunchOptions launchOptions,
+      final CodeSource code, final CoverageExporter exporter,
+      final Timings timings, Verbosity verbosity, int minions) {
+    this(workingDir, coverageOptions, launchOptions, code, exporter, timings,
+        verbosity, minions, Collections.emptyList());
+  }
+
+  /**
+   * When failing tests are given, coverage is gathered only for the code they
+   * reach. They are run first, and the remaining tests are then run with only
+   * the classes reached by the failing tests instrumented.
+   */
+  public DefaultCoverageGenerator(final File workingDir,
+      final CoverageOptions coverageOptions, final LaunchOptions launchOptions,
+      final CodeSource code, final CoverageExporter exporter,
+      final Timings timings, Verbosity verbosity, int minions,
+      Collection<String> failingTests) {
     this.coverageOptions = coverageOptions;
     this.code = code;
     this.launchOptions = launchOptions;
@@ -75,7 +106,8 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
     this.workingDir = workingDir;
     this.exporter = exporter;
     this.verbosity = verbosity;
-    this.failingTests = new HashSet<>();
+    this.failingTests = new FailingTests(failingTests);
+    this.minions = Math.max(1, minions);
   }
 
   @Override
@@ -129,18 +161,99 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
 
     final Consumer<CoverageResult> handler = resultProcessor(coverage);
 
-    final SocketFinder sf = new SocketFinder();
-    final ServerSocket socket = sf.getNextAvailableServerSocket();
+    if (this.failingTests.isEmpty()) {
+      runCoverage(filteredTests, this.coverageOptions, handler);
+    } else {
+      gatherCoverageReachedByFailingTests(filteredTests, handler);
+    }
+  }
 
-    final CoverageProcess process = new CoverageProcess(ProcessArgs
-        .withClassPath(this.code.getClassPath()).andBaseDir(this.workingDir)
-        .andLaunchOptions(this.launchOptions).andStderr(logInfo())
-        .andStdout(captureStandardOutIfVerbose()), this.coverageOptions,
-        socket, filteredTests, handler);
+  private void gatherCoverageReachedByFailingTests(final List<String> tests,
+      final Consumer<CoverageResult> handler)
+      throws IOException, InterruptedException {
+    final Set<String> failingClasses = new HashSet<>(FCollection.map(
+        this.failingTests.testClasses(), ClassName::asInternalName));
+    final List<String> first = new ArrayList<>();
+    final List<String> rest = new ArrayList<>();
+    for (final String each : tests) {
+      if (failingClasses.contains(each)) {
+        first.add(each);
+      } else {
+        rest.add(each);
+      }
+    }
+    if (first.isEmpty()) {
+      LOG.warning("None of the failing tests " + this.failingTests
+          + " were found");
+      return;
+    }
 
-    process.start();
+    // the classes declaring the failing tests may hold passing tests too,
+    // these are held back until it is known which blocks were reached
+    final Set<BlockLocation> reached = new HashSet<>();
+    final List<CoverageResult> others = new ArrayList<>();
+    runCoverage(first, this.coverageOptions, cr -> {
+      synchronized (reached) {
+        if (this.failingTests.contains(cr.getTestUnitDescription())) {
+          reached.addAll(cr.getCoverage());
+          handler.accept(cr);
+        } else {
+          others.add(cr);
+        }
+      }
+    });
+    for (final CoverageResult each : others) {
+      handler.accept(narrow(each, reached));
+    }
 
-    final ExitCode exitCode = process.waitToDie();
+    final Set<String> reachedClasses = new HashSet<>();
+    for (final BlockLocation each : reached) {
+      reachedClasses.add(each.getLocation().getClassName().asJavaName());
+    }
+    LOG.info("Failing tests reached " + reached.size() + " blocks in "
+        + reachedClasses.size() + " classes");
+    if (reachedClasses.isEmpty() || rest.isEmpty()) {
+      return;
+    }
+
+    final CoverageOptions reachedOnly = new CoverageOptions(reachedClasses,
+        Collections.emptyList(), this.coverageOptions.getPitConfig(),
+        this.coverageOptions.verbosity());
+    runCoverage(rest, reachedOnly, cr -> handler.accept(narrow(cr, reached)));
+  }
+
+  private static CoverageResult narrow(final CoverageResult result,
+      final Set<BlockLocation> blocks) {
+    final List<BlockLocation> visited = new ArrayList<>();
+    for (final BlockLocation each : result.getCoverage()) {
+      if (blocks.contains(each)) {
+        visited.add(each);
+      }
+    }
+    return new CoverageResult(result.getTestUnitDescription(),
+        result.getExecutionTime(), result.isGreenTest(), visited);
+  }
+
+  private void runCoverage(final List<String> tests,
+      final CoverageOptions options, final Consumer<CoverageResult> handler)
+      throws IOException, InterruptedException {
+    // each minion numbers its classes and probes independently. These ids
+    // are resolved to locations by the Receive for that minion's socket, so
+    // results from different minions can be merged directly.
+    final List<CoverageProcess> processes = new ArrayList<>();
+    for (final List<String> shard : shard(tests)) {
+      final CoverageProcess process = createProcess(shard, options, handler);
+      process.start();
+      processes.add(process);
+    }
+
+    ExitCode exitCode = ExitCode.OK;
+    for (final CoverageProcess each : processes) {
+      final ExitCode shardExit = each.waitToDie();
+      if (exitCode.isOk()) {
+        exitCode = shardExit;
+      }
+    }
 
     if (exitCode == ExitCode.TEST_PLUGIN_ISSUE) {
       LOG.severe("Pitest could not run any tests. Please check that you have installed the pitest plugin for your testing library (eg JUnit 5, TestNG). If your project uses JUnit 4 "
@@ -156,6 +269,35 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
     }
   }
 
+  private CoverageProcess createProcess(final List<String> tests,
+      final CoverageOptions options, final Consumer<CoverageResult> handler)
+      throws IOException {
+    final SocketFinder sf = new SocketFinder();
+    final ServerSocket socket = sf.getNextAvailableServerSocket();
+
+    final boolean recordClassData = !this.classDataRecorded;
+    this.classDataRecorded = true;
+
+    return new CoverageProcess(ProcessArgs
+        .withClassPath(this.code.getClassPath()).andBaseDir(this.workingDir)
+        .andLaunchOptions(this.launchOptions).andStderr(logInfo())
+        .andStdout(captureStandardOutIfVerbose())
+        .andRecordClassData(recordClassData), options,
+        socket, tests, handler);
+  }
+
+  private List<List<String>> shard(final List<String> tests) {
+    final int shards = Math.max(1, Math.min(this.minions, tests.size()));
+    final List<List<String>> result = new ArrayList<>(shards);
+    for (int i = 0; i != shards; i++) {
+      result.add(new ArrayList<>());
+    }
+    for (int i = 0; i != tests.size(); i++) {
+      result.get(i % shards).add(tests.get(i));
+    }
+    return result;
+  }
+
   private static Function<ClassInfo, String> classInfoToName() {
     return a -> a.getName().asInternalName();
   }
@@ -183,8 +325,9 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
           "\u0008\\", "\u0008|" };
       int i = 0;
 
+      // called from the communication thread of every coverage minion
       @Override
-      public void accept(final CoverageResult cr) {
+      public synchronized void accept(final CoverageResult cr) {
         if (cr.isGreenTest() || !coverageOptions.getPitConfig().skipFailingTests()) {
           coverage.calculateClassCoverage(cr);
         }
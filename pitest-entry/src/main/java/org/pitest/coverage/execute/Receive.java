@@ -8,19 +8,19 @@ import org.pitest.testapi.Description;
 import org.pitest.util.Id;
 import org.pitest.util.ReceiveStrategy;
 import org.pitest.util.SafeDataInputStream;
-import sun.pitest.CodeCoverageStore;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 final class Receive implements ReceiveStrategy {
 
   private final Map<Integer, ClassName>     classIdToName = new ConcurrentHashMap<>();
-  private final Map<Long, BlockLocation>    probeToBlock  = new ConcurrentHashMap<>();
+  private final Map<Integer, BlockLocation[]> probeToBlock = new ConcurrentHashMap<>();
 
   private final Consumer<CoverageResult> handler;
 
@@ -55,36 +55,44 @@ final class Receive implements ReceiveStrategy {
     final int last = is.readInt();
     final Location loc = Location.location(this.classIdToName.get(classId),
         methodName, methodSig);
+    final BlockLocation[] blocks = blocksForClass(classId, last + 1);
     for (int i = first; i != (last + 1); i++) {
       // nb, convert from classwide id to method scoped index within
       // BlockLocation
-      this.probeToBlock.put(CodeCoverageStore.encode(classId, i),
-          new BlockLocation(loc, i - first));
+      blocks[i] = new BlockLocation(loc, i - first);
     }
   }
 
+  private BlockLocation[] blocksForClass(final int classId, final int size) {
+    BlockLocation[] blocks = this.probeToBlock.get(classId);
+    if (blocks == null || blocks.length < size) {
+      blocks = blocks == null ? new BlockLocation[size] : Arrays.copyOf(blocks, size);
+      this.probeToBlock.put(classId, blocks);
+    }
+    return blocks;
+  }
+
   private void handleTestEnd(final SafeDataInputStream is) {
     final Description d = is.read(Description.class);
-    final int numberOfResults = is.readInt();
-
-    final Set<BlockLocation> hits = new HashSet<>(numberOfResults);
 
-    for (int i = 0; i != numberOfResults; i++) {
-      readProbeHit(is, hits);
-    }
+    // probes are unique within a test, so the blocks they map to are too
+    final List<BlockLocation> hits = new ArrayList<>();
+    ProbeHitCodec.read(is, (classId, probe) -> {
+      final BlockLocation block = probeToBlock(classId, probe);
+      if (block != null) {
+        hits.add(block);
+      }
+    });
 
     this.handler.accept(createCoverageResult(is, d, hits));
   }
 
-  private void readProbeHit(final SafeDataInputStream is,
-      final Set<BlockLocation> hits) {
-    final long encoded = is.readLong();
-    final BlockLocation location = probeToBlock(encoded);
-    hits.add(location);
-  }
-
-  private BlockLocation probeToBlock(long encoded) {
-    return this.probeToBlock.get(encoded);
+  private BlockLocation probeToBlock(final int classId, final int probe) {
+    final BlockLocation[] blocks = this.probeToBlock.get(classId);
+    if (blocks == null || probe >= blocks.length) {
+      return null;
+    }
+    return blocks[probe];
   }
 
   private CoverageResult createCoverageResult(final SafeDataInputStream is,
@@ -1,6 +1,9 @@
 package org.pitest.mutationtest;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 import org.pitest.classinfo.ClassName;
@@ -12,10 +15,18 @@ public class ClassHistory implements Serializable {
 
   private final HierarchicalClassId id;
   private final String              coverageId;
+  // null when read from history written before methods were hashed
+  private final HashMap<String, Long> methodHashes;
 
   public ClassHistory(final HierarchicalClassId id, final String coverageId) {
+    this(id, coverageId, Collections.emptyMap());
+  }
+
+  public ClassHistory(final HierarchicalClassId id, final String coverageId,
+      final Map<String, Long> methodHashes) {
     this.id = id;
     this.coverageId = coverageId;
+    this.methodHashes = new HashMap<>(methodHashes);
   }
 
   public HierarchicalClassId getId() {
@@ -30,9 +41,20 @@ public class ClassHistory implements Serializable {
     return this.id.getName();
   }
 
+  /**
+   * Hashes of the class's methods keyed by name and descriptor, empty if
+   * they were not recorded
+   */
+  public Map<String, Long> getMethodHashes() {
+    if (this.methodHashes == null) {
+      return Collections.emptyMap();
+    }
+    return Collections.unmodifiableMap(this.methodHashes);
+  }
+
   @Override
   public int hashCode() {
-    return Objects.hash(id, coverageId);
+    return Objects.hash(id, coverageId, getMethodHashes());
   }
 
   @Override
@@ -45,6 +67,7 @@ public class ClassHistory implements Serializable {
     }
     final ClassHistory other = (ClassHistory) obj;
     return Objects.equals(id, other.id)
-            && Objects.equals(coverageId, other.coverageId);
+            && Objects.equals(coverageId, other.coverageId)
+            && Objects.equals(getMethodHashes(), other.getMethodHashes());
   }
 }
\ No newline at end of file
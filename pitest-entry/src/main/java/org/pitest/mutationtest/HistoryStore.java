@@ -1,7 +1,9 @@
 package org.pitest.mutationtest;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
+import java.util.function.Function;
 
 import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.HierarchicalClassId;
@@ -14,10 +16,42 @@ public interface HistoryStore {
 
   void recordClassPath(Collection<HierarchicalClassId> ids, CoverageDatabase coverageInfo);
 
+  /**
+   * Records the class path along with hashes of the methods in each class, so
+   * that results for unchanged methods of a changed class can be reused.
+   * Stores that cannot hold method hashes record the class path alone.
+   */
+  default void recordClassPath(Collection<HierarchicalClassId> ids,
+      CoverageDatabase coverageInfo,
+      Function<ClassName, Map<String, Long>> methodHashes) {
+    recordClassPath(ids, coverageInfo);
+  }
+
   void recordResult(MutationResult result);
 
+  /**
+   * Records a result along with a fingerprint of the tests that covered the
+   * mutation, see {@link #getHistoricCoverageFingerprints()}. Stores that
+   * cannot hold fingerprints record the result alone.
+   */
+  default void recordResult(MutationResult result, long coverageFingerprint) {
+    recordResult(result);
+  }
+
   Map<MutationIdentifier, MutationStatusTestPair> getHistoricResults();
 
   Map<ClassName, ClassHistory> getHistoricClassPath();
 
+  default Map<MutationIdentifier, Long> getHistoricCoverageFingerprints() {
+    return Collections.emptyMap();
+  }
+
+  /**
+   * Called once analysis is complete, after which no more results will be
+   * recorded.
+   */
+  default void close() {
+
+  }
+
 }
@@ -18,7 +18,7 @@ Serializable {
 
   @Override
   public int compare(final MutationAnalysisUnit a, final MutationAnalysisUnit b) {
-    return b.priority() - a.priority();
+    return Integer.compare(b.priority(), a.priority());
   }
 
 }
@@ -12,9 +12,20 @@ import org.pitest.mutationtest.engine.MutationDetails;
 public class DefaultGrouper implements MutationGrouper {
 
   private final int unitSize;
+  private final int numberOfThreads;
 
   public DefaultGrouper(final int unitSize) {
+    this(unitSize, 1);
+  }
+
+  /**
+   * When running with more than one thread, classes whose estimated cost is
+   * more than a thread's share of the total are split so that no single unit
+   * is left running alone after the others have finished.
+   */
+  public DefaultGrouper(final int unitSize, final int numberOfThreads) {
     this.unitSize = unitSize;
+    this.numberOfThreads = numberOfThreads;
   }
 
   @Override
@@ -23,14 +34,45 @@ public class DefaultGrouper implements MutationGrouper {
       final Collection<MutationDetails> mutations) {
     final Map<ClassName, Collection<MutationDetails>> bucketed = FCollection
         .bucket(mutations, MutationDetails::getClassName);
+    final long maxCost = maximumUnitCost(mutations);
     final List<List<MutationDetails>> chunked = new ArrayList<>();
     for (final Map.Entry<ClassName,Collection<MutationDetails>> each : bucketed.entrySet()) {
-      shrinkToMaximumUnitSize(chunked, each.getValue());
+      for (final List<MutationDetails> byCost : splitByCost(maxCost, each.getValue())) {
+        shrinkToMaximumUnitSize(chunked, byCost);
+      }
     }
 
     return chunked;
   }
 
+  private long maximumUnitCost(final Collection<MutationDetails> mutations) {
+    if (this.numberOfThreads <= 1) {
+      return Long.MAX_VALUE;
+    }
+    return Math.max(1, MutationCost.estimate(mutations) / this.numberOfThreads);
+  }
+
+  private static List<List<MutationDetails>> splitByCost(final long maxCost,
+      final Collection<MutationDetails> mutations) {
+    final List<List<MutationDetails>> units = new ArrayList<>();
+    List<MutationDetails> current = new ArrayList<>();
+    long currentCost = 0;
+    for (final MutationDetails each : mutations) {
+      final long cost = MutationCost.estimate(each);
+      if (!current.isEmpty() && currentCost + cost > maxCost) {
+        units.add(current);
+        current = new ArrayList<>();
+        currentCost = 0;
+      }
+      current.add(each);
+      currentCost += cost;
+    }
+    if (!current.isEmpty()) {
+      units.add(current);
+    }
+    return units;
+  }
+
   private void shrinkToMaximumUnitSize(
       final List<List<MutationDetails>> chunked,
       final Collection<MutationDetails> each) {
@@ -0,0 +1,34 @@
+package org.pitest.mutationtest.build;
+
+import java.util.Collection;
+
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * Estimates how long analysing mutations will take from the execution times
+ * recorded for their covering tests during coverage. Assumes the worst case
+ * of every covering test being run, plus a fixed cost per mutation.
+ */
+final class MutationCost {
+
+  private MutationCost() {
+  }
+
+  static long estimate(final MutationDetails mutation) {
+    long cost = 1;
+    for (final TestInfo each : mutation.getTestsInOrder()) {
+      cost += each.getTime();
+    }
+    return cost;
+  }
+
+  static long estimate(final Collection<MutationDetails> mutations) {
+    long cost = 0;
+    for (final MutationDetails each : mutations) {
+      cost += estimate(each);
+    }
+    return cost;
+  }
+
+}
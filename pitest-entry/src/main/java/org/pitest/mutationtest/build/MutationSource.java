@@ -17,6 +17,7 @@ package org.pitest.mutationtest.build;
 import org.pitest.bytecode.analysis.ClassTree;
 import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.FailingTests;
 import org.pitest.coverage.TestInfo;
 import org.pitest.mutationtest.MutationConfig;
 import org.pitest.mutationtest.engine.Mutater;
@@ -25,17 +26,20 @@ import org.pitest.util.Log;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 public class MutationSource {
 
   private final MutationConfig       mutationConfig;
   private final TestPrioritiser      testPrioritiser;
   private final ClassByteArraySource source;
-  private final MutationInterceptor interceptor;
-  private final Collection<String>   failingTests;
+  private final ThreadLocal<MutationInterceptor> interceptors;
+  private final FailingTests         failingTests;
+  private final Map<ClassName, Collection<MutationDetails>> prescanned;
 
   private static final Logger      LOG = Log.getLogger();
 
@@ -51,19 +55,49 @@ public class MutationSource {
       final ClassByteArraySource source,
       final MutationInterceptor interceptor,
       Collection<String> failingTests) {
+    this(mutationConfig, testPrioritiser, source, () -> interceptor, failingTests);
+  }
+
+  /**
+   * Interceptors hold state for the class being examined, so each thread
+   * creating mutations is given its own from the supplied factory.
+   */
+  public MutationSource(final MutationConfig mutationConfig,
+      final TestPrioritiser testPrioritiser,
+      final ClassByteArraySource source,
+      final Supplier<MutationInterceptor> interceptors,
+      Collection<String> failingTests) {
+    this(mutationConfig, testPrioritiser, source, interceptors, failingTests,
+        Collections.emptyMap());
+  }
+
+  /**
+   * Mutations for classes in prescanned are taken from there rather than found
+   * again, and are passed only through the supplied interceptors. These should
+   * be the interceptors that were left out of the scan that produced them.
+   */
+  public MutationSource(final MutationConfig mutationConfig,
+      final TestPrioritiser testPrioritiser,
+      final ClassByteArraySource source,
+      final Supplier<MutationInterceptor> interceptors,
+      Collection<String> failingTests,
+      Map<ClassName, Collection<MutationDetails>> prescanned) {
     this.mutationConfig = mutationConfig;
     this.testPrioritiser = testPrioritiser;
     this.source = source;
-    this.interceptor = interceptor;
-    this.failingTests = failingTests;
+    this.interceptors = ThreadLocal.withInitial(interceptors);
+    // create one up front so that misconfiguration is reported immediately
+    this.interceptors.get();
+    this.failingTests = new FailingTests(failingTests);
+    this.prescanned = prescanned;
   }
 
   public Collection<MutationDetails> createMutations(final ClassName clazz) {
 
     final Mutater m = this.mutationConfig.createMutator(this.source);
 
-    final Collection<MutationDetails> availableMutations = m
-        .findMutations(clazz);
+    final Collection<MutationDetails> availableMutations = this.prescanned
+        .containsKey(clazz) ? this.prescanned.get(clazz) : m.findMutations(clazz);
 
     if (availableMutations.isEmpty()) {
       return availableMutations;
@@ -71,10 +105,11 @@ public class MutationSource {
       final ClassTree tree = ClassTree
           .fromBytes(this.source.getBytes(clazz.asJavaName()).get());
 
-      this.interceptor.begin(tree);
-      Collection<MutationDetails> updatedMutations = this.interceptor
+      final MutationInterceptor interceptor = this.interceptors.get();
+      interceptor.begin(tree);
+      Collection<MutationDetails> updatedMutations = interceptor
           .intercept(availableMutations, m);
-      this.interceptor.end();
+      interceptor.end();
 
       boolean hasTests = assignTestsToMutations(updatedMutations);
 
@@ -104,22 +139,13 @@ public class MutationSource {
   }
 
   private Collection<MutationDetails> selectMutationsCoveredByFailingTests(Collection<MutationDetails> mutations) {
-    if (failingTests == null || failingTests.size() == 0) {
+    if (this.failingTests.isEmpty()) {
       return mutations;
     }
     Collection<MutationDetails> filteredMutations = new ArrayList<>();
     for (MutationDetails mutation : mutations) {
-      //format of test name: testClassName.testMethodName
-      List<String> testsInOrder = mutation.getTestsInOrder().stream().map(ti -> ti.getName().substring(0, ti.getName().indexOf("("))).collect(Collectors.toList());
-      // if (mutation.getLineNumber() == 191) {
-      //   LOG.info(testsInOrder.toString());
-      // }
-      for (String failingTest : failingTests) {
-        if (testsInOrder.contains(failingTest)) {
-          // LOG.info(mutation.getClassLine().toString());
-          filteredMutations.add(mutation);
-          break;
-        }
+      if (this.failingTests.containsAny(mutation.getTestsInOrder())) {
+        filteredMutations.add(mutation);
       }
     }
 
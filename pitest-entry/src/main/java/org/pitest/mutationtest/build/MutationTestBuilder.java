@@ -22,12 +22,19 @@ import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationAnalyser;
 import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.util.Unchecked;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -40,23 +47,38 @@ public class MutationTestBuilder {
   private final MutationAnalyser analyser;
   private final WorkerFactory    workerFactory;
   private final MutationGrouper  grouper;
+  private final int              threads;
 
   public MutationTestBuilder(final WorkerFactory workerFactory,
                              final MutationAnalyser analyser,
                              final MutationSource mutationSource,
                              final MutationGrouper grouper) {
+    this(workerFactory, analyser, mutationSource, grouper, 1);
+  }
+
+  /**
+   * Mutants are discovered for several classes at once when more than one
+   * thread is given. The source must then be able to create mutations on
+   * several threads.
+   */
+  public MutationTestBuilder(final WorkerFactory workerFactory,
+                             final MutationAnalyser analyser,
+                             final MutationSource mutationSource,
+                             final MutationGrouper grouper,
+                             final int threads) {
 
     this.mutationSource = mutationSource;
     this.analyser = analyser;
     this.workerFactory = workerFactory;
     this.grouper = grouper;
+    this.threads = threads;
   }
 
   public List<MutationAnalysisUnit> createMutationTestUnits(
       final Collection<ClassName> codeClasses) {
     final List<MutationAnalysisUnit> tus = new ArrayList<>();
 
-    final List<MutationDetails> mutations = FCollection.flatMap(codeClasses, mutationSource::createMutations);
+    final List<MutationDetails> mutations = findMutations(codeClasses);
 
     mutations.sort(comparing(MutationDetails::getId));
 
@@ -87,6 +109,60 @@ public class MutationTestBuilder {
   }
 
 
+  /**
+   * Mutations for the classes, after interception but before any grouping or
+   * analysis of history.
+   */
+  public List<MutationDetails> findMutations(
+      final Collection<ClassName> codeClasses) {
+    if (this.threads <= 1 || codeClasses.size() <= 1) {
+      return FCollection.flatMap(codeClasses, this.mutationSource::createMutations);
+    }
+
+    final List<Callable<Collection<MutationDetails>>> tasks = new ArrayList<>();
+    for (final ClassName each : codeClasses) {
+      tasks.add(() -> this.mutationSource.createMutations(each));
+    }
+
+    final ForkJoinPool pool = new ForkJoinPool(this.threads,
+        workersLoadingFrom(Thread.currentThread().getContextClassLoader()),
+        null, false);
+    try {
+      // futures are returned in task order, so the result does not depend
+      // on which class finishes first
+      final List<MutationDetails> mutations = new ArrayList<>();
+      for (final Future<Collection<MutationDetails>> each : pool.invokeAll(tasks)) {
+        mutations.addAll(each.get());
+      }
+      return mutations;
+    } catch (final ExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      }
+      throw Unchecked.translateCheckedException(ex.getCause());
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw Unchecked.translateCheckedException(ex);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Common pool workers use the system class loader on JDK 9+, so plugins
+   * loaded elsewhere would not be visible from them. Workers instead take
+   * the class loader of the thread that discovers the mutations.
+   */
+  private static ForkJoinWorkerThreadFactory workersLoadingFrom(
+      final ClassLoader loader) {
+    return pool -> {
+      final ForkJoinWorkerThread worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory
+          .newThread(pool);
+      worker.setContextClassLoader(loader);
+      return worker;
+    };
+  }
+
   private MutationAnalysisUnit makePreAnalysedUnit(
       final List<MutationResult> analysed) {
     return new KnownStatusMutationTestUnit(analysed);
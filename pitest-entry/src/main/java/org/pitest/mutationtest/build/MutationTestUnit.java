@@ -17,6 +17,9 @@ package org.pitest.mutationtest.build;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import org.pitest.classinfo.ClassName;
@@ -63,9 +66,14 @@ public class MutationTestUnit implements MutationAnalysisUnit {
     return reportResults(mutations);
   }
 
+  /**
+   * Estimated cost of the unit, so that the most expensive units start first
+   * and do not end up running alone at the tail of the analysis.
+   */
   @Override
   public int priority() {
-    return this.availableMutations.size();
+    return (int) Math.min(Integer.MAX_VALUE - 1,
+        MutationCost.estimate(this.availableMutations));
   }
 
   private void runTestsInSeperateProcess(final MutationStatusMap mutations)
@@ -101,33 +109,89 @@ public class MutationTestUnit implements MutationAnalysisUnit {
 
       LOG.info("Rerunning " + crashedRuns.size() + " mutant(s) beacuse of minion crash");
       for (MutationDetails d : crashedRuns) {
-        MutationStatusTestPair result = null;
-        for (TestInfo t : d.getTestsInOrder()) {
-          MutationDetails singleTest = new MutationDetails(new MutationIdentifier(d.getId().getLocation(),
-            d.getId().getIndexes(), d.getMutator()), d.getFilename(), d.getDescription(),
-            d.getLineNumber(), d.getBlocks().get(0));
-          singleTest.addTestsInOrder(Collections.singleton(t));
-          worker = this.workerFactory.createWorker(Collections.singleton(singleTest), this.testClasses);
-          worker.start();
-          exitCode = waitForMinionToDie(worker);
-          MutationStatusTestPair r = worker.result(singleTest);
-
-          if (exitCode != ExitCode.OK) {
-            r.setErrorStatusAndName(DetectionStatus.getForErrorExitCode(exitCode), t.getName());
-          }
-
-          if (result == null) {
-            result = r;
-          } else {
-            result.accumulate(r, t.getName());
-          }
-        }
+        mutations.setStatusForMutation(d,
+            isolateCrashes(d, worker.result(d), exitCode));
+      }
+    }
+  }
 
-        if (result != null) {
-          mutations.setStatusForMutation(d, result);
+  /**
+   * Finds the tests that crash or time out against a mutant that brought a
+   * minion down. When building the full matrix minions report their progress
+   * after each test, so the test that was running is the first after the last
+   * one reported. That test is blamed and a new minion runs only the tests
+   * after it, so each crashing test costs a single launch.
+   */
+  private MutationStatusTestPair isolateCrashes(final MutationDetails mutant,
+      final MutationStatusTestPair firstProgress, final ExitCode firstExit)
+      throws IOException, InterruptedException {
+    final MutationStatusTestPair result = MutationStatusTestPair.notAnalysed(0,
+        DetectionStatus.STARTED);
+    List<TestInfo> tests = mutant.getTestsInOrder();
+    MutationStatusTestPair progress = firstProgress;
+    ExitCode exitCode = firstExit;
+    while (true) {
+      if (exitCode.isOk()) {
+        if (progress != null) {
+          result.merge(progress);
         }
+        return result;
+      }
+
+      final int crashed = firstUnfinished(tests, progress);
+      if (crashed != 0) {
+        result.merge(progress);
+      }
+      if (crashed == tests.size()) {
+        return result;
       }
+      final MutationStatusTestPair crash = MutationStatusTestPair.notAnalysed(1,
+          DetectionStatus.STARTED);
+      crash.setErrorStatusAndName(DetectionStatus.getForErrorExitCode(exitCode),
+          tests.get(crashed).getName());
+      result.merge(crash);
+
+      tests = tests.subList(crashed + 1, tests.size());
+      if (tests.isEmpty()) {
+        return result;
+      }
+      final MutationDetails batch = withTests(mutant, tests);
+      final MutationTestProcess worker = this.workerFactory.createWorker(
+          Collections.singleton(batch), this.testClasses);
+      worker.start();
+      exitCode = waitForMinionToDie(worker);
+      progress = worker.result(batch);
+    }
+  }
+
+  /**
+   * Position of the first test after the last one the minion reported
+   * finishing
+   */
+  private static int firstUnfinished(final List<TestInfo> tests,
+      final MutationStatusTestPair progress) {
+    if (progress == null) {
+      return 0;
     }
+    final Set<String> finished = new HashSet<>(progress.getKillingTests());
+    finished.addAll(progress.getSucceedingTests());
+    int next = 0;
+    for (int i = 0; i != tests.size(); i++) {
+      if (finished.contains(tests.get(i).getName())) {
+        next = i + 1;
+      }
+    }
+    return next;
+  }
+
+  private static MutationDetails withTests(final MutationDetails mutant,
+      final List<TestInfo> tests) {
+    final MutationDetails copy = new MutationDetails(new MutationIdentifier(
+        mutant.getId().getLocation(), mutant.getId().getIndexes(),
+        mutant.getMutator()), mutant.getFilename(), mutant.getDescription(),
+        mutant.getLineNumber(), mutant.getBlocks().get(0));
+    copy.addTestsInOrder(tests);
+    return copy;
   }
 
   private static ExitCode waitForMinionToDie(final MutationTestProcess worker) {
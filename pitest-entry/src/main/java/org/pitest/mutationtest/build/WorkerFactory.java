@@ -7,7 +7,9 @@ import org.pitest.mutationtest.MutationConfig;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
 import org.pitest.mutationtest.config.TestPluginArguments;
 import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.execute.ForkedMutationTestProcess;
 import org.pitest.mutationtest.execute.MinionArguments;
+import org.pitest.mutationtest.execute.MinionPool;
 import org.pitest.mutationtest.execute.MutationTestProcess;
 import org.pitest.process.ProcessArgs;
 import org.pitest.util.Log;
@@ -30,6 +32,7 @@ public class WorkerFactory {
   private final boolean               fullMutationMatrix;
   private final MutationConfig        config;
   private final EngineArguments       args;
+  private final MinionPool            minionPool;
 
   public WorkerFactory(final File baseDir,
       final TestPluginArguments pitConfig,
@@ -39,6 +42,19 @@ public class WorkerFactory {
       final Verbosity verbosity,
       final boolean fullMutationMatrix,
       final String classPath) {
+    this(baseDir, pitConfig, mutationConfig, args, timeoutStrategy, verbosity,
+        fullMutationMatrix, classPath, MinionPool.disabled());
+  }
+
+  public WorkerFactory(final File baseDir,
+      final TestPluginArguments pitConfig,
+      final MutationConfig mutationConfig,
+      final EngineArguments args,
+      final TimeoutLengthStrategy timeoutStrategy,
+      final Verbosity verbosity,
+      final boolean fullMutationMatrix,
+      final String classPath,
+      final MinionPool minionPool) {
     this.pitConfig = pitConfig;
     this.timeoutStrategy = timeoutStrategy;
     this.verbosity = verbosity;
@@ -47,6 +63,7 @@ public class WorkerFactory {
     this.baseDir = baseDir;
     this.config = mutationConfig;
     this.args = args;
+    this.minionPool = minionPool;
   }
 
   public MutationTestProcess createWorker(
@@ -54,16 +71,23 @@ public class WorkerFactory {
       final Collection<ClassName> testClasses) {
     final MinionArguments fileArgs = new MinionArguments(remainingMutations,
         testClasses, this.config.getEngine().getName(), this.args, this.timeoutStrategy,
-        Log.verbosity(), this.fullMutationMatrix, this.pitConfig);
+        Log.verbosity(), this.fullMutationMatrix, this.pitConfig,
+        this.minionPool.isEnabled());
+
+    final SocketFinder sf = new SocketFinder();
+    if (this.minionPool.isEnabled()) {
+      return this.minionPool.createWorker(sf, processArgs(), fileArgs);
+    }
 
-    final ProcessArgs args = ProcessArgs.withClassPath(this.classPath)
+    return new ForkedMutationTestProcess(
+        sf.getNextAvailableServerSocket(), processArgs(), fileArgs);
+  }
+
+  private ProcessArgs processArgs() {
+    return ProcessArgs.withClassPath(this.classPath)
         .andLaunchOptions(this.config.getLaunchOptions())
         .andBaseDir(this.baseDir).andStdout(captureStdOutIfVerbose())
         .andStderr(captureStdErrIfVerbose());
-
-    final SocketFinder sf = new SocketFinder();
-    return new MutationTestProcess(
-        sf.getNextAvailableServerSocket(), args, fileArgs);
   }
 
   private Consumer<String> captureStdOutIfVerbose() {
@@ -254,7 +254,37 @@ public enum ConfigOption {
   /**
    * Original failing tests 
    */
-  FAILING_TESTS("failingTests");
+  FAILING_TESTS("failingTests"),
+
+  /**
+   * Maximum number of analysis units a mutation test minion may run before
+   * it is replaced. The default of 1 launches a new JVM for every unit, higher
+   * values keep a pool of warm minions. Minions that mutated a class writing
+   * static fields are replaced, but static state changed through other
+   * classes may carry over between units.
+   */
+  MAX_UNITS_PER_MINION("maxUnitsPerMinion", 1),
+
+  /**
+   * Number of minion processes to split the test classes across when
+   * gathering coverage
+   */
+  COVERAGE_MINIONS("coverageMinions", 1),
+
+  /**
+   * Whether to gzip the xml and csv reports.
+   */
+  COMPRESS_REPORTS("compressReports", false),
+
+  /**
+   * Run coverage for the failing tests first and limit the rest of the analysis to the code they reach
+   */
+  NARROW_TO_FAILING_TESTS("narrowToFailingTests", false),
+
+  /**
+   * Share a class data archive recorded during coverage with the minions
+   */
+  USE_CLASS_DATA_SHARING("useClassDataSharing", false);
 
   private final String       text;
   private final Serializable defaultValue;
@@ -16,9 +16,15 @@ package org.pitest.mutationtest.config;
 
 import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
 
 import org.pitest.util.ResultOutputStrategy;
 import org.pitest.util.Unchecked;
@@ -35,20 +41,48 @@ public class DirectoryResultOutputStrategy implements ResultOutputStrategy {
   @Override
   public Writer createWriterForFile(final String file) {
     try {
-      final int fileSepIndex = file.lastIndexOf(File.separatorChar);
-      if (fileSepIndex > 0) {
-        final String directory = this.reportDir.getAbsolutePath()
-            + File.separatorChar + file.substring(0, fileSepIndex);
-        final File directoryFile = new File(directory);
-        if (!directoryFile.exists()) {
-          directoryFile.mkdirs();
-        }
-      }
-      return new BufferedWriter(new FileWriter(this.reportDir.getAbsolutePath()
-          + File.separatorChar + file));
+      return new BufferedWriter(new FileWriter(createFile(file)));
     } catch (final IOException ex) {
       throw Unchecked.translateCheckedException(ex);
     }
   }
 
+  @Override
+  public Writer createCompressedWriterForFile(final String file) {
+    try {
+      return new BufferedWriter(new OutputStreamWriter(new GZIPOutputStream(
+          createFileOutputStream(file), 1 << 16), StandardCharsets.UTF_8));
+    } catch (final IOException ex) {
+      throw Unchecked.translateCheckedException(ex);
+    }
+  }
+
+  @Override
+  public Optional<OutputStream> createOutputStreamForFile(final String file) {
+    try {
+      return Optional.of(createFileOutputStream(file));
+    } catch (final IOException ex) {
+      throw Unchecked.translateCheckedException(ex);
+    }
+  }
+
+  private OutputStream createFileOutputStream(final String file)
+      throws IOException {
+    return new FileOutputStream(createFile(file));
+  }
+
+  private File createFile(final String file) {
+    final int fileSepIndex = file.lastIndexOf(File.separatorChar);
+    if (fileSepIndex > 0) {
+      final String directory = this.reportDir.getAbsolutePath()
+          + File.separatorChar + file.substring(0, fileSepIndex);
+      final File directoryFile = new File(directory);
+      if (!directoryFile.exists()) {
+        directoryFile.mkdirs();
+      }
+    }
+    return new File(this.reportDir.getAbsolutePath() + File.separatorChar
+        + file);
+  }
+
 }
\ No newline at end of file
@@ -24,22 +24,14 @@ import org.pitest.functional.prelude.Prelude;
 import org.pitest.help.Help;
 import org.pitest.help.PitHelpError;
 import org.pitest.mutationtest.build.PercentAndConstantTimeoutStrategy;
-import org.pitest.mutationtest.incremental.FileWriterFactory;
-import org.pitest.mutationtest.incremental.WriterFactory;
 import org.pitest.testapi.TestGroupConfig;
 import org.pitest.testapi.execute.Pitest;
 import org.pitest.util.Glob;
 import org.pitest.util.ResultOutputStrategy;
-import org.pitest.util.Unchecked;
 import org.pitest.util.Verbosity;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.Reader;
 import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -47,7 +39,6 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
 import java.util.Properties;
 import java.util.StringJoiner;
 import java.util.function.Predicate;
@@ -147,6 +138,11 @@ public class ReportOptions {
   private Charset inputEncoding;
   private Charset outputEncoding;
   private Collection<String>             failingTests;
+  private int                            maxUnitsPerMinion              = 1;
+  private int                            coverageMinions                = 1;
+  private boolean                        compressReports                = false;
+  private boolean                        narrowToFailingTests           = false;
+  private boolean                        useClassDataSharing            = false;
 
 
   public Verbosity getVerbosity() {
@@ -477,31 +473,6 @@ public class ReportOptions {
     this.detectInlinedCode = b;
   }
 
-  public Optional<WriterFactory> createHistoryWriter() {
-    if (this.historyOutputLocation == null) {
-      return Optional.empty();
-    }
-
-    return Optional.of(new FileWriterFactory(this.historyOutputLocation));
-  }
-
-  public Optional<Reader> createHistoryReader() {
-    if (this.historyInputLocation == null) {
-      return Optional.empty();
-    }
-
-    try {
-      if (this.historyInputLocation.exists()
-          && (this.historyInputLocation.length() > 0)) {
-        return Optional.ofNullable(new InputStreamReader(new FileInputStream(
-            this.historyInputLocation), StandardCharsets.UTF_8));
-      }
-      return Optional.empty();
-    } catch (final IOException ex) {
-      throw Unchecked.translateCheckedException(ex);
-    }
-  }
-
   public void setHistoryInputLocation(final File historyInputLocation) {
     this.historyInputLocation = historyInputLocation;
   }
@@ -656,6 +627,46 @@ public class ReportOptions {
   }
 
 
+  public int getMaxUnitsPerMinion() {
+    return this.maxUnitsPerMinion;
+  }
+
+  public void setMaxUnitsPerMinion(final int maxUnitsPerMinion) {
+    this.maxUnitsPerMinion = maxUnitsPerMinion;
+  }
+
+  public int getCoverageMinions() {
+    return this.coverageMinions;
+  }
+
+  public void setCoverageMinions(final int coverageMinions) {
+    this.coverageMinions = coverageMinions;
+  }
+
+  public boolean isCompressReports() {
+    return this.compressReports;
+  }
+
+  public void setCompressReports(final boolean compressReports) {
+    this.compressReports = compressReports;
+  }
+
+  public boolean isNarrowToFailingTests() {
+    return this.narrowToFailingTests;
+  }
+
+  public void setNarrowToFailingTests(final boolean narrowToFailingTests) {
+    this.narrowToFailingTests = narrowToFailingTests;
+  }
+
+  public boolean isUseClassDataSharing() {
+    return this.useClassDataSharing;
+  }
+
+  public void setUseClassDataSharing(final boolean useClassDataSharing) {
+    this.useClassDataSharing = useClassDataSharing;
+  }
+
   @Override
   public String toString() {
     return new StringJoiner(", ", ReportOptions.class.getSimpleName() + "[", "]")
@@ -704,6 +715,11 @@ public class ReportOptions {
             .add("inputEncoding=" + inputEncoding)
             .add("outputEncoding=" + outputEncoding)
             .add("failingTests=" + failingTests)
+            .add("maxUnitsPerMinion=" + maxUnitsPerMinion)
+            .add("coverageMinions=" + coverageMinions)
+            .add("compressReports=" + compressReports)
+            .add("narrowToFailingTests=" + narrowToFailingTests)
+            .add("useClassDataSharing=" + useClassDataSharing)
             .toString();
   }
 
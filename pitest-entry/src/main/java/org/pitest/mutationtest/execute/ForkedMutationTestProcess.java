@@ -0,0 +1,70 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.HashMap;
+import java.util.Optional;
+
+import org.pitest.mutationtest.MutationStatusMap;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.process.ProcessArgs;
+import org.pitest.process.WrappingProcess;
+import org.pitest.util.ExitCode;
+
+/**
+ * Runs a single unit of mutation analysis in a newly launched minion that exits
+ * once the unit is complete.
+ */
+public class ForkedMutationTestProcess implements MutationTestProcess {
+
+  private final WrappingProcess                 process;
+  private final MutationTestCommunicationThread thread;
+
+  public ForkedMutationTestProcess(final ServerSocket socket,
+      final ProcessArgs processArgs, final MinionArguments arguments) {
+    this.process = new WrappingProcess(socket.getLocalPort(), processArgs,
+        MutationTestMinion.class);
+    this.thread = new MutationTestCommunicationThread(socket, arguments,
+            new HashMap<>());
+
+  }
+
+  @Override
+  public void start() throws IOException, InterruptedException {
+    this.thread.start();
+    this.process.start();
+  }
+
+  @Override
+  public void results(final MutationStatusMap allmutations) throws IOException {
+
+    for (final MutationDetails each : allmutations.allMutations()) {
+      final MutationStatusTestPair status = this.thread.getStatus(each.getId());
+      if (status != null) {
+        allmutations.setStatusForMutation(each, status);
+      }
+    }
+
+  }
+
+  @Override
+  public MutationStatusTestPair result(MutationDetails mutant) {
+    return this.thread.getStatus(mutant.getId());
+  }
+
+  @Override
+  public ExitCode waitToDie() {
+    try {
+      Optional<ExitCode> maybeExit = this.thread.waitToFinish(5);
+      while (!maybeExit.isPresent() && this.process.isAlive()) {
+        maybeExit = this.thread.waitToFinish(10);
+      }
+      return maybeExit.orElse(ExitCode.MINION_DIED);
+    } finally {
+      this.process.destroy();
+    }
+
+  }
+
+}
@@ -0,0 +1,80 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+
+import org.pitest.process.ProcessArgs;
+import org.pitest.util.ExitCode;
+import org.pitest.util.SocketFinder;
+
+/**
+ * Keeps mutation test minions alive between units, so that launching a JVM,
+ * installing the agent, discovering tests and warming up the JIT is paid
+ * for once per minion rather than once per unit.
+ *
+ * A minion is replaced after analysing the configured number of units, when
+ * it reports that too much of its heap is retained, or as soon as a unit ends
+ * with anything other than a clean exit.
+ */
+public class MinionPool implements Closeable {
+
+  private final int                maxUnitsPerMinion;
+  private final Deque<PooledMinion> idle = new ArrayDeque<>();
+  private boolean                  closed;
+
+  public MinionPool(final int maxUnitsPerMinion) {
+    this.maxUnitsPerMinion = maxUnitsPerMinion;
+  }
+
+  /**
+   * A pool that never reuses a minion, so each unit is run in a fresh process
+   */
+  public static MinionPool disabled() {
+    return new MinionPool(1);
+  }
+
+  public boolean isEnabled() {
+    return this.maxUnitsPerMinion > 1;
+  }
+
+  /**
+   * Creates a process to analyse a unit on an idle minion, launching a new
+   * minion only when none is available.
+   */
+  public MutationTestProcess createWorker(final SocketFinder sockets,
+      final ProcessArgs processArgs, final MinionArguments arguments) {
+    final PooledMinion minion = borrow().orElseGet(
+        () -> new PooledMinion(sockets.getNextAvailableServerSocket(), processArgs));
+    return new PooledMutationTestProcess(this, minion, arguments);
+  }
+
+  private synchronized Optional<PooledMinion> borrow() {
+    while (!this.idle.isEmpty()) {
+      final PooledMinion minion = this.idle.pop();
+      if (minion.isAlive()) {
+        return Optional.of(minion);
+      }
+      minion.shutdown();
+    }
+    return Optional.empty();
+  }
+
+  synchronized void release(final PooledMinion minion, final ExitCode exitCode) {
+    if (!this.closed && exitCode.isOk()
+        && minion.canAcceptMoreWork(this.maxUnitsPerMinion)) {
+      this.idle.push(minion);
+    } else {
+      minion.shutdown();
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    this.closed = true;
+    this.idle.forEach(PooledMinion::shutdown);
+    this.idle.clear();
+  }
+
+}
@@ -1,10 +1,10 @@
 package org.pitest.mutationtest.execute;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -39,29 +39,33 @@ public class MutationAnalysisExecutor {
 
     signalRunStartToAllListeners();
 
-    final List<Future<MutationMetaData>> results = new ArrayList<>(
-        testUnits.size());
+    final CompletionService<MutationMetaData> results = new ExecutorCompletionService<>(
+        this.executor);
 
     for (final MutationAnalysisUnit unit : testUnits) {
-      results.add(this.executor.submit(unit));
+      results.submit(unit);
     }
 
     this.executor.shutdown();
 
+    // results are handed to listeners in the order units finish, on the
+    // calling thread so listeners need not be thread safe
     try {
-      processResult(results);
-    } catch (final InterruptedException | ExecutionException e) {
+      processResults(results, testUnits.size());
+    } catch (final InterruptedException e) {
       throw Unchecked.translateCheckedException(e);
+    } catch (final ExecutionException e) {
+      throw rethrow(e.getCause());
     }
 
     signalRunEndToAllListeners();
 
   }
 
-  private void processResult(List<Future<MutationMetaData>> results)
-      throws InterruptedException, ExecutionException {
-    for (final Future<MutationMetaData> f : results) {
-      final MutationMetaData r = f.get();
+  private void processResults(CompletionService<MutationMetaData> results,
+      int expected) throws InterruptedException, ExecutionException {
+    for (int i = 0; i != expected; i++) {
+      final MutationMetaData r = results.take().get();
       for (final MutationResultListener l : this.listeners) {
         for (final ClassMutationResults cr : r.toClassResults()) {
           l.handleMutationResult(cr);
@@ -70,6 +74,16 @@ public class MutationAnalysisExecutor {
     }
   }
 
+  private static RuntimeException rethrow(Throwable t) {
+    if (t instanceof RuntimeException) {
+      return (RuntimeException) t;
+    }
+    if (t instanceof Error) {
+      throw (Error) t;
+    }
+    return Unchecked.translateCheckedException(t);
+  }
+
   private void signalRunStartToAllListeners() {
     this.listeners.forEach(MutationResultListener::runStart);
   }
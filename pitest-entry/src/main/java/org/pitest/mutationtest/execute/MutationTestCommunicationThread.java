@@ -15,6 +15,7 @@
 package org.pitest.mutationtest.execute;
 
 import java.net.ServerSocket;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Consumer;
 import java.util.logging.Logger;
@@ -47,9 +48,10 @@ public class MutationTestCommunicationThread extends CommunicationThread {
     }
   }
 
-  private static class Receive implements ReceiveStrategy {
+  static class Receive implements ReceiveStrategy {
 
     private final Map<MutationIdentifier, MutationStatusTestPair> idMap;
+    private final Map<MutationIdentifier, MutationStatusTestPair> progress = new HashMap<>();
 
     Receive(final Map<MutationIdentifier, MutationStatusTestPair> idMap) {
       this.idMap = idMap;
@@ -64,6 +66,9 @@ public class MutationTestCommunicationThread extends CommunicationThread {
       case Id.REPORT:
         handleReport(is);
         break;
+      case Id.PROGRESS:
+        handleProgress(is);
+        break;
       }
     }
 
@@ -72,9 +77,23 @@ public class MutationTestCommunicationThread extends CommunicationThread {
       final MutationStatusTestPair value = is
           .read(MutationStatusTestPair.class);
       this.idMap.put(mutation, value);
+      this.progress.remove(mutation);
       LOG.fine(mutation + " " + value);
     }
 
+    // the tests finished so far replace the placeholder from the describe,
+    // and stay STARTED so an unfinished mutant is still seen as one
+    private void handleProgress(final SafeDataInputStream is) {
+      final MutationIdentifier mutation = is.read(MutationIdentifier.class);
+      final String test = is.readString();
+      final boolean killed = is.readBoolean();
+      final MutationStatusTestPair finished = this.progress.computeIfAbsent(
+          mutation, m -> MutationStatusTestPair.notAnalysed(0,
+              DetectionStatus.STARTED));
+      finished.testFinished(test, killed);
+      this.idMap.put(mutation, finished);
+    }
+
     private void handleDescribe(final SafeDataInputStream is) {
       final MutationIdentifier mutation = is.read(MutationIdentifier.class);
       this.idMap.put(mutation, MutationStatusTestPair.notAnalysed(1,
@@ -0,0 +1,130 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.pitest.process.ProcessArgs;
+import org.pitest.process.WrappingProcess;
+import org.pitest.util.ExitCode;
+import org.pitest.util.Id;
+import org.pitest.util.Log;
+import org.pitest.util.ReceiveStrategy;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+
+/**
+ * A long lived mutation test minion that analyses one unit after another over
+ * a single socket connection.
+ *
+ * The first unit is sent exactly as it would be to a single use minion. Each
+ * later unit is preceded by a flag so the minion can tell new work apart from a
+ * request to shut down.
+ */
+class PooledMinion {
+
+  private static final Logger   LOG = Log.getLogger();
+
+  private final ServerSocket    serverSocket;
+  private final WrappingProcess process;
+  private final ExecutorService communication;
+
+  private Socket                socket;
+  private SafeDataInputStream   is;
+  private SafeDataOutputStream  os;
+
+  private int                   unitsRun;
+  private volatile boolean      recycleRequested;
+
+  PooledMinion(final ServerSocket serverSocket, final ProcessArgs processArgs) {
+    this.serverSocket = serverSocket;
+    this.process = new WrappingProcess(serverSocket.getLocalPort(), processArgs,
+        MutationTestMinion.class);
+    this.communication = Executors.newSingleThreadExecutor(r -> {
+      final Thread thread = new Thread(r);
+      thread.setDaemon(true);
+      thread.setName("pit pooled communication");
+      return thread;
+    });
+  }
+
+  Future<ExitCode> analyse(final MinionArguments arguments,
+      final ReceiveStrategy receive) throws IOException {
+    if (this.unitsRun == 0) {
+      this.process.start();
+    }
+    this.unitsRun++;
+    return this.communication.submit(() -> exchange(arguments, receive));
+  }
+
+  boolean isAlive() {
+    return this.unitsRun == 0 || this.process.isAlive();
+  }
+
+  boolean canAcceptMoreWork(final int maxUnits) {
+    return !this.recycleRequested && this.unitsRun < maxUnits && isAlive();
+  }
+
+  void shutdown() {
+    if (this.os != null) {
+      try {
+        this.os.writeBoolean(false);
+        this.os.flush();
+      } catch (final RuntimeException e) {
+        LOG.log(Level.FINE, "Pooled minion had already gone away", e);
+      }
+    }
+    this.communication.shutdownNow();
+    safelyClose();
+    if (this.unitsRun != 0) {
+      this.process.destroy();
+    }
+  }
+
+  private ExitCode exchange(final MinionArguments arguments,
+      final ReceiveStrategy receive) throws IOException {
+    if (this.socket == null) {
+      connect();
+    } else {
+      this.os.writeBoolean(true);
+    }
+    this.os.write(arguments);
+    this.os.flush();
+
+    byte control = this.is.readByte();
+    while (control != Id.DONE) {
+      if (control == Id.RECYCLE) {
+        this.recycleRequested = true;
+      } else {
+        receive.apply(control, this.is);
+      }
+      control = this.is.readByte();
+    }
+    return ExitCode.fromCode(this.is.readInt());
+  }
+
+  private void connect() throws IOException {
+    this.socket = this.serverSocket.accept();
+    this.is = new SafeDataInputStream(new BufferedInputStream(
+        this.socket.getInputStream()));
+    this.os = new SafeDataOutputStream(this.socket.getOutputStream());
+  }
+
+  private void safelyClose() {
+    try {
+      if (this.socket != null) {
+        this.socket.close();
+      }
+      this.serverSocket.close();
+    } catch (final IOException e) {
+      LOG.log(Level.WARNING, "Couldn't close socket", e);
+    }
+  }
+
+}
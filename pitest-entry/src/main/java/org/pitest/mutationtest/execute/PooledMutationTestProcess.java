@@ -0,0 +1,92 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.pitest.mutationtest.MutationStatusMap;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.ExitCode;
+import org.pitest.util.Log;
+
+/**
+ * Runs a single unit of mutation analysis on a minion borrowed from a
+ * {@link MinionPool}. The minion is handed back to the pool when the unit ends.
+ */
+public class PooledMutationTestProcess implements MutationTestProcess {
+
+  private static final Logger                                   LOG   = Log.getLogger();
+
+  private final MinionPool                                      pool;
+  private final PooledMinion                                    minion;
+  private final MinionArguments                                 arguments;
+  private final Map<MutationIdentifier, MutationStatusTestPair> idMap = new ConcurrentHashMap<>();
+  private Future<ExitCode>                                      future;
+
+  PooledMutationTestProcess(final MinionPool pool, final PooledMinion minion,
+      final MinionArguments arguments) {
+    this.pool = pool;
+    this.minion = minion;
+    this.arguments = arguments;
+  }
+
+  @Override
+  public void start() throws IOException {
+    this.future = this.minion.analyse(this.arguments,
+        new MutationTestCommunicationThread.Receive(this.idMap));
+  }
+
+  @Override
+  public void results(final MutationStatusMap allmutations) {
+    for (final MutationDetails each : allmutations.allMutations()) {
+      final MutationStatusTestPair status = this.idMap.get(each.getId());
+      if (status != null) {
+        allmutations.setStatusForMutation(each, status);
+      }
+    }
+  }
+
+  @Override
+  public MutationStatusTestPair result(final MutationDetails mutant) {
+    return this.idMap.get(mutant.getId());
+  }
+
+  @Override
+  public ExitCode waitToDie() {
+    ExitCode exitCode = ExitCode.MINION_DIED;
+    try {
+      Optional<ExitCode> maybeExit = waitToFinish(5);
+      while (!maybeExit.isPresent() && this.minion.isAlive()) {
+        maybeExit = waitToFinish(10);
+      }
+      exitCode = maybeExit.orElse(ExitCode.MINION_DIED);
+      return exitCode;
+    } finally {
+      this.pool.release(this.minion, exitCode);
+    }
+  }
+
+  private Optional<ExitCode> waitToFinish(final int pollSeconds) {
+    try {
+      return Optional.of(this.future.get(pollSeconds, TimeUnit.SECONDS));
+    } catch (final ExecutionException e) {
+      LOG.log(Level.WARNING, "Error while watching child process", e);
+      return Optional.of(ExitCode.UNKNOWN_ERROR);
+    } catch (final InterruptedException e) {
+      LOG.log(Level.WARNING, "interrupted while waiting for child process", e);
+      return Optional.of(ExitCode.UNKNOWN_ERROR);
+    } catch (final TimeoutException e) {
+      return Optional.empty();
+    }
+  }
+
+}
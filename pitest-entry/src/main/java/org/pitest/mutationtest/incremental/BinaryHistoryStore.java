@@ -0,0 +1,411 @@
+package org.pitest.mutationtest.incremental;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.coverage.CoverageDatabase;
+import org.pitest.mutationtest.ClassHistory;
+import org.pitest.mutationtest.HistoryStore;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.Log;
+import org.pitest.util.Unchecked;
+
+/**
+ * History store using a compact binary file. Strings such as test and method
+ * names are written once and referred to by id. On close an index of the
+ * classes and of the results for each class is appended, sorted by class name.
+ *
+ * Previous history is memory mapped and only decoded for the classes that are
+ * asked about, see {@link HistoryFile}. Results are buffered and flushed at
+ * most once a second rather than after each mutation. Files written by a run
+ * that did not complete have no index, and are recovered by scanning up to the
+ * first truncated record. Files in the older text format are still read.
+ */
+public class BinaryHistoryStore implements HistoryStore {
+
+  private static final Logger LOG          = Log.getLogger();
+
+  static final int            MAGIC        = 0x50495448; // PITH
+  static final int            END_MAGIC    = 0x48544950;
+  static final byte           VERSION      = 4;
+
+  static final byte           STRING       = 1;
+  static final byte           CLASS        = 2;
+  static final byte           RESULT       = 3;
+  static final byte           INDEX        = 4;
+
+  // tag and length preceding each record
+  static final int            HEADER_SIZE  = 5;
+  // footer offset and end magic
+  static final int            TRAILER_SIZE = 12;
+
+  private static final long   GROUP_COMMIT_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private final File          input;
+  private final File          output;
+
+  private HistoryFile         previous;
+  private HistoryStore        legacy;
+
+  private final Map<String, Integer>  stringIds = new HashMap<>();
+  private final List<String>          strings   = new ArrayList<>();
+  private final HistoryIndex          index     = new HistoryIndex();
+  private final ByteArrayOutputStream record    = new ByteArrayOutputStream();
+  private File                        target;
+  private DataOutputStream            out;
+  private long                        position;
+  private long                        lastFlush;
+
+  public BinaryHistoryStore(final File input, final File output) {
+    this.input = input;
+    this.output = output;
+  }
+
+  @Override
+  public void initialize() {
+    if (this.input == null || !this.input.exists() || this.input.length() == 0) {
+      return;
+    }
+    try {
+      final int version = version(this.input);
+      if (version == VERSION) {
+        // a file that is replaced on close must not be left mapped
+        this.previous = HistoryFile.open(this.input, !replacesInput());
+      } else if (version < 0) {
+        restoreLegacy();
+      } else {
+        LOG.warning("Ignoring history file " + this.input
+            + " written in unsupported format " + version);
+      }
+    } catch (final IOException e) {
+      LOG.warning("Could not read previous history " + e.getMessage());
+    }
+  }
+
+  @Override
+  public void recordClassPath(final Collection<HierarchicalClassId> ids,
+      final CoverageDatabase coverageInfo) {
+    recordClassPath(ids, coverageInfo, c -> Collections.emptyMap());
+  }
+
+  @Override
+  public synchronized void recordClassPath(final Collection<HierarchicalClassId> ids,
+      final CoverageDatabase coverageInfo,
+      final Function<ClassName, Map<String, Long>> methodHashes) {
+    if (this.output == null) {
+      return;
+    }
+    open();
+    for (final HierarchicalClassId each : ids) {
+      final int name = stringId(each.getName().asJavaName());
+      final int hierarchicalHash = stringId(each.getHierarchicalHash());
+      final int coverageId = stringId(coverageInfo.getCoverageIdForClass(
+          each.getName()).toString(16));
+      final Map<String, Long> methods = methodHashes.apply(each.getName());
+      final Map<Integer, Long> methodIds = new LinkedHashMap<>();
+      for (final Map.Entry<String, Long> method : methods.entrySet()) {
+        methodIds.put(stringId(method.getKey()), method.getValue());
+      }
+
+      final DataOutputStream payload = startRecord();
+      writeVarInt(payload, name);
+      writeLong(payload, each.getId().getHash());
+      writeVarInt(payload, hierarchicalHash);
+      writeVarInt(payload, coverageId);
+      writeVarInt(payload, methodIds.size());
+      for (final Map.Entry<Integer, Long> method : methodIds.entrySet()) {
+        writeVarInt(payload, method.getKey());
+        writeLong(payload, method.getValue());
+      }
+      final long offset = this.position;
+      writeRecord(CLASS);
+      this.index.addClass(name, offset);
+    }
+    commit();
+  }
+
+  @Override
+  public void recordResult(final MutationResult result) {
+    writeResult(result, false, 0);
+  }
+
+  @Override
+  public void recordResult(final MutationResult result,
+      final long coverageFingerprint) {
+    writeResult(result, true, coverageFingerprint);
+  }
+
+  private synchronized void writeResult(final MutationResult result,
+      final boolean hasFingerprint, final long coverageFingerprint) {
+    if (this.output == null) {
+      return;
+    }
+    open();
+    final MutationIdentifier id = result.getDetails().getId();
+    final MutationStatusTestPair status = result.getStatusTestPair();
+    final int className = stringId(id.getClassName().asJavaName());
+    final int method = stringId(id.getLocation().getMethodName());
+    final int desc = stringId(id.getLocation().getMethodDesc());
+    final int mutator = stringId(id.getMutator());
+    final int detection = stringId(status.getStatus().name());
+    final int[][] tests = { stringIds(status.getKillingTests()),
+        stringIds(status.getSucceedingTests()),
+        stringIds(status.getTimeOuttests()),
+        stringIds(status.getRunErrorTests()),
+        stringIds(status.getMemoryErrorTests()) };
+
+    final DataOutputStream payload = startRecord();
+    writeVarInt(payload, className);
+    writeVarInt(payload, method);
+    writeVarInt(payload, desc);
+    writeVarInt(payload, id.getIndexes().size());
+    for (final int each : id.getIndexes()) {
+      writeVarInt(payload, each);
+    }
+    writeVarInt(payload, mutator);
+    writeVarInt(payload, detection);
+    writeVarInt(payload, status.getNumberOfTestsRun());
+    for (final int[] each : tests) {
+      writeVarInt(payload, each.length);
+      for (final int test : each) {
+        writeVarInt(payload, test);
+      }
+    }
+    writeVarInt(payload, hasFingerprint ? 1 : 0);
+    if (hasFingerprint) {
+      writeLong(payload, coverageFingerprint);
+    }
+    final long offset = this.position;
+    this.index.addResult(className, offset, writeRecord(RESULT));
+    commit();
+  }
+
+  @Override
+  public Map<MutationIdentifier, MutationStatusTestPair> getHistoricResults() {
+    if (this.legacy != null) {
+      return this.legacy.getHistoricResults();
+    }
+    if (this.previous != null) {
+      return this.previous.results();
+    }
+    return Collections.emptyMap();
+  }
+
+  @Override
+  public Map<MutationIdentifier, Long> getHistoricCoverageFingerprints() {
+    if (this.previous != null) {
+      return this.previous.fingerprints();
+    }
+    return Collections.emptyMap();
+  }
+
+  @Override
+  public Map<ClassName, ClassHistory> getHistoricClassPath() {
+    if (this.legacy != null) {
+      return this.legacy.getHistoricClassPath();
+    }
+    if (this.previous != null) {
+      return this.previous.classPath();
+    }
+    return Collections.emptyMap();
+  }
+
+  @Override
+  public synchronized void close() {
+    try {
+      if (this.out != null) {
+        writeIndex();
+        this.out.close();
+        this.out = null;
+      }
+      if (this.previous != null) {
+        this.previous.close();
+        this.previous = null;
+      }
+      if (this.target != null && !this.target.equals(this.output)) {
+        Files.move(this.target.toPath(), this.output.toPath(),
+            StandardCopyOption.REPLACE_EXISTING);
+        this.target = null;
+      }
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private void restoreLegacy() throws IOException {
+    try (Reader reader = new InputStreamReader(new FileInputStream(this.input),
+        StandardCharsets.UTF_8)) {
+      this.legacy = new ObjectOutputStreamHistoryStore(new NullWriterFactory(),
+          Optional.of(reader));
+      this.legacy.initialize();
+    }
+  }
+
+  /**
+   * Format version of a binary history file, or -1 if the file is not one
+   */
+  private static int version(File file) throws IOException {
+    if (file.length() < HEADER_SIZE) {
+      return -1;
+    }
+    try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+      if (in.readInt() != MAGIC) {
+        return -1;
+      }
+      return in.readByte();
+    }
+  }
+
+  private void open() {
+    if (this.out != null) {
+      return;
+    }
+    try {
+      this.output.getAbsoluteFile().getParentFile().mkdirs();
+      // previous history is read in place, so it cannot be overwritten until
+      // the run completes
+      if (replacesInput()) {
+        this.target = new File(this.output.getPath() + ".tmp");
+      } else {
+        this.target = this.output;
+      }
+      this.out = new DataOutputStream(new BufferedOutputStream(
+          new FileOutputStream(this.target), 1 << 16));
+      this.out.writeInt(MAGIC);
+      this.out.writeByte(VERSION);
+      this.position = HEADER_SIZE;
+      this.lastFlush = System.nanoTime();
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private boolean replacesInput() {
+    return this.input != null && this.output != null
+        && this.input.getAbsoluteFile().equals(this.output.getAbsoluteFile());
+  }
+
+  private DataOutputStream startRecord() {
+    this.record.reset();
+    return new DataOutputStream(this.record);
+  }
+
+  /**
+   * Writes the record built since startRecord, returning its length
+   * including the header
+   */
+  private int writeRecord(byte tag) {
+    try {
+      this.out.writeByte(tag);
+      this.out.writeInt(this.record.size());
+      this.record.writeTo(this.out);
+      final int length = HEADER_SIZE + this.record.size();
+      this.position = this.position + length;
+      return length;
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  /**
+   * Id of a string, writing it out the first time it is seen. As strings are
+   * written directly, all ids must be taken before a record is started.
+   */
+  private int stringId(String value) {
+    final Integer existing = this.stringIds.get(value);
+    if (existing != null) {
+      return existing;
+    }
+    try {
+      final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+      final int id = this.index.addString(this.position);
+      this.out.writeByte(STRING);
+      this.out.writeInt(bytes.length);
+      this.out.write(bytes);
+      this.position = this.position + HEADER_SIZE + bytes.length;
+      this.stringIds.put(value, id);
+      this.strings.add(value);
+      return id;
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private int[] stringIds(List<String> values) {
+    final int[] ids = new int[values.size()];
+    for (int i = 0; i != ids.length; i++) {
+      ids[i] = stringId(values.get(i));
+    }
+    return ids;
+  }
+
+  private void writeIndex() throws IOException {
+    final long footer = this.position;
+    final byte[] bytes = this.index.build(this.strings::get);
+    this.out.writeByte(INDEX);
+    this.out.writeInt(bytes.length);
+    this.out.write(bytes);
+    this.out.writeLong(footer);
+    this.out.writeInt(END_MAGIC);
+  }
+
+  private void commit() {
+    final long now = System.nanoTime();
+    if (now - this.lastFlush > GROUP_COMMIT_NANOS) {
+      try {
+        this.out.flush();
+      } catch (final IOException e) {
+        throw Unchecked.translateCheckedException(e);
+      }
+      this.lastFlush = now;
+    }
+  }
+
+  private static void writeLong(DataOutputStream out, long value) {
+    try {
+      out.writeLong(value);
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private static void writeVarInt(DataOutputStream out, int value) {
+    try {
+      int remaining = value;
+      while ((remaining & ~0x7F) != 0) {
+        out.writeByte((remaining & 0x7F) | 0x80);
+        remaining >>>= 7;
+      }
+      out.writeByte(remaining);
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+}
@@ -5,6 +5,7 @@ import java.math.BigInteger;
 import org.pitest.classinfo.ClassName;
 import java.util.Optional;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 
 public interface CodeHistory {
@@ -15,4 +16,27 @@ public interface CodeHistory {
 
   boolean hasCoverageChanged(ClassName className, BigInteger currentCoverage);
 
+  /**
+   * True if the method containing the mutation is known to be unchanged
+   * since the last run, even though other parts of its class may have changed.
+   */
+  default boolean isMethodUnchanged(MutationIdentifier id) {
+    return false;
+  }
+
+  /**
+   * Fingerprint of the tests that covered the mutation when it was last
+   * analysed, if one was recorded.
+   */
+  default Optional<Long> getPreviousCoverageFingerprint(MutationIdentifier id) {
+    return Optional.empty();
+  }
+
+  /**
+   * Fingerprint of the tests that now cover the mutation.
+   */
+  default long coverageFingerprint(MutationDetails mutation) {
+    return 0;
+  }
+
 }
@@ -0,0 +1,58 @@
+package org.pitest.mutationtest.incremental;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassInfoSource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * Fingerprint of the tests that cover a mutant, combining the name of each
+ * test assigned to it with the hash of the test's class and that class's
+ * parent and outer class. A surviving mutant need only be run again when its
+ * fingerprint changes.
+ */
+public class CoverageFingerprint {
+
+  private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME  = 0x100000001b3L;
+
+  private final ClassInfoSource        code;
+  private final Map<ClassName, Long>   classHashes = new ConcurrentHashMap<>();
+
+  public CoverageFingerprint(ClassInfoSource code) {
+    this.code = code;
+  }
+
+  public long of(MutationDetails mutation) {
+    // tests are assigned in priority order, which may change with timings
+    final List<TestInfo> tests = new ArrayList<>(mutation.getTestsInOrder());
+    tests.sort(Comparator.comparing(TestInfo::getName));
+
+    long hash = FNV_OFFSET;
+    for (final TestInfo each : tests) {
+      hash = mix(hash, each.getName().hashCode());
+      hash = mix(hash, each.getName().length());
+      hash = mix(hash, classHash(TestInfo.toDefiningClassName().apply(each)));
+    }
+    return hash;
+  }
+
+  private long classHash(ClassName clazz) {
+    return this.classHashes.computeIfAbsent(clazz,
+        c -> this.code.fetchClass(c).map(ClassInfo::getDeepHash)
+            .map(BigInteger::longValue).orElse(-1L));
+  }
+
+  private static long mix(long hash, long value) {
+    return (hash ^ value) * FNV_PRIME;
+  }
+
+}
@@ -1,8 +1,11 @@
 package org.pitest.mutationtest.incremental;
 
 import java.math.BigInteger;
+import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassInfo;
 import org.pitest.classinfo.ClassInfoSource;
 import org.pitest.classinfo.ClassName;
@@ -11,26 +14,50 @@ import java.util.Optional;
 import org.pitest.mutationtest.ClassHistory;
 import org.pitest.mutationtest.HistoryStore;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 
 public class DefaultCodeHistory implements CodeHistory {
 
   private final ClassInfoSource                                 code;
+  private final ClassByteArraySource                            bytes;
   private final Map<MutationIdentifier, MutationStatusTestPair> previousResults;
   private final Map<ClassName, ClassHistory>                    previousClassPath;
+  private final Map<MutationIdentifier, Long>                   previousFingerprints;
+  private final CoverageFingerprint                             fingerprint;
+  private final Map<ClassName, Map<String, Long>>               methodHashes = new ConcurrentHashMap<>();
 
   public DefaultCodeHistory(final CodeSource code,
       final HistoryStore historyStore) {
-    this(code, historyStore.getHistoricResults(), historyStore
-        .getHistoricClassPath());
+    this(code, code, historyStore.getHistoricResults(), historyStore
+        .getHistoricClassPath(), historyStore.getHistoricCoverageFingerprints());
   }
 
   public DefaultCodeHistory(final ClassInfoSource code,
       final Map<MutationIdentifier, MutationStatusTestPair> previousResults,
       final Map<ClassName, ClassHistory> previousClassPath) {
+    this(code, clazz -> Optional.empty(), previousResults, previousClassPath);
+  }
+
+  public DefaultCodeHistory(final ClassInfoSource code,
+      final ClassByteArraySource bytes,
+      final Map<MutationIdentifier, MutationStatusTestPair> previousResults,
+      final Map<ClassName, ClassHistory> previousClassPath) {
+    this(code, bytes, previousResults, previousClassPath,
+        Collections.emptyMap());
+  }
+
+  public DefaultCodeHistory(final ClassInfoSource code,
+      final ClassByteArraySource bytes,
+      final Map<MutationIdentifier, MutationStatusTestPair> previousResults,
+      final Map<ClassName, ClassHistory> previousClassPath,
+      final Map<MutationIdentifier, Long> previousFingerprints) {
     this.code = code;
+    this.bytes = bytes;
     this.previousResults = previousResults;
     this.previousClassPath = previousClassPath;
+    this.previousFingerprints = previousFingerprints;
+    this.fingerprint = new CoverageFingerprint(code);
   }
 
   @Override
@@ -58,4 +85,55 @@ public class DefaultCodeHistory implements CodeHistory {
         .equals(currentCoverage.toString(16));
   }
 
+  @Override
+  public boolean isMethodUnchanged(final MutationIdentifier id) {
+    final ClassName className = id.getClassName();
+    final ClassHistory historic = this.previousClassPath.get(className);
+    if (historic == null) {
+      return false;
+    }
+    final Long previous = historic.getMethodHashes().get(MethodHashes.key(
+        id.getLocation().getMethodName(), id.getLocation().getMethodDesc()));
+    if (previous == null) {
+      return false;
+    }
+
+    // a change to the parent or outer class may alter what an unchanged
+    // method does
+    final Optional<ClassInfo> current = this.code.fetchClass(className);
+    if (!current.isPresent() || hasHierarchyChanged(historic, current.get())) {
+      return false;
+    }
+
+    final Long now = this.methodHashes.computeIfAbsent(className,
+        c -> this.bytes.getBytes(c.asJavaName()).map(MethodHashes::hash)
+            .orElse(Collections.emptyMap()))
+        .get(MethodHashes.key(id.getLocation().getMethodName(),
+            id.getLocation().getMethodDesc()));
+    return previous.equals(now);
+  }
+
+  @Override
+  public Optional<Long> getPreviousCoverageFingerprint(
+      final MutationIdentifier id) {
+    return Optional.ofNullable(this.previousFingerprints.get(id));
+  }
+
+  @Override
+  public long coverageFingerprint(final MutationDetails mutation) {
+    return this.fingerprint.of(mutation);
+  }
+
+  private static boolean hasHierarchyChanged(ClassHistory historic,
+      ClassInfo current) {
+    try {
+      final BigInteger previous = new BigInteger(historic.getId()
+          .getHierarchicalHash(), 16).subtract(BigInteger.valueOf(historic
+          .getId().getId().getHash()));
+      return !previous.equals(current.getDeepHash().subtract(current.getHash()));
+    } catch (final NumberFormatException e) {
+      return true;
+    }
+  }
+
 }
@@ -0,0 +1,604 @@
+package org.pitest.mutationtest.incremental;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.mutationtest.ClassHistory;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.Log;
+import org.pitest.util.Unchecked;
+
+/**
+ * Read only view of a binary history file. The file is memory mapped and
+ * nothing is decoded until it is asked for, so the heap used does not grow
+ * with the size of the history. Only the identifiers of the results for the
+ * most recently queried class are held.
+ *
+ * A file that will be replaced when the run completes is read into heap
+ * buffers instead, as a mapping is only released when it is garbage collected
+ * and some platforms will not replace a file that is still mapped.
+ */
+final class HistoryFile implements Closeable {
+
+  private static final Logger LOG     = Log.getLogger();
+
+  // a file is mapped in segments, as a single mapping is limited to 2GB
+  private static final long   SEGMENT = 1L << 30;
+  private static final long   OVERLAP = 1L << 24;
+
+  private final File          file;
+  private final FileChannel   channel;
+  private final boolean       mapped;
+  private final long          size;
+  private final ByteBuffer[]  segments;
+
+  private ByteBuffer          index;
+  private int                 stringsAt;
+  private int                 classesAt;
+  private int                 classCount;
+  private int                 resultsAt;
+  private int                 resultCount;
+  private int                 extentsAt;
+
+  private ClassName                     cachedClass;
+  private Map<MutationIdentifier, Long> cachedRecords = Collections.emptyMap();
+
+  private HistoryFile(File file, boolean mapped) throws IOException {
+    this.file = file;
+    this.mapped = mapped;
+    this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+    this.size = this.channel.size();
+    this.segments = new ByteBuffer[(int) (this.size / SEGMENT) + 1];
+  }
+
+  static HistoryFile open(File file) throws IOException {
+    return open(file, true);
+  }
+
+  /**
+   * Opens a history file, reading it into the heap rather than mapping it
+   * when mapped is false
+   */
+  static HistoryFile open(File file, boolean mapped) throws IOException {
+    final HistoryFile history = new HistoryFile(file, mapped);
+    try {
+      if (!history.mapIndex()) {
+        LOG.warning("History file " + file
+            + " was not closed cleanly, recovering results from it");
+        history.scan();
+      }
+      history.locateTables();
+      return history;
+    } catch (final IOException | RuntimeException e) {
+      history.close();
+      throw e;
+    }
+  }
+
+  Map<MutationIdentifier, MutationStatusTestPair> results() {
+    return new AbstractMap<MutationIdentifier, MutationStatusTestPair>() {
+      @Override
+      public MutationStatusTestPair get(Object key) {
+        if (!(key instanceof MutationIdentifier)) {
+          return null;
+        }
+        return result((MutationIdentifier) key);
+      }
+
+      @Override
+      public boolean containsKey(Object key) {
+        return get(key) != null;
+      }
+
+      @Override
+      public boolean isEmpty() {
+        return HistoryFile.this.resultCount == 0;
+      }
+
+      @Override
+      public Set<Entry<MutationIdentifier, MutationStatusTestPair>> entrySet() {
+        return allResults().entrySet();
+      }
+    };
+  }
+
+  Map<ClassName, ClassHistory> classPath() {
+    return new AbstractMap<ClassName, ClassHistory>() {
+      @Override
+      public ClassHistory get(Object key) {
+        if (!(key instanceof ClassName)) {
+          return null;
+        }
+        return classHistory((ClassName) key);
+      }
+
+      @Override
+      public boolean containsKey(Object key) {
+        return get(key) != null;
+      }
+
+      @Override
+      public boolean isEmpty() {
+        return HistoryFile.this.classCount == 0;
+      }
+
+      @Override
+      public Set<Entry<ClassName, ClassHistory>> entrySet() {
+        return allClasses().entrySet();
+      }
+    };
+  }
+
+  @Override
+  public void close() {
+    try {
+      this.channel.close();
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  Map<MutationIdentifier, Long> fingerprints() {
+    return new AbstractMap<MutationIdentifier, Long>() {
+      @Override
+      public Long get(Object key) {
+        if (!(key instanceof MutationIdentifier)) {
+          return null;
+        }
+        return fingerprint((MutationIdentifier) key);
+      }
+
+      @Override
+      public boolean containsKey(Object key) {
+        return get(key) != null;
+      }
+
+      @Override
+      public Set<Entry<MutationIdentifier, Long>> entrySet() {
+        return allFingerprints().entrySet();
+      }
+    };
+  }
+
+  private MutationStatusTestPair result(MutationIdentifier id) {
+    try {
+      final Cursor record = recordFor(id);
+      if (record == null) {
+        return null;
+      }
+      return readStatus(record);
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private Long fingerprint(MutationIdentifier id) {
+    try {
+      final Cursor record = recordFor(id);
+      if (record == null) {
+        return null;
+      }
+      readStatus(record);
+      return readFingerprint(record);
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  /**
+   * The result record for a mutation, positioned after its identifier, or
+   * null if it is not in the history
+   */
+  private synchronized Cursor recordFor(MutationIdentifier id)
+      throws IOException {
+    if (!id.getClassName().equals(this.cachedClass)) {
+      this.cachedRecords = recordsFor(id.getClassName());
+      this.cachedClass = id.getClassName();
+    }
+    final Long offset = this.cachedRecords.get(id);
+    if (offset == null) {
+      return null;
+    }
+    final Cursor record = record(offset);
+    readIdentifier(record);
+    return record;
+  }
+
+  private ClassHistory classHistory(ClassName name) {
+    try {
+      final int entry = find(this.classesAt, this.classCount,
+          HistoryIndex.CLASS_ENTRY, name.asJavaName());
+      if (entry < 0) {
+        return null;
+      }
+      return readClassHistory(entry);
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private Map<MutationIdentifier, Long> recordsFor(ClassName name)
+      throws IOException {
+    final int entry = find(this.resultsAt, this.resultCount,
+        HistoryIndex.RESULT_ENTRY, name.asJavaName());
+    if (entry < 0) {
+      return Collections.emptyMap();
+    }
+    final Map<MutationIdentifier, Long> records = new HashMap<>();
+    forEachResult(entry, (offset, record) -> records.put(readIdentifier(record), offset));
+    return records;
+  }
+
+  private Map<MutationIdentifier, MutationStatusTestPair> allResults() {
+    final Map<MutationIdentifier, MutationStatusTestPair> all = new HashMap<>();
+    try {
+      for (int i = 0; i != this.resultCount; i++) {
+        forEachResult(this.resultsAt + (i * HistoryIndex.RESULT_ENTRY),
+            (offset, record) -> all.put(readIdentifier(record), readStatus(record)));
+      }
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+    return all;
+  }
+
+  private Map<MutationIdentifier, Long> allFingerprints() {
+    final Map<MutationIdentifier, Long> all = new HashMap<>();
+    try {
+      for (int i = 0; i != this.resultCount; i++) {
+        forEachResult(this.resultsAt + (i * HistoryIndex.RESULT_ENTRY),
+            (offset, record) -> {
+              final MutationIdentifier id = readIdentifier(record);
+              readStatus(record);
+              final Long fingerprint = readFingerprint(record);
+              if (fingerprint != null) {
+                all.put(id, fingerprint);
+              }
+            });
+      }
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+    return all;
+  }
+
+  private Map<ClassName, ClassHistory> allClasses() {
+    final Map<ClassName, ClassHistory> all = new HashMap<>();
+    try {
+      for (int i = 0; i != this.classCount; i++) {
+        final ClassHistory each = readClassHistory(this.classesAt
+            + (i * HistoryIndex.CLASS_ENTRY));
+        all.put(each.getName(), each);
+      }
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+    return all;
+  }
+
+  private void forEachResult(int entry, RecordVisitor visitor) throws IOException {
+    final int first = this.index.getInt(entry + 4);
+    final int count = this.index.getInt(entry + 8);
+    for (int i = first; i != first + count; i++) {
+      final int at = this.extentsAt + (i * HistoryIndex.EXTENT_ENTRY);
+      final long start = this.index.getLong(at);
+      final int length = this.index.getInt(at + 8);
+      final Cursor extent = body(start, length);
+      int read = 0;
+      while (read < length) {
+        final byte tag = extent.get();
+        final int recordLength = extent.getInt();
+        if (tag == BinaryHistoryStore.RESULT) {
+          visitor.visit(start + read, extent.from(extent.position()));
+        }
+        extent.skip(recordLength);
+        read = read + BinaryHistoryStore.HEADER_SIZE + recordLength;
+      }
+    }
+  }
+
+  /**
+   * Binary search of a table sorted by the class name in the first int of
+   * each entry, returning the position of the entry or -1
+   */
+  private int find(int table, int count, int entrySize, String name)
+      throws IOException {
+    int low = 0;
+    int high = count - 1;
+    while (low <= high) {
+      final int mid = (low + high) >>> 1;
+      final int entry = table + (mid * entrySize);
+      final int compare = string(this.index.getInt(entry)).compareTo(name);
+      if (compare < 0) {
+        low = mid + 1;
+      } else if (compare > 0) {
+        high = mid - 1;
+      } else {
+        return entry;
+      }
+    }
+    return -1;
+  }
+
+  private ClassHistory readClassHistory(int entry) throws IOException {
+    final Cursor in = record(this.index.getLong(entry + 4));
+    final ClassName name = ClassName.fromString(string(in.varInt()));
+    final long hash = in.getLong();
+    final String hierarchicalHash = string(in.varInt());
+    final String coverageId = string(in.varInt());
+    final int methodCount = in.varInt();
+    final Map<String, Long> methods = new HashMap<>();
+    for (int i = 0; i != methodCount; i++) {
+      methods.put(string(in.varInt()), in.getLong());
+    }
+    return new ClassHistory(new HierarchicalClassId(hash, name,
+        hierarchicalHash), coverageId, methods);
+  }
+
+  private MutationIdentifier readIdentifier(Cursor in) throws IOException {
+    final ClassName clazz = ClassName.fromString(string(in.varInt()));
+    final String method = string(in.varInt());
+    final String desc = string(in.varInt());
+    final int indexCount = in.varInt();
+    final List<Integer> indexes = new ArrayList<>(indexCount);
+    for (int i = 0; i != indexCount; i++) {
+      indexes.add(in.varInt());
+    }
+    final String mutator = string(in.varInt());
+    return new MutationIdentifier(Location.location(clazz, method, desc),
+        indexes, mutator);
+  }
+
+  private MutationStatusTestPair readStatus(Cursor in) throws IOException {
+    final DetectionStatus status = DetectionStatus.valueOf(string(in.varInt()));
+    final int testsRun = in.varInt();
+    return new MutationStatusTestPair(testsRun, status, strings(in),
+        strings(in), strings(in), strings(in), strings(in));
+  }
+
+  private Long readFingerprint(Cursor in) {
+    if (in.get() == 0) {
+      return null;
+    }
+    return in.getLong();
+  }
+
+  private List<String> strings(Cursor in) throws IOException {
+    final int count = in.varInt();
+    if (count == 0) {
+      return Collections.emptyList();
+    }
+    final List<String> strings = new ArrayList<>(count);
+    for (int i = 0; i != count; i++) {
+      strings.add(string(in.varInt()));
+    }
+    return strings;
+  }
+
+  private String string(int id) throws IOException {
+    return stringAt(this.index.getLong(this.stringsAt
+        + (id * HistoryIndex.STRING_ENTRY)));
+  }
+
+  private String stringAt(long offset) throws IOException {
+    final Cursor record = record(offset);
+    return record.utf8(record.length);
+  }
+
+  private Cursor record(long offset) throws IOException {
+    final Cursor header = body(offset, BinaryHistoryStore.HEADER_SIZE);
+    header.get();
+    final int length = header.getInt();
+    final Cursor payload = body(offset + BinaryHistoryStore.HEADER_SIZE, length);
+    payload.length = length;
+    return payload;
+  }
+
+  private boolean mapIndex() throws IOException {
+    final int trailer = BinaryHistoryStore.TRAILER_SIZE;
+    if (this.size < BinaryHistoryStore.HEADER_SIZE + trailer) {
+      return false;
+    }
+    final Cursor end = body(this.size - trailer, trailer);
+    final long footer = end.getLong();
+    if (end.getInt() != BinaryHistoryStore.END_MAGIC
+        || footer < BinaryHistoryStore.HEADER_SIZE
+        || footer >= this.size - trailer) {
+      return false;
+    }
+    final Cursor header = body(footer, BinaryHistoryStore.HEADER_SIZE);
+    if (header.get() != BinaryHistoryStore.INDEX) {
+      return false;
+    }
+    final long start = footer + BinaryHistoryStore.HEADER_SIZE;
+    final int length = header.getInt();
+    // the index runs up to the trailer, anything else means it is corrupt
+    if (length < 0 || start + length != this.size - trailer) {
+      return false;
+    }
+    if (this.mapped) {
+      this.index = this.channel.map(FileChannel.MapMode.READ_ONLY, start,
+          length);
+    } else {
+      this.index = read(start, length);
+    }
+    return true;
+  }
+
+  /**
+   * Rebuilds the index of a file left without one, keeping every record
+   * before the first truncated one
+   */
+  private void scan() throws IOException {
+    final HistoryIndex rebuilt = new HistoryIndex();
+    long offset = BinaryHistoryStore.HEADER_SIZE;
+    while (offset + BinaryHistoryStore.HEADER_SIZE <= this.size) {
+      final Cursor header = body(offset, BinaryHistoryStore.HEADER_SIZE);
+      final byte tag = header.get();
+      final int length = header.getInt();
+      final long next = offset + BinaryHistoryStore.HEADER_SIZE + length;
+      if (length < 0 || next > this.size) {
+        break;
+      }
+      final Cursor payload = body(offset + BinaryHistoryStore.HEADER_SIZE, length);
+      if (tag == BinaryHistoryStore.STRING) {
+        rebuilt.addString(offset);
+      } else if (tag == BinaryHistoryStore.CLASS) {
+        rebuilt.addClass(payload.varInt(), offset);
+      } else if (tag == BinaryHistoryStore.RESULT) {
+        rebuilt.addResult(payload.varInt(), offset,
+            BinaryHistoryStore.HEADER_SIZE + length);
+      } else {
+        break;
+      }
+      offset = next;
+    }
+    this.index = ByteBuffer.wrap(rebuilt.build(id -> {
+      try {
+        return stringAt(rebuilt.stringOffset(id));
+      } catch (final IOException e) {
+        throw Unchecked.translateCheckedException(e);
+      }
+    }));
+  }
+
+  private void locateTables() {
+    this.stringsAt = 4;
+    final int strings = this.index.getInt(0);
+    this.classesAt = this.stringsAt + (strings * HistoryIndex.STRING_ENTRY) + 4;
+    this.classCount = this.index.getInt(this.classesAt - 4);
+    this.resultsAt = this.classesAt + (this.classCount * HistoryIndex.CLASS_ENTRY) + 4;
+    this.resultCount = this.index.getInt(this.resultsAt - 4);
+    this.extentsAt = this.resultsAt + (this.resultCount * HistoryIndex.RESULT_ENTRY) + 4;
+  }
+
+  /**
+   * Bytes of the body, taken from a mapped segment where the range lies
+   * within one and read from the file otherwise
+   */
+  private Cursor body(long offset, int length) throws IOException {
+    if (offset < 0 || length < 0 || offset + length > this.size) {
+      throw new EOFException("Read past end of " + this.file);
+    }
+    if (this.mapped) {
+      final int segment = (int) (offset / SEGMENT);
+      final ByteBuffer mapped = segment(segment);
+      final long relative = offset - (segment * SEGMENT);
+      if (relative + length <= mapped.capacity()) {
+        return new Cursor(mapped, (int) relative);
+      }
+    }
+    return new Cursor(read(offset, length), 0);
+  }
+
+  private ByteBuffer read(long offset, int length) throws IOException {
+    final ByteBuffer copy = ByteBuffer.allocate(length);
+    long at = offset;
+    while (copy.hasRemaining()) {
+      final int read = this.channel.read(copy, at);
+      if (read < 0) {
+        throw new EOFException("Read past end of " + this.file);
+      }
+      at = at + read;
+    }
+    return copy;
+  }
+
+  private synchronized ByteBuffer segment(int segment) throws IOException {
+    if (this.segments[segment] == null) {
+      final long start = segment * SEGMENT;
+      final long length = Math.min(this.size - start, SEGMENT + OVERLAP);
+      this.segments[segment] = this.channel.map(FileChannel.MapMode.READ_ONLY,
+          start, length);
+    }
+    return this.segments[segment];
+  }
+
+  private interface RecordVisitor {
+    void visit(long offset, Cursor record) throws IOException;
+  }
+
+  /**
+   * Reads from a position in a shared buffer using absolute gets only, so
+   * cursors over the same mapping do not interfere
+   */
+  private static final class Cursor {
+    private final ByteBuffer buffer;
+    private int              at;
+    private int              length;
+
+    Cursor(ByteBuffer buffer, int at) {
+      this.buffer = buffer;
+      this.at = at;
+    }
+
+    Cursor from(int position) {
+      return new Cursor(this.buffer, position);
+    }
+
+    int position() {
+      return this.at;
+    }
+
+    void skip(int bytes) {
+      this.at = this.at + bytes;
+    }
+
+    byte get() {
+      return this.buffer.get(this.at++);
+    }
+
+    int getInt() {
+      final int value = this.buffer.getInt(this.at);
+      this.at = this.at + 4;
+      return value;
+    }
+
+    long getLong() {
+      final long value = this.buffer.getLong(this.at);
+      this.at = this.at + 8;
+      return value;
+    }
+
+    int varInt() {
+      int value = 0;
+      int shift = 0;
+      byte b;
+      do {
+        b = get();
+        value |= (b & 0x7F) << shift;
+        shift += 7;
+      } while (b < 0);
+      return value;
+    }
+
+    String utf8(int count) {
+      final byte[] bytes = new byte[count];
+      for (int i = 0; i != count; i++) {
+        bytes[i] = this.buffer.get(this.at + i);
+      }
+      this.at = this.at + count;
+      return new String(bytes, StandardCharsets.UTF_8);
+    }
+  }
+
+}
@@ -0,0 +1,120 @@
+package org.pitest.mutationtest.incremental;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import org.pitest.util.Unchecked;
+
+/**
+ * Builds the index written at the end of a binary history file. All entries
+ * are fixed width so the index can be searched in place once mapped.
+ *
+ * <pre>
+ * int  string count, then per string  long offset of its record
+ * int  class count,  then per class   int name, long offset of its record
+ * int  result count, then per class   int name, int first extent, int extent count
+ * int  extent count, then per extent  long offset, int length
+ * </pre>
+ *
+ * Classes and result entries are sorted by class name. An extent is a run of
+ * records in which every result belongs to the same class.
+ */
+final class HistoryIndex {
+
+  static final int STRING_ENTRY = 8;
+  static final int CLASS_ENTRY  = 12;
+  static final int RESULT_ENTRY = 12;
+  static final int EXTENT_ENTRY = 12;
+
+  // extents are not grown beyond this so they can be read as one buffer
+  private static final long MAX_EXTENT = 1 << 24;
+
+  private long[]                        stringOffsets = new long[64];
+  private int                           strings;
+  private final List<long[]>            classes       = new ArrayList<>();
+  private final Map<Integer, List<long[]>> extents    = new LinkedHashMap<>();
+  private int                           lastResultClass = -1;
+
+  int addString(long offset) {
+    if (this.strings == this.stringOffsets.length) {
+      this.stringOffsets = Arrays.copyOf(this.stringOffsets, this.strings * 2);
+    }
+    this.stringOffsets[this.strings] = offset;
+    return this.strings++;
+  }
+
+  long stringOffset(int id) {
+    return this.stringOffsets[id];
+  }
+
+  void addClass(int name, long offset) {
+    this.classes.add(new long[] { name, offset });
+  }
+
+  void addResult(int className, long offset, int length) {
+    final List<long[]> forClass = this.extents.computeIfAbsent(className,
+        k -> new ArrayList<>());
+    if (className == this.lastResultClass) {
+      final long[] last = forClass.get(forClass.size() - 1);
+      final long extended = (offset + length) - last[0];
+      if (extended <= MAX_EXTENT) {
+        last[1] = extended;
+        return;
+      }
+    }
+    forClass.add(new long[] { offset, length });
+    this.lastResultClass = className;
+  }
+
+  byte[] build(IntFunction<String> names) {
+    final Comparator<Integer> byName = Comparator.comparing(names::apply);
+    try {
+      final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      final DataOutputStream out = new DataOutputStream(bytes);
+
+      out.writeInt(this.strings);
+      for (int i = 0; i != this.strings; i++) {
+        out.writeLong(this.stringOffsets[i]);
+      }
+
+      this.classes.sort((a, b) -> byName.compare((int) a[0], (int) b[0]));
+      out.writeInt(this.classes.size());
+      for (final long[] each : this.classes) {
+        out.writeInt((int) each[0]);
+        out.writeLong(each[1]);
+      }
+
+      final List<Integer> resultClasses = new ArrayList<>(this.extents.keySet());
+      resultClasses.sort(byName);
+      out.writeInt(resultClasses.size());
+      int first = 0;
+      for (final Integer each : resultClasses) {
+        final int count = this.extents.get(each).size();
+        out.writeInt(each);
+        out.writeInt(first);
+        out.writeInt(count);
+        first = first + count;
+      }
+
+      out.writeInt(first);
+      for (final Integer each : resultClasses) {
+        for (final long[] extent : this.extents.get(each)) {
+          out.writeLong(extent[0]);
+          out.writeInt((int) extent[1]);
+        }
+      }
+      return bytes.toByteArray();
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+}
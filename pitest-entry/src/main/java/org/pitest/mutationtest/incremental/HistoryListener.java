@@ -7,10 +7,17 @@ import org.pitest.mutationtest.MutationResultListener;
 
 public class HistoryListener implements MutationResultListener {
 
-  private final HistoryStore historyStore;
+  private final HistoryStore        historyStore;
+  private final CoverageFingerprint fingerprint;
 
   public HistoryListener(final HistoryStore historyStore) {
+    this(historyStore, null);
+  }
+
+  public HistoryListener(final HistoryStore historyStore,
+      final CoverageFingerprint fingerprint) {
     this.historyStore = historyStore;
+    this.fingerprint = fingerprint;
   }
 
   @Override
@@ -21,7 +28,12 @@ public class HistoryListener implements MutationResultListener {
   @Override
   public void handleMutationResult(final ClassMutationResults metaData) {
     for (final MutationResult each : metaData.getMutations()) {
-      this.historyStore.recordResult(each);
+      if (this.fingerprint == null) {
+        this.historyStore.recordResult(each);
+      } else {
+        this.historyStore.recordResult(each,
+            this.fingerprint.of(each.getDetails()));
+      }
     }
 
   }
@@ -78,7 +78,8 @@ public class IncrementalAnalyser implements MutationAnalyser {
 
     final ClassName clazz = each.getClassName();
 
-    if (this.history.hasClassChanged(clazz)) {
+    if (this.history.hasClassChanged(clazz)
+        && !this.history.isMethodUnchanged(each.getId())) {
       return analyseFromScratch(each);
     }
 
@@ -99,14 +100,26 @@ public class IncrementalAnalyser implements MutationAnalyser {
     }
 
     if ((mutationStatusTestPair.getStatus() == DetectionStatus.SURVIVED)
-        && !this.history.hasCoverageChanged(clazz,
-            this.coverage.getCoverageIdForClass(clazz))) {
+        && !hasCoverageChanged(each)) {
       return makeResult(each, DetectionStatus.SURVIVED);
     }
 
     return analyseFromScratch(each);
   }
 
+  private boolean hasCoverageChanged(final MutationDetails each) {
+    // where the tests covering the mutant were recorded, changes in coverage
+    // elsewhere in the class do not matter
+    final Optional<Long> previous = this.history
+        .getPreviousCoverageFingerprint(each.getId());
+    if (previous.isPresent()) {
+      return previous.get() != this.history.coverageFingerprint(each);
+    }
+    final ClassName clazz = each.getClassName();
+    return this.history.hasCoverageChanged(clazz,
+        this.coverage.getCoverageIdForClass(clazz));
+  }
+
   private List<String> filterUnchangedKillingTests(final MutationDetails each,
                                                    final MutationStatusTestPair mutationStatusTestPair) {
 
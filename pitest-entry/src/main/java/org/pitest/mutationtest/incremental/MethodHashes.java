@@ -0,0 +1,220 @@
+package org.pitest.mutationtest.incremental;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.pitest.bytecode.ASMVersion;
+
+/**
+ * Hashes of the bytecode of each method in a class, keyed by method name and
+ * descriptor.
+ *
+ * Instructions are hashed by the values they refer to rather than constant
+ * pool indexes, so a method's hash is unaffected by changes elsewhere in the
+ * class that reorder the pool. Line numbers and local variable names are
+ * ignored, but the positions of line numbers, labels and frames are included
+ * as they take part in the instruction indexes used to identify mutants.
+ */
+public final class MethodHashes {
+
+  private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME  = 0x100000001b3L;
+
+  private static final int  LABEL      = -1;
+  private static final int  LINE       = -2;
+  private static final int  FRAME      = -3;
+  private static final int  TRY_CATCH  = -4;
+
+  private MethodHashes() {
+  }
+
+  public static String key(String name, String desc) {
+    return name + desc;
+  }
+
+  public static Map<String, Long> hash(byte[] classBytes) {
+    final Map<String, Long> hashes = new HashMap<>();
+    new ClassReader(classBytes).accept(new ClassVisitor(ASMVersion.ASM_VERSION) {
+      @Override
+      public MethodVisitor visitMethod(int access, String name, String desc,
+          String signature, String[] exceptions) {
+        return new HashingMethodVisitor(access, key(name, desc), hashes);
+      }
+    }, 0);
+    return hashes;
+  }
+
+  private static final class HashingMethodVisitor extends MethodVisitor {
+
+    private final String            key;
+    private final Map<String, Long> hashes;
+    private final Map<Label, Integer> labels = new HashMap<>();
+    private long                    hash     = FNV_OFFSET;
+
+    HashingMethodVisitor(int access, String key, Map<String, Long> hashes) {
+      super(ASMVersion.ASM_VERSION);
+      this.key = key;
+      this.hashes = hashes;
+      mix(access);
+    }
+
+    @Override
+    public void visitFrame(int type, int numLocal, Object[] local,
+        int numStack, Object[] stack) {
+      mix(FRAME);
+    }
+
+    @Override
+    public void visitInsn(int opcode) {
+      mix(opcode);
+    }
+
+    @Override
+    public void visitIntInsn(int opcode, int operand) {
+      mix(opcode);
+      mix(operand);
+    }
+
+    @Override
+    public void visitVarInsn(int opcode, int var) {
+      mix(opcode);
+      mix(var);
+    }
+
+    @Override
+    public void visitTypeInsn(int opcode, String type) {
+      mix(opcode);
+      mix(type);
+    }
+
+    @Override
+    public void visitFieldInsn(int opcode, String owner, String name,
+        String desc) {
+      mix(opcode);
+      mix(owner);
+      mix(name);
+      mix(desc);
+    }
+
+    @Override
+    public void visitMethodInsn(int opcode, String owner, String name,
+        String desc, boolean itf) {
+      mix(opcode);
+      mix(owner);
+      mix(name);
+      mix(desc);
+      mix(itf ? 1 : 0);
+    }
+
+    @Override
+    public void visitInvokeDynamicInsn(String name, String desc, Handle bsm,
+        Object... bsmArgs) {
+      mix(Opcodes.INVOKEDYNAMIC);
+      mix(name);
+      mix(desc);
+      mix(bsm.toString());
+      mix(Arrays.deepToString(bsmArgs));
+    }
+
+    @Override
+    public void visitJumpInsn(int opcode, Label label) {
+      mix(opcode);
+      mix(label);
+    }
+
+    @Override
+    public void visitLabel(Label label) {
+      mix(LABEL);
+      mix(label);
+    }
+
+    @Override
+    public void visitLdcInsn(Object value) {
+      mix(Opcodes.LDC);
+      mix(value.getClass().getName());
+      mix(value.toString());
+    }
+
+    @Override
+    public void visitIincInsn(int var, int increment) {
+      mix(Opcodes.IINC);
+      mix(var);
+      mix(increment);
+    }
+
+    @Override
+    public void visitTableSwitchInsn(int min, int max, Label dflt,
+        Label... targets) {
+      mix(Opcodes.TABLESWITCH);
+      mix(min);
+      mix(max);
+      mix(dflt);
+      for (final Label each : targets) {
+        mix(each);
+      }
+    }
+
+    @Override
+    public void visitLookupSwitchInsn(Label dflt, int[] keys, Label[] targets) {
+      mix(Opcodes.LOOKUPSWITCH);
+      mix(dflt);
+      for (int i = 0; i != keys.length; i++) {
+        mix(keys[i]);
+        mix(targets[i]);
+      }
+    }
+
+    @Override
+    public void visitMultiANewArrayInsn(String desc, int dims) {
+      mix(Opcodes.MULTIANEWARRAY);
+      mix(desc);
+      mix(dims);
+    }
+
+    @Override
+    public void visitTryCatchBlock(Label start, Label end, Label handler,
+        String type) {
+      mix(TRY_CATCH);
+      mix(start);
+      mix(end);
+      mix(handler);
+      mix(String.valueOf(type));
+    }
+
+    @Override
+    public void visitLineNumber(int line, Label start) {
+      mix(LINE);
+      mix(start);
+    }
+
+    @Override
+    public void visitEnd() {
+      this.hashes.put(this.key, this.hash);
+    }
+
+    // labels are numbered in the order first seen, as their offsets change
+    // whenever earlier code does
+    private void mix(Label label) {
+      mix(this.labels.computeIfAbsent(label, l -> this.labels.size()));
+    }
+
+    private void mix(String value) {
+      mix(value.length());
+      for (int i = 0; i != value.length(); i++) {
+        mix(value.charAt(i));
+      }
+    }
+
+    private void mix(int value) {
+      this.hash = (this.hash ^ value) * FNV_PRIME;
+    }
+  }
+
+}
@@ -11,8 +11,10 @@ import java.io.Reader;
 import java.io.Serializable;
 import java.util.Base64;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
 import org.pitest.classinfo.ClassName;
@@ -50,11 +52,19 @@ public class ObjectOutputStreamHistoryStore implements HistoryStore {
   @Override
   public void recordClassPath(final Collection<HierarchicalClassId> ids,
       final CoverageDatabase coverageInfo) {
+    recordClassPath(ids, coverageInfo, c -> Collections.emptyMap());
+  }
+
+  @Override
+  public void recordClassPath(final Collection<HierarchicalClassId> ids,
+      final CoverageDatabase coverageInfo,
+      final Function<ClassName, Map<String, Long>> methodHashes) {
     final PrintWriter output = this.outputFactory.create();
     output.println(ids.size());
     for (final HierarchicalClassId each : ids) {
       final ClassHistory coverage = new ClassHistory(each,
-          coverageInfo.getCoverageIdForClass(each.getName()).toString(16));
+          coverageInfo.getCoverageIdForClass(each.getName()).toString(16),
+          methodHashes.apply(each.getName()));
       output.println(serialize(coverage));
     }
     output.flush();
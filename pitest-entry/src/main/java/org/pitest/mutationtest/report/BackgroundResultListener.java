@@ -0,0 +1,98 @@
+package org.pitest.mutationtest.report;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.util.PitError;
+
+/**
+ * Passes results to a listener on a thread of its own, so that slow report
+ * writing does not hold up the thread handling results. Results are queued
+ * up to a fixed limit, after which callers wait for the listener to catch up.
+ */
+public class BackgroundResultListener implements MutationResultListener {
+
+  private static final int                          DEFAULT_CAPACITY = 256;
+
+  private static final Runnable                     END              = () -> { };
+
+  private final MutationResultListener              child;
+  private final BlockingQueue<Runnable>             queue;
+  private final Thread                              thread;
+
+  private volatile RuntimeException                 failure;
+
+  public BackgroundResultListener(final MutationResultListener child) {
+    this(child, DEFAULT_CAPACITY);
+  }
+
+  public BackgroundResultListener(final MutationResultListener child,
+      final int capacity) {
+    this.child = child;
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.thread = new Thread(this::drain, "pit-report-writer");
+    this.thread.setDaemon(true);
+  }
+
+  @Override
+  public void runStart() {
+    this.child.runStart();
+    this.thread.start();
+  }
+
+  @Override
+  public void handleMutationResult(final ClassMutationResults results) {
+    checkFailure();
+    enqueue(() -> this.child.handleMutationResult(results));
+  }
+
+  @Override
+  public void runEnd() {
+    enqueue(END);
+    try {
+      this.thread.join();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new PitError("Interrupted while writing report", e);
+    }
+    checkFailure();
+    this.child.runEnd();
+  }
+
+  private void drain() {
+    try {
+      Runnable next = this.queue.take();
+      while (next != END) {
+        // after a failure keep taking results so callers are not blocked
+        if (this.failure == null) {
+          try {
+            next.run();
+          } catch (final RuntimeException e) {
+            this.failure = e;
+          }
+        }
+        next = this.queue.take();
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void enqueue(final Runnable task) {
+    try {
+      this.queue.put(task);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new PitError("Interrupted while writing report", e);
+    }
+  }
+
+  private void checkFailure() {
+    if (this.failure != null) {
+      throw this.failure;
+    }
+  }
+
+}
@@ -19,13 +19,19 @@ import java.util.Properties;
 import org.pitest.mutationtest.ListenerArguments;
 import org.pitest.mutationtest.MutationResultListener;
 import org.pitest.mutationtest.MutationResultListenerFactory;
+import org.pitest.mutationtest.report.BackgroundResultListener;
 
 public class CSVReportFactory implements MutationResultListenerFactory {
 
   @Override
   public MutationResultListener getListener(Properties props,
       final ListenerArguments args) {
-    return new CSVReportListener(args.getOutputStrategy());
+    return new BackgroundResultListener(new CSVReportListener(
+        args.getOutputStrategy(), compress(args)));
+  }
+
+  private static boolean compress(final ListenerArguments args) {
+    return args.data() != null && args.data().isCompressReports();
   }
 
   @Override
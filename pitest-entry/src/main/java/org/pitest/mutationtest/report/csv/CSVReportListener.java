@@ -29,7 +29,13 @@ public class CSVReportListener implements MutationResultListener {
   private final Writer out;
 
   public CSVReportListener(final ResultOutputStrategy outputStrategy) {
-    this(outputStrategy.createWriterForFile("mutations.csv"));
+    this(outputStrategy, false);
+  }
+
+  public CSVReportListener(final ResultOutputStrategy outputStrategy,
+      final boolean compress) {
+    this(compress ? outputStrategy.createCompressedWriterForFile("mutations.csv.gz")
+        : outputStrategy.createWriterForFile("mutations.csv"));
   }
 
   public CSVReportListener(final Writer out) {
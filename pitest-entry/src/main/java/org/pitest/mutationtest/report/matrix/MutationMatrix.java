@@ -0,0 +1,267 @@
+package org.pitest.mutationtest.report.matrix;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+/**
+ * Reader for the binary mutation matrix written by
+ * {@link MutationMatrixListener}. The file is memory mapped and nothing is
+ * decoded until asked for, so tools can read the results for single mutants
+ * or tests from very large matrices.
+ *
+ * <p>The file holds a header, a table of strings whose first entries are the
+ * test names, one column of ints per mutant attribute, the mutator indexes of
+ * each mutant, and finally a bitset row of tests for each outcome of each
+ * mutant. All values are big endian.
+ */
+public final class MutationMatrix implements Closeable {
+
+  static final int MAGIC       = 0x5049544D; // PITM
+  static final int VERSION     = 1;
+  static final int HEADER_SIZE = 56;
+
+  // string ids, other than LINE and TESTS_RUN
+  static final int CLASS       = 0;
+  static final int METHOD      = 1;
+  static final int DESC        = 2;
+  static final int MUTATOR     = 3;
+  static final int FILE        = 4;
+  static final int DESCRIPTION = 5;
+  static final int LINE        = 6;
+  static final int STATUS      = 7;
+  static final int TESTS_RUN   = 8;
+  static final int COLUMNS     = 9;
+
+  // rows of a large matrix are mapped in segments, as a single mapping is
+  // limited to 2GB
+  private static final long SEGMENT = 1L << 30;
+
+  /**
+   * What happened when a test was run against a mutant.
+   */
+  public enum Outcome {
+    KILLED, SURVIVED, TIMED_OUT, RUN_ERROR, MEMORY_ERROR
+  }
+
+  private final FileChannel  channel;
+  private final ByteBuffer   head;
+  private final int          testCount;
+  private final int          mutantCount;
+  private final int          words;
+  private final int          stringsAt;
+  private final int          columnsAt;
+  private final int          indexesAt;
+  private final long         rowsAt;
+  private final int          mutantsPerSegment;
+  private final ByteBuffer[] segments;
+
+  private MutationMatrix(FileChannel channel) throws IOException {
+    this.channel = channel;
+    final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+    while (header.hasRemaining()) {
+      if (channel.read(header, header.position()) < 0) {
+        throw new IOException("Not a mutation matrix");
+      }
+    }
+    if (header.getInt(0) != MAGIC) {
+      throw new IOException("Not a mutation matrix");
+    }
+    if (header.getInt(4) != VERSION) {
+      throw new IOException("Unsupported mutation matrix version "
+          + header.getInt(4));
+    }
+    this.testCount = header.getInt(8);
+    this.mutantCount = header.getInt(12);
+    this.words = header.getInt(16);
+    this.stringsAt = (int) header.getLong(24);
+    this.columnsAt = (int) header.getLong(32);
+    this.indexesAt = (int) header.getLong(40);
+    this.rowsAt = header.getLong(48);
+    if (this.rowsAt > Integer.MAX_VALUE) {
+      throw new IOException("Mutation matrix metadata too large to map");
+    }
+    this.head = channel.map(FileChannel.MapMode.READ_ONLY, 0, this.rowsAt);
+
+    final long mutantBytes = Math.max(1L, mutantBytes());
+    this.mutantsPerSegment = (int) Math.max(1L, SEGMENT / mutantBytes);
+    this.segments = new ByteBuffer[(this.mutantCount / this.mutantsPerSegment) + 1];
+  }
+
+  public static MutationMatrix open(File file) throws IOException {
+    final FileChannel channel = FileChannel.open(file.toPath(),
+        StandardOpenOption.READ);
+    try {
+      return new MutationMatrix(channel);
+    } catch (final IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  public int testCount() {
+    return this.testCount;
+  }
+
+  public String testName(int test) {
+    checkIndex(test, this.testCount);
+    return string(test);
+  }
+
+  public int mutantCount() {
+    return this.mutantCount;
+  }
+
+  public MutationIdentifier mutationId(int mutant) {
+    return new MutationIdentifier(Location.location(
+        ClassName.fromString(column(CLASS, mutant)), column(METHOD, mutant),
+        column(DESC, mutant)), indexes(mutant), column(MUTATOR, mutant));
+  }
+
+  public ClassName className(int mutant) {
+    return ClassName.fromString(column(CLASS, mutant));
+  }
+
+  public String methodName(int mutant) {
+    return column(METHOD, mutant);
+  }
+
+  public String methodDescription(int mutant) {
+    return column(DESC, mutant);
+  }
+
+  public String mutator(int mutant) {
+    return column(MUTATOR, mutant);
+  }
+
+  public String sourceFile(int mutant) {
+    return column(FILE, mutant);
+  }
+
+  public String description(int mutant) {
+    return column(DESCRIPTION, mutant);
+  }
+
+  public int lineNumber(int mutant) {
+    return intColumn(LINE, mutant);
+  }
+
+  public DetectionStatus status(int mutant) {
+    return DetectionStatus.valueOf(column(STATUS, mutant));
+  }
+
+  public int numberOfTestsRun(int mutant) {
+    return intColumn(TESTS_RUN, mutant);
+  }
+
+  public List<Integer> indexes(int mutant) {
+    checkIndex(mutant, this.mutantCount);
+    final int start = this.head.getInt(this.indexesAt + (mutant * 4));
+    final int end = this.head.getInt(this.indexesAt + ((mutant + 1) * 4));
+    final int values = this.indexesAt + ((this.mutantCount + 1) * 4);
+    final List<Integer> indexes = new ArrayList<>(end - start);
+    for (int i = start; i != end; i++) {
+      indexes.add(this.head.getInt(values + (i * 4)));
+    }
+    return indexes;
+  }
+
+  /**
+   * True if the test had the given outcome when run against the mutant
+   */
+  public boolean has(int mutant, Outcome outcome, int test) {
+    checkIndex(test, this.testCount);
+    final ByteBuffer segment = segmentFor(mutant);
+    final int word = rowAt(mutant, outcome) + ((test >>> 6) * 8);
+    return (segment.getLong(word) & (1L << test)) != 0;
+  }
+
+  /**
+   * The tests that had the given outcome when run against the mutant
+   */
+  public BitSet tests(int mutant, Outcome outcome) {
+    final ByteBuffer segment = segmentFor(mutant);
+    final int row = rowAt(mutant, outcome);
+    final long[] bits = new long[this.words];
+    for (int i = 0; i != this.words; i++) {
+      bits[i] = segment.getLong(row + (i * 8));
+    }
+    return BitSet.valueOf(bits);
+  }
+
+  @Override
+  public void close() throws IOException {
+    this.channel.close();
+  }
+
+  private String column(int column, int mutant) {
+    return string(intColumn(column, mutant));
+  }
+
+  private int intColumn(int column, int mutant) {
+    checkIndex(mutant, this.mutantCount);
+    return this.head.getInt(this.columnsAt
+        + (((column * this.mutantCount) + mutant) * 4));
+  }
+
+  private String string(int id) {
+    final int count = this.head.getInt(this.stringsAt);
+    final int offsets = this.stringsAt + 4;
+    final int bytes = offsets + ((count + 1) * 4);
+    final int start = this.head.getInt(offsets + (id * 4));
+    final int end = this.head.getInt(offsets + ((id + 1) * 4));
+    final byte[] value = new byte[end - start];
+    for (int i = 0; i != value.length; i++) {
+      value[i] = this.head.get(bytes + start + i);
+    }
+    return new String(value, StandardCharsets.UTF_8);
+  }
+
+  private int rowAt(int mutant, Outcome outcome) {
+    final long inSegment = mutant % this.mutantsPerSegment;
+    return (int) ((inSegment * mutantBytes())
+        + (outcome.ordinal() * this.words * 8L));
+  }
+
+  private synchronized ByteBuffer segmentFor(int mutant) {
+    checkIndex(mutant, this.mutantCount);
+    final int segment = mutant / this.mutantsPerSegment;
+    if (this.segments[segment] == null) {
+      final long first = (long) segment * this.mutantsPerSegment;
+      final long count = Math.min(this.mutantsPerSegment,
+          this.mutantCount - first);
+      try {
+        this.segments[segment] = this.channel.map(
+            FileChannel.MapMode.READ_ONLY, this.rowsAt + (first * mutantBytes()),
+            count * mutantBytes());
+      } catch (final IOException e) {
+        throw new IllegalStateException("Could not map mutation matrix", e);
+      }
+    }
+    return this.segments[segment];
+  }
+
+  private long mutantBytes() {
+    return Outcome.values().length * this.words * 8L;
+  }
+
+  private static void checkIndex(int index, int size) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index " + index + " out of range 0-"
+          + size);
+    }
+  }
+
+}
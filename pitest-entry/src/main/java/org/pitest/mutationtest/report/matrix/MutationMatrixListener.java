@@ -0,0 +1,218 @@
+package org.pitest.mutationtest.report.matrix;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.report.matrix.MutationMatrix.Outcome;
+import org.pitest.util.Unchecked;
+
+/**
+ * Writes the mutant by test matrix in the binary layout read by
+ * {@link MutationMatrix}. Tests are known only once every result has been
+ * seen, so each result is held as ids until the run ends.
+ */
+public class MutationMatrixListener implements MutationResultListener {
+
+  private final OutputStream         out;
+
+  private final Map<String, Integer> testIds    = new HashMap<>();
+  private final List<String>         tests      = new ArrayList<>();
+  private final Map<String, Integer> stringIds  = new HashMap<>();
+  private final List<String>         strings    = new ArrayList<>();
+  private final List<Mutant>         mutants    = new ArrayList<>();
+
+  public MutationMatrixListener(final OutputStream out) {
+    this.out = out;
+  }
+
+  @Override
+  public void runStart() {
+
+  }
+
+  @Override
+  public void handleMutationResult(final ClassMutationResults results) {
+    for (final MutationResult each : results.getMutations()) {
+      this.mutants.add(toMutant(each));
+    }
+  }
+
+  @Override
+  public void runEnd() {
+    try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+        this.out, 1 << 16))) {
+      write(out);
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private Mutant toMutant(final MutationResult result) {
+    final MutationDetails details = result.getDetails();
+    final MutationStatusTestPair status = result.getStatusTestPair();
+    final Mutant mutant = new Mutant();
+    mutant.columns[MutationMatrix.CLASS] = stringId(details.getClassName()
+        .asJavaName());
+    mutant.columns[MutationMatrix.METHOD] = stringId(details.getMethod());
+    mutant.columns[MutationMatrix.DESC] = stringId(details.getId()
+        .getLocation().getMethodDesc());
+    mutant.columns[MutationMatrix.MUTATOR] = stringId(details.getMutator());
+    mutant.columns[MutationMatrix.FILE] = stringId(details.getFilename());
+    mutant.columns[MutationMatrix.DESCRIPTION] = stringId(details
+        .getDescription());
+    mutant.columns[MutationMatrix.LINE] = details.getLineNumber();
+    mutant.columns[MutationMatrix.STATUS] = stringId(status.getStatus().name());
+    mutant.columns[MutationMatrix.TESTS_RUN] = status.getNumberOfTestsRun();
+    mutant.indexes = details.getId().getIndexes().stream()
+        .mapToInt(Integer::intValue).toArray();
+    mutant.outcomes[Outcome.KILLED.ordinal()] = testIds(status.getKillingTests());
+    mutant.outcomes[Outcome.SURVIVED.ordinal()] = testIds(status
+        .getSucceedingTests());
+    mutant.outcomes[Outcome.TIMED_OUT.ordinal()] = testIds(status
+        .getTimeOuttests());
+    mutant.outcomes[Outcome.RUN_ERROR.ordinal()] = testIds(status
+        .getRunErrorTests());
+    mutant.outcomes[Outcome.MEMORY_ERROR.ordinal()] = testIds(status
+        .getMemoryErrorTests());
+    return mutant;
+  }
+
+  private void write(final DataOutputStream out) throws IOException {
+    final int words = (this.tests.size() + 63) >>> 6;
+
+    // test names come first so a test's id is also its string id
+    final List<byte[]> allStrings = new ArrayList<>();
+    for (final String each : this.tests) {
+      allStrings.add(each.getBytes(StandardCharsets.UTF_8));
+    }
+    for (final String each : this.strings) {
+      allStrings.add(each.getBytes(StandardCharsets.UTF_8));
+    }
+    long stringBytes = 0;
+    for (final byte[] each : allStrings) {
+      stringBytes = stringBytes + each.length;
+    }
+    long indexCount = 0;
+    for (final Mutant each : this.mutants) {
+      indexCount = indexCount + each.indexes.length;
+    }
+
+    final long stringsAt = MutationMatrix.HEADER_SIZE;
+    final long stringsEnd = stringsAt + 4 + ((allStrings.size() + 1) * 4L)
+        + stringBytes;
+    final long columnsAt = align(stringsEnd, 4);
+    final long indexesAt = columnsAt
+        + (MutationMatrix.COLUMNS * 4L * this.mutants.size());
+    final long indexesEnd = indexesAt + ((this.mutants.size() + 1) * 4L)
+        + (indexCount * 4);
+    final long rowsAt = align(indexesEnd, 8);
+
+    out.writeInt(MutationMatrix.MAGIC);
+    out.writeInt(MutationMatrix.VERSION);
+    out.writeInt(this.tests.size());
+    out.writeInt(this.mutants.size());
+    out.writeInt(words);
+    out.writeInt(0);
+    out.writeLong(stringsAt);
+    out.writeLong(columnsAt);
+    out.writeLong(indexesAt);
+    out.writeLong(rowsAt);
+
+    out.writeInt(allStrings.size());
+    int offset = 0;
+    out.writeInt(offset);
+    for (final byte[] each : allStrings) {
+      offset = offset + each.length;
+      out.writeInt(offset);
+    }
+    for (final byte[] each : allStrings) {
+      out.write(each);
+    }
+    pad(out, columnsAt - stringsEnd);
+
+    final int testCount = this.tests.size();
+    for (int column = 0; column != MutationMatrix.COLUMNS; column++) {
+      final boolean isString = column != MutationMatrix.LINE
+          && column != MutationMatrix.TESTS_RUN;
+      for (final Mutant each : this.mutants) {
+        out.writeInt(isString ? each.columns[column] + testCount
+            : each.columns[column]);
+      }
+    }
+
+    int index = 0;
+    out.writeInt(index);
+    for (final Mutant each : this.mutants) {
+      index = index + each.indexes.length;
+      out.writeInt(index);
+    }
+    for (final Mutant each : this.mutants) {
+      for (final int value : each.indexes) {
+        out.writeInt(value);
+      }
+    }
+    pad(out, rowsAt - indexesEnd);
+
+    final long[] row = new long[words];
+    for (final Mutant each : this.mutants) {
+      for (final int[] outcome : each.outcomes) {
+        Arrays.fill(row, 0);
+        for (final int test : outcome) {
+          row[test >>> 6] |= 1L << test;
+        }
+        for (final long word : row) {
+          out.writeLong(word);
+        }
+      }
+    }
+  }
+
+  private int stringId(final String value) {
+    return this.stringIds.computeIfAbsent(value, v -> {
+      this.strings.add(v);
+      return this.strings.size() - 1;
+    });
+  }
+
+  private int[] testIds(final List<String> names) {
+    final int[] ids = new int[names.size()];
+    for (int i = 0; i != ids.length; i++) {
+      ids[i] = this.testIds.computeIfAbsent(names.get(i), v -> {
+        this.tests.add(v);
+        return this.tests.size() - 1;
+      });
+    }
+    return ids;
+  }
+
+  private static long align(final long position, final int to) {
+    return ((position + to - 1) / to) * to;
+  }
+
+  private static void pad(final OutputStream out, final long bytes)
+      throws IOException {
+    for (long i = 0; i < bytes; i++) {
+      out.write(0);
+    }
+  }
+
+  private static final class Mutant {
+    final int[]   columns  = new int[MutationMatrix.COLUMNS];
+    final int[][] outcomes = new int[Outcome.values().length][];
+    int[]         indexes;
+  }
+
+}
@@ -0,0 +1,32 @@
+package org.pitest.mutationtest.report.matrix;
+
+import java.util.Properties;
+
+import org.pitest.mutationtest.ListenerArguments;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.MutationResultListenerFactory;
+import org.pitest.util.PitError;
+
+public class MutationMatrixReportFactory implements MutationResultListenerFactory {
+
+  @Override
+  public MutationResultListener getListener(Properties props,
+      final ListenerArguments args) {
+    // fail before any analysis rather than when the matrix is written
+    return new MutationMatrixListener(args.getOutputStrategy()
+        .createOutputStreamForFile("mutations.matrix")
+        .orElseThrow(() -> new PitError("The " + name() + " output format "
+            + "needs a report output that can write binary files")));
+  }
+
+  @Override
+  public String name() {
+    return "MATRIX";
+  }
+
+  @Override
+  public String description() {
+    return "Binary mutant by test matrix, complete when fullMutationMatrix is set";
+  }
+
+}
@@ -19,13 +19,20 @@ import java.util.Properties;
 import org.pitest.mutationtest.ListenerArguments;
 import org.pitest.mutationtest.MutationResultListener;
 import org.pitest.mutationtest.MutationResultListenerFactory;
+import org.pitest.mutationtest.report.BackgroundResultListener;
 
 public class XMLReportFactory implements MutationResultListenerFactory {
 
   @Override
   public MutationResultListener getListener(Properties props,
       final ListenerArguments args) {
-    return new XMLReportListener(args.getOutputStrategy(), args.isFullMutationMatrix());
+    return new BackgroundResultListener(new XMLReportListener(
+        args.getOutputStrategy(), args.isFullMutationMatrix(),
+        compress(args)));
+  }
+
+  private static boolean compress(final ListenerArguments args) {
+    return args.data() != null && args.data().isCompressReports();
   }
 
   @Override
@@ -35,7 +35,7 @@ import static org.pitest.mutationtest.report.xml.Tag.runErrorTests;
 
 import java.io.IOException;
 import java.io.Writer;
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -60,7 +60,13 @@ public class XMLReportListener implements MutationResultListener {
   private final boolean fullMutationMatrix;
 
   public XMLReportListener(final ResultOutputStrategy outputStrategy, boolean fullMutationMatrix) {
-    this(outputStrategy.createWriterForFile("mutations.xml"), fullMutationMatrix);
+    this(outputStrategy, fullMutationMatrix, false);
+  }
+
+  public XMLReportListener(final ResultOutputStrategy outputStrategy,
+      boolean fullMutationMatrix, boolean compress) {
+    this(compress ? outputStrategy.createCompressedWriterForFile("mutations.xml.gz")
+        : outputStrategy.createWriterForFile("mutations.xml"), fullMutationMatrix);
   }
 
   public XMLReportListener(final Writer out, boolean fullMutationMatrix) {
@@ -68,111 +74,115 @@ public class XMLReportListener implements MutationResultListener {
     this.fullMutationMatrix = fullMutationMatrix;
   }
 
-  private void writeResult(final ClassMutationResults metaData) {
+  private void writeResult(final ClassMutationResults metaData) throws IOException {
     for (final MutationResult mutation : metaData.getMutations()) {
       writeMutationResultXML(mutation);
     }
   }
 
-  private void writeMutationResultXML(final MutationResult result) {
-    write(makeNode(makeMutationNode(result), makeMutationAttributes(result),
-        mutation) + "\n");
+  // written straight to the output, as with a full mutation matrix the test
+  // lists for a single mutation can be very large
+  private void writeMutationResultXML(final MutationResult result)
+      throws IOException {
+    this.out.write("<" + mutation + " ");
+    writeMutationAttributes(result);
+    this.out.write(">");
+    writeMutationNode(result);
+    this.out.write("</" + mutation + ">\n");
   }
 
-  private String makeMutationAttributes(final MutationResult result) {
-    return "detected='" + result.getStatus().isDetected() + "' status='"
-        + result.getStatus() + "' numberOfTestsRun='"
-        + result.getNumberOfTestsRun() + "'";
+  private void writeMutationAttributes(final MutationResult result)
+      throws IOException {
+    this.out.write("detected='");
+    this.out.write(Boolean.toString(result.getStatus().isDetected()));
+    this.out.write("' status='");
+    this.out.write(result.getStatus().name());
+    this.out.write("' numberOfTestsRun='");
+    this.out.write(Integer.toString(result.getNumberOfTestsRun()));
+    this.out.write("'");
   }
 
-  private String makeMutationNode(final MutationResult mutation) {
+  private void writeMutationNode(final MutationResult mutation)
+      throws IOException {
     final MutationDetails details = mutation.getDetails();
-    return makeNode(clean(details.getFilename()), sourceFile)
-        + makeNode(clean(details.getClassName().asJavaName()), mutatedClass)
-        + makeNode(clean(details.getMethod()), mutatedMethod)
-        + makeNode(clean(details.getId().getLocation().getMethodDesc()),
-            methodDescription)
-        + makeNode("" + details.getLineNumber(), lineNumber)
-        + makeNode(clean(details.getMutator()), mutator)
-        + makeNodes(indexes, details.getId().getIndexes(), index)
-        + makeNodes(blocks, details.getBlocks(), block)
-        + makeNodeWhenConditionSatisfied(!fullMutationMatrix,
-            createKillingTestDesc(mutation.getKillingTest()), killingTest)
-        + makeNodeWhenConditionSatisfied(fullMutationMatrix,
-            createTestDesc(mutation.getKillingTests()), killingTests)
-        + makeNodeWhenConditionSatisfied(fullMutationMatrix,
-            createTestDesc(mutation.getSucceedingTests()), succeedingTests)
-        + makeNodeWhenConditionSatisfied(fullMutationMatrix,
-            createTestDesc(mutation.getTimeoutTests()), timeoutTests)
-        + makeNodeWhenConditionSatisfied(fullMutationMatrix,
-            createTestDesc(mutation.getRunErrorTests()), runErrorTests)
-        + makeNodeWhenConditionSatisfied(fullMutationMatrix,
-            createTestDesc(mutation.getMemoryErrorTests()), memoryErrorTests)
-        + makeNode(clean(details.getDescription()), description);
-  }
-
-  private String clean(final String value) {
-    return StringEscapeUtils.escapeXml11(value);
-  }
-
-  private String makeNode(final String value, final String attributes,
-      final Tag tag) {
-    if (value != null) {
-      return "<" + tag + " " + attributes + ">" + value + "</" + tag + ">";
+    writeNode(details.getFilename(), sourceFile);
+    writeNode(details.getClassName().asJavaName(), mutatedClass);
+    writeNode(details.getMethod(), mutatedMethod);
+    writeNode(details.getId().getLocation().getMethodDesc(), methodDescription);
+    writeNode("" + details.getLineNumber(), lineNumber);
+    writeNode(details.getMutator(), mutator);
+    writeNodes(indexes, details.getId().getIndexes(), index);
+    writeNodes(blocks, details.getBlocks(), block);
+    if (!this.fullMutationMatrix) {
+      writeKillingTest(mutation.getKillingTest());
     } else {
-      return "<" + tag + attributes + "/>";
+      writeTestsNode(mutation.getKillingTests(), killingTests);
+      writeTestsNode(mutation.getSucceedingTests(), succeedingTests);
+      writeTestsNode(mutation.getTimeoutTests(), timeoutTests);
+      writeTestsNode(mutation.getRunErrorTests(), runErrorTests);
+      writeTestsNode(mutation.getMemoryErrorTests(), memoryErrorTests);
     }
-
+    writeNode(details.getDescription(), description);
   }
 
-  private String makeNodeWhenConditionSatisfied(final boolean condition, final String value,
-      final Tag tag) {
-    if (!condition) {
-      return "";
-    }
-    
-    return makeNode(value, tag);
+  private void writeClean(final String value) throws IOException {
+    StringEscapeUtils.ESCAPE_XML11.translate(value, this.out);
   }
 
-  private String makeNode(final String value, final Tag tag) {
+  private void writeNode(final String value, final Tag tag) throws IOException {
     if (value != null) {
-      return "<" + tag + ">" + value + "</" + tag + ">";
+      writeOpen(tag);
+      writeClean(value);
+      writeClose(tag);
     } else {
-      return "<" + tag + "/>";
+      this.out.write("<" + tag + "/>");
     }
   }
 
-  private String makeNodes(Tag topTag, List<Integer> values, final Tag tag) {
-    StringBuilder sb = new StringBuilder();
-    sb.append("<" + topTag + ">");
+  private void writeNodes(Tag topTag, List<Integer> values, final Tag tag)
+      throws IOException {
+    writeOpen(topTag);
     for (Integer each : values) {
-      sb.append(makeNode("" + each, tag));
+      writeOpen(tag);
+      this.out.write(each.toString());
+      writeClose(tag);
     }
-    sb.append("</" + topTag + ">");
-    return sb.toString();
+    writeClose(topTag);
   }
 
-  private String createKillingTestDesc(final Optional<String> killingTest) {
-    return killingTest.map(s -> createTestDesc(Arrays.asList(s)))
-            .orElse(null);
-  }
-  
-  private String createTestDesc(final List<String> tests) {
-    if (tests.isEmpty()) {
-      return "";
+  private void writeKillingTest(final Optional<String> test)
+      throws IOException {
+    if (test.isPresent()) {
+      writeTestsNode(Collections.singletonList(test.get()), killingTest);
+    } else {
+      writeNode(null, killingTest);
     }
-    
-    StringBuilder builder = new StringBuilder();
-    
+  }
+
+  private void writeTestsNode(final List<String> tests, final Tag tag)
+      throws IOException {
+    writeOpen(tag);
+    boolean first = true;
     for (String test : tests) {
-      builder.append(test);
-      builder.append(MUTATION_MATRIX_TEST_SEPARATOR);
+      if (!first) {
+        this.out.write(MUTATION_MATRIX_TEST_SEPARATOR);
+      }
+      writeClean(test);
+      first = false;
     }
-    
-    // remove last separator
-    builder.setLength(builder.length() - 1);
-    
-    return clean(builder.toString());
+    writeClose(tag);
+  }
+
+  private void writeOpen(final Tag tag) throws IOException {
+    this.out.write('<');
+    this.out.write(tag.name());
+    this.out.write('>');
+  }
+
+  private void writeClose(final Tag tag) throws IOException {
+    this.out.write("</");
+    this.out.write(tag.name());
+    this.out.write('>');
   }
 
   private void write(final String value) {
@@ -191,7 +201,11 @@ public class XMLReportListener implements MutationResultListener {
 
   @Override
   public void handleMutationResult(final ClassMutationResults metaData) {
-    writeResult(metaData);
+    try {
+      writeResult(metaData);
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
   }
 
   @Override
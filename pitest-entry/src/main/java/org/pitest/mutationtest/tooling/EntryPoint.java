@@ -1,5 +1,6 @@
 package org.pitest.mutationtest.tooling;
 
+import org.pitest.classinfo.CachingByteArraySource;
 import org.pitest.classpath.ClassPath;
 import org.pitest.classpath.ClassPathByteArraySource;
 import org.pitest.classpath.CodeSource;
@@ -9,27 +10,29 @@ import org.pitest.coverage.execute.CoverageOptions;
 import org.pitest.coverage.execute.DefaultCoverageGenerator;
 import org.pitest.mutationtest.HistoryStore;
 import org.pitest.mutationtest.MutationResultListenerFactory;
+import org.pitest.mutationtest.TestRegistry;
 import org.pitest.mutationtest.config.PluginServices;
 import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.mutationtest.config.SettingsFactory;
+import org.pitest.mutationtest.incremental.BinaryHistoryStore;
 import org.pitest.mutationtest.incremental.NullHistoryStore;
-import org.pitest.mutationtest.incremental.NullWriterFactory;
-import org.pitest.mutationtest.incremental.ObjectOutputStreamHistoryStore;
-import org.pitest.mutationtest.incremental.WriterFactory;
 import org.pitest.plugin.Feature;
 import org.pitest.plugin.FeatureParameter;
 import org.pitest.process.ArgLineParser;
+import org.pitest.process.ClassDataArchive;
+import org.pitest.process.ClasspathJarCache;
 import org.pitest.process.JavaAgent;
 import org.pitest.process.LaunchOptions;
 import org.pitest.util.Log;
 import org.pitest.util.PitError;
 import org.pitest.util.ResultOutputStrategy;
 import org.pitest.util.Timings;
+import org.pitest.util.Unchecked;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.Reader;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -85,12 +88,17 @@ public class EntryPoint {
 
     checkMatrixMode(data);
 
-    final ClassPath cp = data.getClassPath();
+    // one class path is shared by everything so each archive is opened once
+    final ProjectClassPaths cps = data.getMutationClassPaths();
+    final ClassPath cp = cps.getClassPath();
+
+    // bytes for every class read by this process are shared through one cache
+    final CachingByteArraySource classBytes = new CachingByteArraySource(
+        new ClassPathByteArraySource(cp), CodeSource.CLASS_CACHE_BYTES);
 
     // workaround for apparent java 1.5 JVM bug . . . might not play nicely
     // with distributed testing
-    final JavaAgent jac = new JarCreatingJarFinder(
-        new ClassPathByteArraySource(cp));
+    final JavaAgent jac = new JarCreatingJarFinder(classBytes);
 
     final KnownLocationJavaAgentFinder ja = new KnownLocationJavaAgentFinder(
         jac.getJarLocation().get());
@@ -101,22 +109,28 @@ public class EntryPoint {
         .createListener();
 
     final CoverageOptions coverageOptions = settings.createCoverageOptions();
+    final Optional<ClassDataArchive> classData = makeClassDataArchive(data,
+        settings.getJavaExecutable().javaExecutable());
+    final Optional<ClasspathJarCache> classpathJars = makeClasspathJarCache(data,
+        classData.isPresent());
     final LaunchOptions launchOptions = new LaunchOptions(ja,
         settings.getJavaExecutable(), createJvmArgs(data), environmentVariables)
-        .usingClassPathJar(data.useClasspathJar());
-    final ProjectClassPaths cps = data.getMutationClassPaths();
+        .usingClassPathJar(data.useClasspathJar())
+        .withClassDataArchive(classData.orElse(null))
+        .withClasspathJars(classpathJars.orElse(null));
 
-    final CodeSource code = new CodeSource(cps);
+    final CodeSource code = new CodeSource(cps, classBytes);
 
     final Timings timings = new Timings();
+    timings.registerCache("class bytes cache", classBytes);
     final CoverageGenerator coverageDatabase = new DefaultCoverageGenerator(
         baseDir, coverageOptions, launchOptions, code,
-        settings.createCoverageExporter(), timings, data.getVerbosity());
+        settings.createCoverageExporter(), timings, data.getVerbosity(),
+        data.getCoverageMinions(), data.isNarrowToFailingTests()
+            ? data.getFailingTests() : Collections.emptyList());
 
 
-    final Optional<WriterFactory> maybeWriter = data.createHistoryWriter();
-    WriterFactory historyWriter = maybeWriter.orElse(new NullWriterFactory());
-    final HistoryStore history = makeHistoryStore(data, maybeWriter);
+    final HistoryStore history = makeHistoryStore(data);
 
     final MutationStrategies strategies = new MutationStrategies(
         settings.createEngine(), history, coverageDatabase, reportFactory,
@@ -132,7 +146,11 @@ public class EntryPoint {
     } finally {
       jac.close();
       ja.close();
-      historyWriter.close();
+      history.close();
+      cp.close();
+      classData.ifPresent(ClassDataArchive::delete);
+      classpathJars.ifPresent(ClasspathJarCache::close);
+      TestRegistry.endRun();
     }
 
   }
@@ -148,12 +166,43 @@ public class EntryPoint {
 
   }
 
-  private HistoryStore makeHistoryStore(ReportOptions data,  Optional<WriterFactory> historyWriter) {
-    final Optional<Reader> reader = data.createHistoryReader();
-    if (!reader.isPresent() && !historyWriter.isPresent()) {
+  private HistoryStore makeHistoryStore(ReportOptions data) {
+    if (data.getHistoryInputLocation() == null && data.getHistoryOutputLocation() == null) {
       return new NullHistoryStore();
     }
-    return new ObjectOutputStreamHistoryStore(historyWriter.orElse(new NullWriterFactory()), reader);
+    return new BinaryHistoryStore(data.getHistoryInputLocation(), data.getHistoryOutputLocation());
+  }
+
+  private Optional<ClasspathJarCache> makeClasspathJarCache(ReportOptions data,
+      boolean sharingClassData) {
+    // a class data archive is only shared by launches from the same jar
+    if (!data.useClasspathJar() && !sharingClassData) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(new ClasspathJarCache());
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private Optional<ClassDataArchive> makeClassDataArchive(ReportOptions data,
+      String javaExecutable) {
+    if (!data.isUseClassDataSharing()) {
+      return Optional.empty();
+    }
+    if (!ClassDataArchive.isSupportedBy(javaExecutable)) {
+      Log.getLogger().warning("Class data sharing needs java 13 or later for "
+          + javaExecutable + ", minions will launch without it");
+      return Optional.empty();
+    }
+    try {
+      final File dir = new File(data.getReportDir());
+      dir.mkdirs();
+      return Optional.of(new ClassDataArchive(File.createTempFile("minions", ".jsa", dir)));
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
   }
 
   private void checkMatrixMode(ReportOptions data) {
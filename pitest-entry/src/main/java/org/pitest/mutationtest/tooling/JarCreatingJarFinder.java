@@ -33,6 +33,7 @@ import org.pitest.util.Unchecked;
 
 import sun.pitest.CodeCoverageStore;
 import sun.pitest.InvokeReceiver;
+import sun.pitest.ProbeHitReceiver;
 
 public class JarCreatingJarFinder implements JavaAgent {
 
@@ -98,6 +99,7 @@ public class JarCreatingJarFinder implements JavaAgent {
       addClass(HotSwapAgent.class, jos);
       addClass(CodeCoverageStore.class, jos);
       addClass(InvokeReceiver.class, jos);
+      addClass(ProbeHitReceiver.class, jos);
     }
   }
 
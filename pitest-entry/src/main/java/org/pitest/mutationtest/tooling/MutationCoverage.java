@@ -19,12 +19,12 @@ import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassInfo;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.HierarchicalClassId;
-import org.pitest.classpath.ClassPathByteArraySource;
 import org.pitest.classpath.ClassloaderByteArraySource;
 import org.pitest.classpath.CodeSource;
 import org.pitest.coverage.CoverageDatabase;
 import org.pitest.coverage.CoverageGenerator;
 import org.pitest.coverage.CoverageSummary;
+import org.pitest.coverage.FailingTests;
 import org.pitest.coverage.NoCoverage;
 import org.pitest.coverage.TestInfo;
 import org.pitest.functional.FCollection;
@@ -46,9 +46,13 @@ import org.pitest.mutationtest.build.TestPrioritiser;
 import org.pitest.mutationtest.build.WorkerFactory;
 import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.mutationtest.config.SettingsFactory;
+import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationEngine;
+import org.pitest.mutationtest.execute.MinionPool;
 import org.pitest.mutationtest.execute.MutationAnalysisExecutor;
+import org.pitest.mutationtest.incremental.CoverageFingerprint;
 import org.pitest.mutationtest.incremental.DefaultCodeHistory;
+import org.pitest.mutationtest.incremental.MethodHashes;
 import org.pitest.mutationtest.incremental.HistoryListener;
 import org.pitest.mutationtest.incremental.IncrementalAnalyser;
 import org.pitest.mutationtest.incremental.NullHistoryStore;
@@ -64,11 +68,15 @@ import java.io.IOException;
 import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -78,6 +86,8 @@ public class MutationCoverage {
 
   private static final int         MB  = 1024 * 1024;
 
+  private static final long        FALLBACK_CACHE_BYTES = 8 * MB;
+
   private static final Logger      LOG = Log.getLogger();
   private final ReportOptions      data;
 
@@ -86,6 +96,7 @@ public class MutationCoverage {
   private final CodeSource         code;
   private final File               baseDir;
   private final SettingsFactory    settings;
+  private final ClassByteArraySource classBytes;
 
   public MutationCoverage(final MutationStrategies strategies,
       final File baseDir, final CodeSource code, final ReportOptions data,
@@ -96,6 +107,7 @@ public class MutationCoverage {
     this.timings = timings;
     this.code = code;
     this.baseDir = baseDir;
+    this.classBytes = fallbackToClassLoader(code);
   }
 
   public CombinedStatistics runReport() throws IOException {
@@ -124,8 +136,20 @@ public class MutationCoverage {
             .withMutators(this.data.getMutators());
     final MutationEngine engine = this.strategies.factory().createEngine(args);
 
-    List<MutationAnalysisUnit> preScanMutations = findMutations(engine, args);
-    LOG.info("Created " + preScanMutations.size() + " mutation test units in pre scan");
+    // when narrowing to the code reached by failing tests, coverage is needed
+    // before discovery so that only the classes they reach are scanned
+    final FailingTests failingTests = new FailingTests(this.data.getFailingTests());
+    final boolean narrow = this.data.isNarrowToFailingTests() && !failingTests.isEmpty();
+    final CoverageDatabase narrowedCoverage = narrow ? coverage().calculateCoverage() : null;
+    final Set<ClassName> targets = narrow
+        ? classesReachedBy(failingTests, narrowedCoverage)
+        : this.code.getCodeUnderTestNames();
+
+    List<MutationDetails> preScanMutations = findMutations(engine, args, targets);
+    if (narrow) {
+      preScanMutations = onLinesReachedBy(failingTests, narrowedCoverage, preScanMutations);
+    }
+    LOG.info("Found " + preScanMutations.size() + " mutations in pre scan");
 
     // throw error if configured to do so
     checkMutationsFound(preScanMutations);
@@ -135,8 +159,32 @@ public class MutationCoverage {
       return emptyStatistics();
     }
 
-    return runAnalysis(runtime, t0, args, engine);
+    final CoverageDatabase coverageData = narrow ? narrowedCoverage : coverage().calculateCoverage();
+    return runAnalysis(runtime, t0, args, engine, coverageData, targets,
+        byClass(targets, preScanMutations));
+
+  }
 
+  private Set<ClassName> classesReachedBy(FailingTests failingTests, CoverageDatabase coverageData) {
+    final Set<ClassName> reached = new HashSet<>();
+    for (final ClassName each : this.code.getCodeUnderTestNames()) {
+      if (failingTests.containsAny(coverageData.getTestsForClass(each))) {
+        reached.add(each);
+      }
+    }
+    LOG.info("Failing tests reach " + reached.size() + " classes");
+    return reached;
+  }
+
+  private static List<MutationDetails> onLinesReachedBy(FailingTests failingTests,
+      CoverageDatabase coverageData, List<MutationDetails> mutations) {
+    final List<MutationDetails> reached = new ArrayList<>();
+    for (final MutationDetails each : mutations) {
+      if (failingTests.containsAny(coverageData.getTestsForClassLine(each.getClassLine()))) {
+        reached.add(each);
+      }
+    }
+    return reached;
   }
 
   private CombinedStatistics emptyStatistics() {
@@ -144,8 +192,9 @@ public class MutationCoverage {
     return new CombinedStatistics(mutationStatistics, new CoverageSummary(0,0));
   }
 
-  private CombinedStatistics runAnalysis(Runtime runtime, long t0, EngineArguments args, MutationEngine engine) {
-    CoverageDatabase coverageData = coverage().calculateCoverage();
+  private CombinedStatistics runAnalysis(Runtime runtime, long t0, EngineArguments args, MutationEngine engine,
+                                         CoverageDatabase coverageData, Set<ClassName> targets,
+                                         Map<ClassName, Collection<MutationDetails>> preScanMutations) {
     LOG.info("Number of covered lines: " + coverageData.createSummary().getNumberOfCoveredLines());
     HistoryStore history =  this.strategies.history();
 
@@ -158,27 +207,30 @@ public class MutationCoverage {
 
     history.initialize();
 
-    this.timings.registerStart(Timings.Stage.BUILD_MUTATION_TESTS);
-    final List<MutationAnalysisUnit> tus = buildMutationTests(coverageData, history,
-            engine, args, allInterceptors());
-    this.timings.registerEnd(Timings.Stage.BUILD_MUTATION_TESTS);
-
-    LOG.info("Created " + tus.size() + " mutation test units" );
-
-    recordClassPath(history, coverageData);
-
-    LOG.fine("Used memory before analysis start "
-        + ((runtime.totalMemory() - runtime.freeMemory()) / MB) + " mb");
-    LOG.fine("Free Memory before analysis start " + (runtime.freeMemory() / MB)
-        + " mb");
-
-    final List<MutationResultListener> config = createConfig(t0, coverageData, history,
-                stats, engine);
-    final MutationAnalysisExecutor mae = new MutationAnalysisExecutor(
-        numberOfThreads(), config);
-    this.timings.registerStart(Timings.Stage.RUN_MUTATION_TESTS);
-    mae.run(tus);
-    this.timings.registerEnd(Timings.Stage.RUN_MUTATION_TESTS);
+    try (MinionPool minions = new MinionPool(this.data.getMaxUnitsPerMinion())) {
+      this.timings.registerStart(Timings.Stage.BUILD_MUTATION_TESTS);
+      final List<MutationAnalysisUnit> tus = mutationTestBuilder(coverageData, history,
+              engine, args, notInPrescan(), minions, preScanMutations)
+          .createMutationTestUnits(targets);
+      this.timings.registerEnd(Timings.Stage.BUILD_MUTATION_TESTS);
+
+      LOG.info("Created " + tus.size() + " mutation test units" );
+
+      recordClassPath(history, coverageData);
+
+      LOG.fine("Used memory before analysis start "
+          + ((runtime.totalMemory() - runtime.freeMemory()) / MB) + " mb");
+      LOG.fine("Free Memory before analysis start " + (runtime.freeMemory() / MB)
+          + " mb");
+
+      final List<MutationResultListener> config = createConfig(t0, coverageData, history,
+                  stats, engine);
+      final MutationAnalysisExecutor mae = new MutationAnalysisExecutor(
+          numberOfThreads(), config);
+      this.timings.registerStart(Timings.Stage.RUN_MUTATION_TESTS);
+      mae.run(tus);
+      this.timings.registerEnd(Timings.Stage.RUN_MUTATION_TESTS);
+    }
 
     LOG.info("Completed in " + timeSpan(t0));
 
@@ -190,19 +242,23 @@ public class MutationCoverage {
     return combined;
   }
 
-  private Predicate<MutationInterceptor> allInterceptors() {
-    return i -> true;
+  private Predicate<MutationInterceptor> notInPrescan() {
+    return i -> !i.type().includeInPrescan();
   }
 
-  private List<MutationAnalysisUnit> findMutations(MutationEngine engine, EngineArguments args) {
-    // Run mutant discovery without coverage data or history.
-    // Ideally we'd ony discover mutants once, but the process is currently tightly
-    // entangled with coverage data. Generating coverage data is expensive for
-    // some projects, while discovery usually takes less than 1 second. By doing
-    // an initial run here we are able to skip coverage generation when no mutants
-    // are found, e.g if pitest is being run against diffs.
+  private List<MutationDetails> findMutations(MutationEngine engine, EngineArguments args,
+                                              Set<ClassName> targets) {
+    // Run mutant discovery without coverage data or history, applying only the
+    // interceptors that do not need coverage. Generating coverage data is expensive
+    // for some projects, so by doing this first we are able to skip it when no
+    // mutants are found, e.g if pitest is being run against diffs. The mutants
+    // found are kept, and once coverage is known only the remaining interceptors
+    // are applied to them. As interceptors run in order of type, and the prescan
+    // types come first, this gives the same result as a full second scan.
     this.timings.registerStart(Timings.Stage.MUTATION_PRE_SCAN);
-    List<MutationAnalysisUnit> mutants = buildMutationTests(new NoCoverage(), new NullHistoryStore(), engine, args, noReportsOrFilters());
+    final List<MutationDetails> mutants = mutationTestBuilder(new NoCoverage(), new NullHistoryStore(), engine, args,
+        noReportsOrFilters(), MinionPool.disabled(), Collections.emptyMap())
+        .findMutations(targets);
     this.timings.registerEnd(Timings.Stage.MUTATION_PRE_SCAN);
     return mutants;
   }
@@ -211,6 +267,19 @@ public class MutationCoverage {
     return i -> i.type().includeInPrescan();
   }
 
+  private Map<ClassName, Collection<MutationDetails>> byClass(Set<ClassName> targets,
+                                                              List<MutationDetails> mutations) {
+    // classes without mutants are recorded too, so they are not scanned again
+    final Map<ClassName, Collection<MutationDetails>> byClass = new HashMap<>();
+    for (final ClassName each : targets) {
+      byClass.put(each, new ArrayList<>());
+    }
+    for (final MutationDetails each : mutations) {
+      byClass.computeIfAbsent(each.getClassName(), c -> new ArrayList<>()).add(each);
+    }
+    return byClass;
+  }
+
 
   private void checkExcludedRunners() {
     final Collection<String> excludedRunners = this.data.getExcludedRunners();
@@ -246,7 +315,7 @@ public class MutationCoverage {
         .listenerFactory().getListener(this.data.getFreeFormProperties(), args);
 
     ls.add(mutationReportListener);
-    ls.add(new HistoryListener(history));
+    ls.add(new HistoryListener(history, new CoverageFingerprint(this.code)));
 
     if (this.data.getVerbosity().showSpinner()) {
       ls.add(new SpinnerListener(System.out));
@@ -258,7 +327,16 @@ public class MutationCoverage {
     final Set<ClassName> allClassNames = getAllClassesAndTests(coverageData);
     final Collection<HierarchicalClassId> ids = FCollection.map(
         this.code.getClassInfo(allClassNames), ClassInfo.toFullClassId());
-    history.recordClassPath(ids, coverageData);
+    final Set<ClassName> codeUnderTest = this.code.getCodeUnderTestNames();
+    history.recordClassPath(ids, coverageData,
+        clazz -> codeUnderTest.contains(clazz) ? methodHashes(clazz)
+            : Collections.emptyMap());
+  }
+
+  private Map<String, Long> methodHashes(ClassName clazz) {
+    return this.classBytes.getBytes(clazz.asJavaName())
+        .map(MethodHashes::hash)
+        .orElse(Collections.emptyMap());
   }
 
   private Set<ClassName> getAllClassesAndTests(
@@ -306,27 +384,28 @@ public class MutationCoverage {
     stats.report(ps);
   }
 
-  private List<MutationAnalysisUnit> buildMutationTests(CoverageDatabase coverageData,
-                                                        HistoryStore history,
-                                                        MutationEngine engine,
-                                                        EngineArguments args,
-                                                        Predicate<MutationInterceptor> interceptorFilter) {
+  private MutationTestBuilder mutationTestBuilder(CoverageDatabase coverageData,
+                                                  HistoryStore history,
+                                                  MutationEngine engine,
+                                                  EngineArguments args,
+                                                  Predicate<MutationInterceptor> interceptorFilter,
+                                                  MinionPool minions,
+                                                  Map<ClassName, Collection<MutationDetails>> prescanned) {
 
     final MutationConfig mutationConfig = new MutationConfig(engine, coverage()
         .getLaunchOptions());
 
-    final ClassByteArraySource bas = new CachingByteArraySource(fallbackToClassLoader(new ClassPathByteArraySource(
-        this.data.getClassPath())), 200);
-
     final TestPrioritiser testPrioritiser = this.settings.getTestPrioritiser()
         .makeTestPrioritiser(this.data.getFreeFormProperties(), this.code,
             coverageData);
 
-    final MutationInterceptor interceptor = this.settings.getInterceptor()
-            .createInterceptor(this.data, coverageData, bas)
+    // interceptors keep per class state, so each discovery thread gets its own
+    final Supplier<MutationInterceptor> interceptors = () -> this.settings.getInterceptor()
+            .createInterceptor(this.data, coverageData, this.classBytes)
             .filter(interceptorFilter);
 
-    final MutationSource source = new MutationSource(mutationConfig, testPrioritiser, bas, interceptor, data.getFailingTests());
+    final MutationSource source = new MutationSource(mutationConfig, testPrioritiser, this.classBytes, interceptors,
+        data.getFailingTests(), prescanned);
 
     final MutationAnalyser analyser = new IncrementalAnalyser(
         new DefaultCodeHistory(this.code, history), coverageData);
@@ -335,19 +414,17 @@ public class MutationCoverage {
         .getConfiguration(), mutationConfig, args,
         new PercentAndConstantTimeoutStrategy(this.data.getTimeoutFactor(),
             this.data.getTimeoutConstant()), this.data.getVerbosity(), this.data.isFullMutationMatrix(),
-            this.data.getClassPath().getLocalClassPath());
+            this.data.getClassPath().getLocalClassPath(), minions);
 
     final MutationGrouper grouper = this.settings.getMutationGrouper().makeFactory(
         this.data.getFreeFormProperties(), this.code,
         this.data.getNumberOfThreads(), this.data.getMutationUnitSize());
-    final MutationTestBuilder builder = new MutationTestBuilder(wf, analyser,
-        source, grouper);
-
-    return builder.createMutationTestUnits(this.code.getCodeUnderTestNames());
+    return new MutationTestBuilder(wf, analyser, source, grouper,
+        numberOfThreads());
   }
 
-  private void checkMutationsFound(final List<MutationAnalysisUnit> tus) {
-    if (tus.isEmpty()) {
+  private void checkMutationsFound(final List<MutationDetails> mutations) {
+    if (mutations.isEmpty()) {
       if (this.data.shouldFailWhenNoMutations()) {
         throw new PitHelpError(Help.NO_MUTATIONS_FOUND);
       } else {
@@ -368,7 +445,9 @@ public class MutationCoverage {
   // projects during static analysis phase. For now fall back to the classloader when
   // a class not provided by project classpath
   private ClassByteArraySource fallbackToClassLoader(final ClassByteArraySource bas) {
-    final ClassByteArraySource clSource = ClassloaderByteArraySource.fromContext();
+    final CachingByteArraySource clSource = new CachingByteArraySource(
+        ClassloaderByteArraySource.fromContext(), FALLBACK_CACHE_BYTES);
+    this.timings.registerCache("classloader bytes cache", clSource);
     return clazz -> {
       final Optional<byte[]> maybeBytes = bas.getBytes(clazz);
       if (maybeBytes.isPresent()) {
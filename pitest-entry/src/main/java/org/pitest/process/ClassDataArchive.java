@@ -0,0 +1,129 @@
+package org.pitest.process;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A dynamic class data sharing archive for the minions of a run. It is
+ * written when the one minion asked to record it exits, and later minions map
+ * the classes it holds rather than loading and verifying them again. The
+ * options need a java 13 or later minion JVM, see {@link #isSupportedBy}.
+ *
+ * <p>Class data cannot be recorded with directories on the command line class
+ * path, and is shared only with launches from the class path it was recorded
+ * with, so minions using the archive must launch from the same classpath jar.
+ */
+public class ClassDataArchive {
+
+  private static final int     FIRST_SUPPORTING_VERSION = 13;
+
+  private static final Pattern VERSION = Pattern
+      .compile("version \"(1\\.)?(\\d+)");
+
+  // minions are short lived, so skip the shared memory file for jstat
+  private static final String NO_PERF_DATA = "-XX:-UsePerfData";
+
+  // minions run with the pitest agent, which otherwise aborts the dump, and
+  // an archive is only mapped by launches with the same setting
+  private static final String UNLOCK_DIAGNOSTIC = "-XX:+UnlockDiagnosticVMOptions";
+  private static final String ALLOW_AGENT       = "-XX:+AllowArchivingWithJavaAgent";
+
+  private final File archive;
+
+  public ClassDataArchive(final File archive) {
+    this.archive = archive;
+  }
+
+  /**
+   * True if the JVM launched by the executable can record and share a
+   * dynamic archive
+   */
+  public static boolean isSupportedBy(final String javaExecutable) {
+    return majorVersion(javaExecutable) >= FIRST_SUPPORTING_VERSION;
+  }
+
+  public File getFile() {
+    return this.archive;
+  }
+
+  public List<String> recordingArgs() {
+    return Arrays.asList(NO_PERF_DATA, UNLOCK_DIAGNOSTIC, ALLOW_AGENT,
+        "-XX:ArchiveClassesAtExit=" + this.archive.getAbsolutePath());
+  }
+
+  /**
+   * Args to share the archive, or none until it has been written
+   */
+  public List<String> sharingArgs() {
+    if (this.archive.length() == 0) {
+      return Collections.emptyList();
+    }
+    return Arrays.asList(NO_PERF_DATA, UNLOCK_DIAGNOSTIC, ALLOW_AGENT,
+        "-XX:SharedArchiveFile=" + this.archive.getAbsolutePath());
+  }
+
+  public void delete() {
+    this.archive.delete();
+  }
+
+  /**
+   * Major version of the JVM, read from the release file of the java home
+   * the executable is in where there is one, or -1 if it cannot be found
+   */
+  private static int majorVersion(final String javaExecutable) {
+    final File bin = new File(javaExecutable).getAbsoluteFile().getParentFile();
+    final File release = new File(bin.getParentFile(), "release");
+    try {
+      if (release.isFile()) {
+        for (final String line : Files.readAllLines(release.toPath(),
+            StandardCharsets.UTF_8)) {
+          if (line.startsWith("JAVA_VERSION=")) {
+            return parseMajorVersion(line.replace("JAVA_VERSION=",
+                "version "));
+          }
+        }
+      }
+      return parseMajorVersion(versionOutput(javaExecutable));
+    } catch (final IOException e) {
+      return -1;
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return -1;
+    }
+  }
+
+  static int parseMajorVersion(final String versionOutput) {
+    final Matcher m = VERSION.matcher(versionOutput);
+    if (!m.find()) {
+      return -1;
+    }
+    return Integer.parseInt(m.group(2));
+  }
+
+  private static String versionOutput(final String javaExecutable)
+      throws IOException, InterruptedException {
+    final Process process = new ProcessBuilder(javaExecutable, "-version")
+        .redirectErrorStream(true).start();
+    final StringBuilder output = new StringBuilder();
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+        process.getInputStream(), StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        output.append(line).append('\n');
+      }
+    }
+    process.waitFor(10, TimeUnit.SECONDS);
+    return output.toString();
+  }
+
+}
@@ -0,0 +1,76 @@
+package org.pitest.process;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.pitest.util.ManifestUtils;
+import org.pitest.util.PitError;
+
+/**
+ * Classpath jars for the processes launched during a run. Each distinct
+ * classpath is written to a jar once, named by a hash of its content, and
+ * every later launch with that classpath is given the same jar. The jars are
+ * deleted when the cache is closed at the end of the run.
+ */
+public class ClasspathJarCache {
+
+  private final File              dir;
+  private final Map<String, File> jars = new HashMap<>();
+
+  public ClasspathJarCache() throws IOException {
+    this(createTempDir());
+  }
+
+  public ClasspathJarCache(final File dir) {
+    this.dir = dir;
+  }
+
+  public synchronized File jarFor(final String classPath) throws IOException {
+    File jar = this.jars.get(classPath);
+    if (jar == null) {
+      jar = new File(this.dir, ManifestUtils.CLASSPATH_JAR_FILE_PREFIX
+          + hash(classPath) + ".jar");
+      if (!jar.exists()) {
+        ManifestUtils.writeClasspathJarFile(classPath, jar);
+      }
+      this.jars.put(classPath, jar);
+    }
+    return jar;
+  }
+
+  public synchronized void close() {
+    for (final File each : this.jars.values()) {
+      each.delete();
+    }
+    this.jars.clear();
+    this.dir.delete();
+  }
+
+  private static File createTempDir() throws IOException {
+    final File dir = Files.createTempDirectory("pitest-classpath").toFile();
+    // registered before the jars, so deleted after them if close is missed
+    dir.deleteOnExit();
+    return dir;
+  }
+
+  private static String hash(final String classPath) {
+    try {
+      final byte[] digest = MessageDigest.getInstance("SHA-256")
+          .digest(classPath.getBytes(StandardCharsets.UTF_8));
+      final StringBuilder hex = new StringBuilder();
+      for (int i = 0; i != 16; i++) {
+        hex.append(String.format("%02x", digest[i]));
+      }
+      return hex.toString();
+    } catch (final NoSuchAlgorithmException e) {
+      throw new PitError("SHA-256 not available", e);
+    }
+  }
+
+}
@@ -18,6 +18,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 public class LaunchOptions {
 
@@ -26,6 +27,8 @@ public class LaunchOptions {
   private final JavaExecutableLocator javaExecutable;
   private final Map<String, String>   environmentVariables;
   private final boolean               usingClassPathJar;
+  private final ClassDataArchive      classDataArchive;
+  private final ClasspathJarCache     classpathJars;
 
   public LaunchOptions(JavaAgent javaAgentFinder) {
     this(javaAgentFinder, new DefaultJavaExecutableLocator(), Collections
@@ -44,11 +47,23 @@ public class LaunchOptions {
                        List<String> childJVMArgs,
                        Map<String, String> environmentVariables,
                        boolean usingClassPathJar) {
+    this(javaAgentFinder, javaExecutable, childJVMArgs, environmentVariables, usingClassPathJar, null, null);
+  }
+
+  public LaunchOptions(JavaAgent javaAgentFinder,
+                       JavaExecutableLocator javaExecutable,
+                       List<String> childJVMArgs,
+                       Map<String, String> environmentVariables,
+                       boolean usingClassPathJar,
+                       ClassDataArchive classDataArchive,
+                       ClasspathJarCache classpathJars) {
     this.javaAgentFinder = javaAgentFinder;
     this.childJVMArgs = childJVMArgs;
     this.javaExecutable = javaExecutable;
     this.environmentVariables = environmentVariables;
     this.usingClassPathJar = usingClassPathJar;
+    this.classDataArchive = classDataArchive;
+    this.classpathJars = classpathJars;
   }
 
   public JavaAgent getJavaAgentFinder() {
@@ -68,10 +83,33 @@ public class LaunchOptions {
   }
 
   public LaunchOptions usingClassPathJar(boolean useJar) {
-    return new LaunchOptions(javaAgentFinder, javaExecutable, childJVMArgs, environmentVariables, useJar);
+    return new LaunchOptions(javaAgentFinder, javaExecutable, childJVMArgs, environmentVariables, useJar,
+        classDataArchive, classpathJars);
+  }
+
+  public LaunchOptions withClassDataArchive(ClassDataArchive archive) {
+    return new LaunchOptions(javaAgentFinder, javaExecutable, childJVMArgs, environmentVariables, usingClassPathJar,
+        archive, classpathJars);
+  }
+
+  /**
+   * Launches needing a classpath jar take it from the cache rather than each
+   * writing their own
+   */
+  public LaunchOptions withClasspathJars(ClasspathJarCache jars) {
+    return new LaunchOptions(javaAgentFinder, javaExecutable, childJVMArgs, environmentVariables, usingClassPathJar,
+        classDataArchive, jars);
   }
   
   public boolean useClasspathJar() {
     return usingClassPathJar;
   }
+
+  public Optional<ClassDataArchive> getClassDataArchive() {
+    return Optional.ofNullable(classDataArchive);
+  }
+
+  public Optional<ClasspathJarCache> getClasspathJars() {
+    return Optional.ofNullable(classpathJars);
+  }
 }
@@ -21,6 +21,7 @@ import java.io.File;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Consumer;
 
 import org.pitest.classpath.ClassPath;
@@ -36,6 +37,9 @@ public final class ProcessArgs {
   private String              javaExecutable;
   private Map<String, String> environmentVariables;
   private boolean             useClasspathJar = false;
+  private ClassDataArchive    classDataArchive;
+  private ClasspathJarCache   classpathJars;
+  private boolean             recordClassData = false;
 
   private ProcessArgs(final String launchClassPath) {
     this.launchClassPath = launchClassPath;
@@ -63,6 +67,15 @@ public final class ProcessArgs {
     this.stdErr = stderr;
     return this;
   }
+
+  /**
+   * When a class data archive is configured, record it from this process
+   * rather than share it
+   */
+  public ProcessArgs andRecordClassData(final boolean record) {
+    this.recordClassData = record;
+    return this;
+  }
   
   public String getLaunchClassPath() {
     return this.launchClassPath;
@@ -95,13 +108,29 @@ public final class ProcessArgs {
   public boolean useClasspathJar() {
     return useClasspathJar;
   }
+
+  public Optional<ClassDataArchive> getClassDataArchive() {
+    return Optional.ofNullable(this.classDataArchive);
+  }
+
+  public Optional<ClasspathJarCache> getClasspathJars() {
+    return Optional.ofNullable(this.classpathJars);
+  }
+
+  public boolean recordClassData() {
+    return this.recordClassData;
+  }
   
   public ProcessArgs andLaunchOptions(final LaunchOptions launchOptions) {
     this.jvmArgs = launchOptions.getChildJVMArgs();
     this.javaAgentFinder = launchOptions.getJavaAgentFinder();
     this.javaExecutable = launchOptions.getJavaExecutable();
     this.environmentVariables = launchOptions.getEnvironmentVariables();
-    this.useClasspathJar = launchOptions.useClasspathJar();
+    this.classDataArchive = launchOptions.getClassDataArchive().orElse(null);
+    this.classpathJars = launchOptions.getClasspathJars().orElse(null);
+    // class data is only shared with launches from a classpath jar
+    this.useClasspathJar = launchOptions.useClasspathJar()
+        || this.classDataArchive != null;
     return this;
   }
 
@@ -118,6 +118,9 @@ public class WrappingProcess {
 
     addPITJavaAgent(agentJarLocator, cmd);
 
+    // before the user's args so that these can be overridden
+    addClassDataSharing(cmd);
+
     cmd.addAll(args);
 
     addLaunchJavaAgents(cmd);
@@ -131,8 +134,7 @@ public class WrappingProcess {
     if (this.processArgs.useClasspathJar()) {
       try {
         cmd.add("-classpath");
-        cmd.add(
-            ManifestUtils.createClasspathJarFile(classPath).getAbsolutePath());
+        cmd.add(classpathJar(classPath).getAbsolutePath());
       } catch (Exception e) {
         throw new RuntimeException("Unable to create jar to contain classpath",
             e);
@@ -140,6 +142,20 @@ public class WrappingProcess {
     }
   }
 
+  private File classpathJar(String classPath) throws IOException {
+    final Optional<ClasspathJarCache> jars = this.processArgs.getClasspathJars();
+    if (jars.isPresent()) {
+      return jars.get().jarFor(classPath);
+    }
+    return ManifestUtils.createClasspathJarFile(classPath);
+  }
+
+  private void addClassDataSharing(List<String> cmd) {
+    this.processArgs.getClassDataArchive().ifPresent(archive -> cmd.addAll(
+        this.processArgs.recordClassData() ? archive.recordingArgs()
+            : archive.sharingArgs()));
+  }
+
   private static void addPITJavaAgent(JavaAgent agentJarLocator,
       List<String> cmd) {
     final Optional<String> jarLocation = agentJarLocator.getJarLocation();
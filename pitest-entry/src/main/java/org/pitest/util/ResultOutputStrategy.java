@@ -14,10 +14,27 @@
  */
 package org.pitest.util;
 
+import java.io.OutputStream;
 import java.io.Writer;
+import java.util.Optional;
 
 public interface ResultOutputStrategy {
 
   Writer createWriterForFile(String sourceFile);
 
+  /**
+   * Writer for a file compressed with gzip. Strategies that cannot compress
+   * their output write it as is.
+   */
+  default Writer createCompressedWriterForFile(String sourceFile) {
+    return createWriterForFile(sourceFile);
+  }
+
+  /**
+   * Stream for a binary file, or none if the strategy can only write text
+   */
+  default Optional<OutputStream> createOutputStreamForFile(String sourceFile) {
+    return Optional.empty();
+  }
+
 }
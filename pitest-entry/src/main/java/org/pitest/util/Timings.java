@@ -19,6 +19,8 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 
+import org.pitest.classinfo.CachingByteArraySource;
+
 public class Timings {
 
   public enum Stage {
@@ -41,6 +43,7 @@ public class Timings {
   }
 
   private final Map<Stage, TimeSpan> timings = new LinkedHashMap<>();
+  private final Map<String, CachingByteArraySource> caches = new LinkedHashMap<>();
 
   public void registerStart(final Stage stage) {
     this.timings.put(stage, new TimeSpan(System.currentTimeMillis(), 0));
@@ -51,6 +54,11 @@ public class Timings {
     this.timings.get(stage).setEnd(end);
   }
 
+  public void registerCache(final String name,
+      final CachingByteArraySource cache) {
+    this.caches.put(name, cache);
+  }
+
   public void report(final PrintStream ps) {
     long total = 0;
     for (final Entry<Stage, TimeSpan> each : this.timings.entrySet()) {
@@ -60,6 +68,19 @@ public class Timings {
     ps.println(StringUtil.separatorLine());
     ps.println("> Total " + " : " + new TimeSpan(0, total));
     ps.println(StringUtil.separatorLine());
+    boolean reported = false;
+    for (final Entry<String, CachingByteArraySource> each : this.caches.entrySet()) {
+      final long hits = each.getValue().hits();
+      final long requests = hits + each.getValue().misses();
+      if (requests != 0) {
+        ps.println("> " + each.getKey() + " : " + ((hits * 100) / requests)
+            + "% hits (" + hits + " of " + requests + " requests)");
+        reported = true;
+      }
+    }
+    if (reported) {
+      ps.println(StringUtil.separatorLine());
+    }
   }
 
 }
@@ -0,0 +1,9 @@
+package com.example.narrowing;
+
+public class NotReached {
+
+  public static int third(int i) {
+    return i - 1;
+  }
+
+}
@@ -0,0 +1,15 @@
+package com.example.narrowing;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class OtherTest {
+
+  @Test
+  public void passes() {
+    assertEquals(6, Reached.second(3));
+    assertEquals(2, NotReached.third(3));
+  }
+
+}
@@ -0,0 +1,13 @@
+package com.example.narrowing;
+
+public class Reached {
+
+  public static int first(int i) {
+    return i + 1;
+  }
+
+  public static int second(int i) {
+    return i * 2;
+  }
+
+}
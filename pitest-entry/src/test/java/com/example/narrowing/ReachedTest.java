@@ -0,0 +1,20 @@
+package com.example.narrowing;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class ReachedTest {
+
+  @Test
+  public void namedAsFailing() {
+    assertEquals(2, Reached.first(1));
+  }
+
+  @Test
+  public void passes() {
+    assertEquals(3, Reached.first(2));
+    assertEquals(4, Reached.second(2));
+  }
+
+}
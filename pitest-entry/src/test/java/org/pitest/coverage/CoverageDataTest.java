@@ -219,6 +219,18 @@ public class CoverageDataTest {
     assertThat(actual.getTests()).contains("FooTest.fooTest");
   }
 
+  @Test
+  public void shouldReturnEachTestCoveringABlockOnceInNameOrder() {
+    this.testee.calculateClassCoverage(makeCoverageResult("foo", "b", 0, 1));
+    this.testee.calculateClassCoverage(makeCoverageResult("foo", "a", 0, 1));
+    this.testee.calculateClassCoverage(makeCoverageResult("foo", "b", 0, 1));
+    this.testee.calculateClassCoverage(makeCoverageResult("foo", "c", 0, 2));
+
+    final BlockLocation block = makeCoverage("foo", 1).iterator().next();
+    assertThat(FCollection.map(this.testee.getTestsForBlockLocation(block), testInfoToString()))
+        .containsExactly("a", "b");
+  }
+
   @Test
   public void shouldProvideListOfClassesForSourceFile() {
 
@@ -0,0 +1,69 @@
+package org.pitest.coverage;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.testapi.Description;
+
+public class FailingTestsTest {
+
+  private final FailingTests testee = new FailingTests(asList(
+      "com.example.FooTest.fails", "com.example.BarTest.alsoFails"));
+
+  @Test
+  public void shouldMatchTestNamesWithRunnerSuffix() {
+    assertThat(this.testee.contains("com.example.FooTest.fails(com.example.FooTest)"))
+        .isTrue();
+    assertThat(this.testee.contains("com.example.FooTest.passes(com.example.FooTest)"))
+        .isFalse();
+  }
+
+  @Test
+  public void shouldMatchTestNamesWithoutSuffix() {
+    assertThat(this.testee.contains("com.example.FooTest.fails")).isTrue();
+    assertThat(this.testee.contains("com.example.FooTest")).isFalse();
+  }
+
+  @Test
+  public void shouldMatchDescriptionsByQualifiedName() {
+    assertThat(this.testee.contains(new Description(
+        "fails(com.example.FooTest)", "com.example.FooTest"))).isTrue();
+    assertThat(this.testee.contains(new Description("alsoFails",
+        "com.example.BarTest"))).isTrue();
+    assertThat(this.testee.contains(new Description("passes",
+        "com.example.BarTest"))).isFalse();
+  }
+
+  @Test
+  public void shouldFindFailingTestAmongTests() {
+    assertThat(this.testee.containsAny(asList(test("com.example.FooTest.passes"),
+        test("com.example.BarTest.alsoFails[1]")))).isFalse();
+    assertThat(this.testee.containsAny(asList(test("com.example.FooTest.passes"),
+        test("com.example.BarTest.alsoFails")))).isTrue();
+  }
+
+  @Test
+  public void shouldListClassesDeclaringFailingTests() {
+    assertThat(this.testee.testClasses()).containsExactlyInAnyOrder(
+        ClassName.fromString("com.example.FooTest"),
+        ClassName.fromString("com.example.BarTest"));
+  }
+
+  @Test
+  public void shouldMatchNothingWhenNoTestsFailing() {
+    final FailingTests none = new FailingTests(null);
+    assertThat(none.isEmpty()).isTrue();
+    assertThat(none.contains("com.example.FooTest.fails")).isFalse();
+    assertThat(new FailingTests(Collections.emptyList()).isEmpty()).isTrue();
+  }
+
+  private static TestInfo test(String name) {
+    return new TestInfo("com.example.FooTest", name, 0, Optional.empty(), 0);
+  }
+
+}
@@ -4,14 +4,22 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.BlockLocation;
 import org.pitest.coverage.CoverageResult;
+import org.pitest.mutationtest.engine.Location;
 import org.pitest.testapi.Description;
 import org.pitest.util.Id;
 import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
 import sun.pitest.CodeCoverageStore;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.when;
@@ -60,6 +68,53 @@ public class ReceiveTest {
     assertEquals(true, this.result.isGreenTest());
   }
 
+  @Test
+  public void shouldDecodeSparseProbeHits() {
+    final SafeDataInputStream in = encodeCoverage(hits(1, 3, 150));
+    decodeCoverage(in);
+    assertThat(this.result.getCoverage()).containsExactly(block(0), block(2), block(149));
+  }
+
+  @Test
+  public void shouldDecodeDenseProbeHits() {
+    final SafeDataInputStream in = encodeCoverage(hits(IntStream.rangeClosed(1, 200).toArray()));
+    decodeCoverage(in);
+    assertThat(this.result.getCoverage()).hasSize(200);
+    assertThat(this.result.getCoverage()).contains(block(0), block(63), block(64), block(199));
+  }
+
+  private long[] hits(int... probes) {
+    return IntStream.of(probes).mapToLong(p -> CodeCoverageStore.encode(7, p)).toArray();
+  }
+
+  private BlockLocation block(int block) {
+    return new BlockLocation(Location.location(ClassName.fromString("foo"), "bar", "()V"), block);
+  }
+
+  private SafeDataInputStream encodeCoverage(long[] hits) {
+    final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    final SafeDataOutputStream os = new SafeDataOutputStream(bos);
+    os.writeInt(7);
+    os.writeString("foo");
+    os.writeInt(7);
+    os.writeString("bar");
+    os.writeString("()V");
+    os.writeInt(1);
+    os.writeInt(200);
+    os.write(this.description);
+    ProbeHitCodec.write(os, hits, hits.length);
+    os.writeBoolean(true);
+    os.writeInt(42);
+    return new SafeDataInputStream(new ByteArrayInputStream(bos.toByteArray()));
+  }
+
+  private void decodeCoverage(SafeDataInputStream in) {
+    this.testee.apply(Id.CLAZZ, in);
+    this.testee.apply(Id.PROBES, in);
+    this.testee.apply(Id.OUTCOME, in);
+    assertEquals(42, this.result.getExecutionTime());
+  }
+
   private void recordTestCoverage(final int executionTime, final int classId,
       final int probeNumber, final boolean testPassed) {
     when(this.is.readInt()).thenReturn(classId, executionTime);
@@ -67,9 +122,7 @@ public class ReceiveTest {
     this.testee.apply(Id.CLAZZ, this.is);
 
     when(this.is.read(Description.class)).thenReturn(this.description);
-    when(this.is.readInt()).thenReturn(1);
-    when(this.is.readLong()).thenReturn(1L,
-        CodeCoverageStore.encode(classId, probeNumber));
+    when(this.is.readVarInt()).thenReturn(1, classId, 1, probeNumber);
     when(this.is.readBoolean()).thenReturn(testPassed);
     this.testee.apply(Id.OUTCOME, this.is);
   }
@@ -82,6 +82,14 @@ public class MutationCoverageReportSystemTest extends ReportTestBase {
     verifyResults(KILLED);
   }
 
+  @Test
+  public void shouldMergeCoverageGatheredByMultipleMinions() {
+    this.data.setTargetClasses(asList("com.example.FullyCovered*"));
+    this.data.setCoverageMinions(3);
+    createAndRun();
+    verifyResults(KILLED);
+  }
+
   @Test
   public void shouldReportUnCoveredMutations() {
     this.data.setTargetClasses(asList("com.example.PartiallyCovered*"));
@@ -0,0 +1,90 @@
+package org.pitest.mutationtest;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.pitest.SystemTest;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.CodeSource;
+import org.pitest.coverage.BlockCoverage;
+import org.pitest.coverage.CoverageData;
+import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.config.PluginServices;
+import org.pitest.mutationtest.config.SettingsFactory;
+import org.pitest.mutationtest.tooling.JarCreatingJarFinder;
+import org.pitest.process.JavaAgent;
+import org.pitest.util.Timings;
+
+import com.example.narrowing.NotReached;
+import com.example.narrowing.OtherTest;
+import com.example.narrowing.Reached;
+import com.example.narrowing.ReachedTest;
+
+@Category(SystemTest.class)
+public class NarrowToFailingTestsSystemTest extends ReportTestBase {
+
+  private static final String FAILING = ReachedTest.class.getName()
+      + ".namedAsFailing";
+
+  @Before
+  public void narrowToFailingTest() {
+    this.data.setTargetClasses(asList("com.example.narrowing.*"));
+    this.data.setExcludedClasses(asList("*Test"));
+    this.data.setFailingTests(asList(FAILING));
+    this.data.setNarrowToFailingTests(true);
+  }
+
+  @Test
+  public void shouldLimitCoverageToBlocksReachedByFailingTest() {
+    final CoverageDatabase coverage = calculateCoverage();
+
+    final Set<String> methods = new HashSet<>();
+    final Set<String> tests = new HashSet<>();
+    for (final BlockCoverage each : ((CoverageData) coverage).createCoverage()) {
+      methods.add(each.getBlock().getLocation().getClassName().asJavaName()
+          + "." + each.getBlock().getLocation().getMethodName());
+      tests.addAll(each.getTests());
+    }
+
+    // the passing test declared with the failing one also calls second, but
+    // that block is not reached by the failing test
+    assertThat(methods).containsExactly(Reached.class.getName() + ".first");
+    assertThat(tests).hasSize(2).allMatch(t -> t.startsWith(
+        ReachedTest.class.getName()));
+    assertThat(coverage.getTestsForClass(ClassName.fromClass(NotReached.class)))
+        .isEmpty();
+    assertThat(coverage.getTestsForClass(ClassName.fromClass(Reached.class)))
+        .extracting(TestInfo::getName)
+        .noneMatch(t -> t.startsWith(OtherTest.class.getName()));
+  }
+
+  @Test
+  public void shouldOnlyMutateLinesReachedByFailingTest() {
+    createAndRun();
+
+    assertThat(this.metaDataExtractor.getData()).isNotEmpty()
+        .allMatch(r -> r.getDetails().getClassName().equals(
+            ClassName.fromClass(Reached.class))
+            && r.getDetails().getMethod().equals("first"));
+  }
+
+  private CoverageDatabase calculateCoverage() {
+    final JavaAgent agent = new JarCreatingJarFinder();
+    try {
+      final CodeSource code = createCodeSource();
+      return createCoverageGenerator(new SettingsFactory(this.data,
+          PluginServices.makeForContextLoader()), agent, code, new Timings())
+          .calculateCoverage();
+    } finally {
+      agent.close();
+    }
+  }
+
+}
@@ -103,21 +103,11 @@ public abstract class ReportTestBase {
     final JavaAgent agent = new JarCreatingJarFinder();
     try {
 
-      final CoverageOptions coverageOptions = createCoverageOptions(settings.createCoverageOptions().getPitConfig());
-      final LaunchOptions launchOptions = new LaunchOptions(agent,
-          new DefaultJavaExecutableLocator(), this.data.getJvmArgs(),
-          new HashMap<>());
-
-      final PathFilter pf = new PathFilter(p -> true, p -> true);
-      final ProjectClassPaths cps = new ProjectClassPaths(
-          this.data.getClassPath(), this.data.createClassesFilter(), pf);
-
       final Timings timings = new Timings();
-      final CodeSource code = new CodeSource(cps);
+      final CodeSource code = createCodeSource();
 
-      final CoverageGenerator coverageDatabase = new DefaultCoverageGenerator(
-          null, coverageOptions, launchOptions, code,
-          new NullCoverageExporter(), timings, Verbosity.DEFAULT);
+      final CoverageGenerator coverageDatabase = createCoverageGenerator(
+          settings, agent, code, timings);
 
       final HistoryStore history = new NullHistoryStore();
 
@@ -137,6 +127,25 @@ public abstract class ReportTestBase {
     }
   }
 
+  protected CodeSource createCodeSource() {
+    final PathFilter pf = new PathFilter(p -> true, p -> true);
+    final ProjectClassPaths cps = new ProjectClassPaths(
+        this.data.getClassPath(), this.data.createClassesFilter(), pf);
+    return new CodeSource(cps);
+  }
+
+  protected CoverageGenerator createCoverageGenerator(SettingsFactory settings,
+      JavaAgent agent, CodeSource code, Timings timings) {
+    final CoverageOptions coverageOptions = createCoverageOptions(settings.createCoverageOptions().getPitConfig());
+    final LaunchOptions launchOptions = new LaunchOptions(agent,
+        new DefaultJavaExecutableLocator(), this.data.getJvmArgs(),
+        new HashMap<>());
+    return new DefaultCoverageGenerator(null, coverageOptions, launchOptions,
+        code, new NullCoverageExporter(), timings, Verbosity.DEFAULT,
+        this.data.getCoverageMinions(), this.data.isNarrowToFailingTests()
+            ? this.data.getFailingTests() : Collections.emptyList());
+  }
+
   private CoverageOptions createCoverageOptions(TestPluginArguments configuration) {
     return new CoverageOptions(this.data.getTargetClasses(),this.data.getExcludedClasses(),
         configuration, this.data.getVerbosity());
@@ -74,6 +74,7 @@ import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.mutationtest.config.TestPluginArguments;
 import org.pitest.mutationtest.engine.MutationEngine;
 import org.pitest.mutationtest.engine.gregor.config.GregorEngineFactory;
+import org.pitest.mutationtest.execute.MinionPool;
 import org.pitest.mutationtest.execute.MutationAnalysisExecutor;
 import org.pitest.mutationtest.tooling.JarCreatingJarFinder;
 import org.pitest.process.DefaultJavaExecutableLocator;
@@ -96,6 +97,9 @@ public class TestMutationTesting {
 
   private MetaDataExtractor        metaDataExtractor;
 
+  private MinionPool               minions = MinionPool.disabled();
+  private int                      unitSize = 0;
+
   @Before
   public void setUp() {
     MockitoAnnotations.openMocks(this);
@@ -146,6 +150,24 @@ public class TestMutationTesting {
     verifyResults(KILLED, TIMED_OUT);
   }
 
+  @Test
+  public void shouldAnalyseUnitsInPooledMinions() {
+    this.minions = new MinionPool(10);
+    this.unitSize = 1;
+    run(ThreeMutations.class, ThreeMutationsTwoMeaningfullTests.class,
+        "PRIMITIVE_RETURNS");
+    verifyResults(SURVIVED, KILLED, KILLED);
+  }
+
+  @Test(timeout = 30000)
+  public void shouldReplacePooledMinionsAfterATimeout() {
+    this.minions = new MinionPool(10);
+    this.unitSize = 1;
+    run(InfiniteLoop.class, InfiniteLoopTest.class,
+        "INCREMENTS");
+    verifyResults(KILLED, TIMED_OUT);
+  }
+
   @Test
   public void shouldExportSystemPropertiesToMinionProcess() {
     // System.setProperty("foo", "foo");
@@ -224,6 +246,7 @@ public class TestMutationTesting {
     try {
       createEngineAndRun(data, agent, Arrays.asList(mutators));
     } finally {
+      this.minions.close();
       agent.close();
     }
   }
@@ -277,13 +300,13 @@ public class TestMutationTesting {
         coverageOptions.getPitConfig(), mutationConfig, arguments,
         new PercentAndConstantTimeoutStrategy(data.getTimeoutFactor(),
             data.getTimeoutConstant()), data.getVerbosity(), false, data.getClassPath()
-            .getLocalClassPath());
+            .getLocalClassPath(), this.minions);
 
 
 
 
     final MutationTestBuilder builder = new MutationTestBuilder(wf,
-        new NullAnalyser(), source, new DefaultGrouper(0));
+        new NullAnalyser(), source, new DefaultGrouper(this.unitSize));
 
     final List<MutationAnalysisUnit> tus = builder
         .createMutationTestUnits(codeClasses);
@@ -3,11 +3,15 @@ package org.pitest.mutationtest.build;
 import static org.junit.Assert.assertEquals;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.Test;
 import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
 import org.pitest.mutationtest.LocationMother;
 import org.pitest.mutationtest.LocationMother.LocationBuilder;
 import org.pitest.mutationtest.engine.MutationDetails;
@@ -38,6 +42,38 @@ public class DefaultGrouperTest {
     assertEquals(3, actual.size());
   }
 
+  @Test
+  public void shouldSplitClassesCostingMoreThanAThreadsShareOfTheRun() {
+    this.testee = new DefaultGrouper(0, 2);
+    final List<MutationDetails> mutations = new ArrayList<>();
+    for (int i = 0; i != 4; i++) {
+      mutations.add(createDetails("slow", 1000));
+    }
+    mutations.add(createDetails("fast", 1));
+
+    final List<List<MutationDetails>> actual = this.testee.groupMutations(null,
+        mutations);
+
+    assertEquals(3, actual.size());
+  }
+
+  @Test
+  public void shouldNotSplitByCostWhenRunningSingleThreaded() {
+    this.testee = new DefaultGrouper(0, 1);
+    final List<List<MutationDetails>> actual = this.testee.groupMutations(null,
+        Arrays.asList(createDetails("slow", 1000), createDetails("slow", 1000),
+            createDetails("fast", 1)));
+
+    assertEquals(2, actual.size());
+  }
+
+  private static MutationDetails createDetails(final String clazz, final int testTime) {
+    final MutationDetails details = createDetails(clazz);
+    details.addTestsInOrder(Collections.singletonList(new TestInfo(clazz + "Test",
+        "test", testTime, Optional.empty(), 1)));
+    return details;
+  }
+
   private void assertCreatesOneUnitForTwoMutations() {
     final MutationDetails mutation1 = createDetails("foo");
     final MutationDetails mutation2 = createDetails("foo");
@@ -5,6 +5,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.pitest.bytecode.analysis.ClassTree;
 import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.ClassloaderByteArraySource;
@@ -19,6 +20,7 @@ import org.pitest.process.LaunchOptions;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -26,6 +28,8 @@ import java.util.function.Function;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aLocation;
 
@@ -76,6 +80,87 @@ public class MutationSourceTest {
     assertEquals(expected, actual.getTestsInOrder());
   }
 
+  @Test
+  public void shouldGiveEachThreadItsOwnInterceptor() throws Exception {
+    final List<MutationInterceptor> created = Collections.synchronizedList(new ArrayList<>());
+    final List<MutationInterceptor> used = Collections.synchronizedList(new ArrayList<>());
+    this.testee = new MutationSource(this.config, this.prioritiser, this.source,
+        () -> {
+          final MutationInterceptor interceptor = recordingInterceptor(used);
+          created.add(interceptor);
+          return interceptor;
+        }, Collections.emptyList());
+    when(this.mutater.findMutations(any(ClassName.class)))
+    .thenReturn(makeMutations("foo"));
+
+    this.testee.createMutations(this.foo);
+    final Thread other = new Thread(() -> this.testee.createMutations(this.foo));
+    other.start();
+    other.join();
+
+    assertEquals(2, created.size());
+    assertEquals(created, used);
+  }
+
+  @Test
+  public void shouldNotSearchAgainForMutationsOfPrescannedClasses() {
+    final List<MutationDetails> prescanned = makeMutations("foo");
+    final List<MutationInterceptor> used = new ArrayList<>();
+    this.testee = new MutationSource(this.config, this.prioritiser, this.source,
+        () -> recordingInterceptor(used), Collections.emptyList(),
+        Collections.singletonMap(this.foo, prescanned));
+
+    assertEquals(prescanned, this.testee.createMutations(this.foo));
+    verify(this.mutater, never()).findMutations(any(ClassName.class));
+    assertEquals(1, used.size());
+  }
+  @Test
+  public void shouldKeepOnlyMutantsCoveredByFailingTests() {
+    this.testee = new MutationSource(this.config, this.prioritiser, this.source,
+        CompoundMutationInterceptor.nullInterceptor(),
+        Collections.singletonList("com.example.FooTest.fails"));
+    final MutationDetails covered = makeMutation("covered");
+    final MutationDetails notCovered = makeMutation("notCovered");
+    when(this.mutater.findMutations(any(ClassName.class)))
+    .thenReturn(Arrays.asList(covered, notCovered));
+    when(this.prioritiser.assignTests(covered)).thenReturn(Arrays.asList(
+        test("com.example.FooTest.passes(com.example.FooTest)"),
+        test("com.example.FooTest.fails(com.example.FooTest)")));
+    when(this.prioritiser.assignTests(notCovered)).thenReturn(Arrays.asList(
+        test("com.example.FooTest.passes(com.example.FooTest)")));
+
+    assertEquals(Collections.singletonList(covered),
+        this.testee.createMutations(this.foo));
+  }
+
+  private static TestInfo test(String name) {
+    return new TestInfo("com.example.FooTest", name, 0, Optional.empty(), 0);
+  }
+
+  private static MutationInterceptor recordingInterceptor(List<MutationInterceptor> used) {
+    return new MutationInterceptor() {
+      @Override
+      public InterceptorType type() {
+        return InterceptorType.OTHER;
+      }
+
+      @Override
+      public void begin(ClassTree clazz) {
+        used.add(this);
+      }
+
+      @Override
+      public Collection<MutationDetails> intercept(
+          Collection<MutationDetails> mutations, Mutater m) {
+        return mutations;
+      }
+
+      @Override
+      public void end() {
+      }
+    };
+  }
+
   private List<TestInfo> makeTestInfos(final Integer... times) {
     return new ArrayList<>(FCollection.map(Arrays.asList(times),
         timeToTestInfo()));
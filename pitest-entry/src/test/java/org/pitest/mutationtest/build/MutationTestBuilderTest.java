@@ -7,15 +7,22 @@ import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aLocation;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
 
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.NullAnalyser;
 import org.pitest.mutationtest.engine.MutationDetails;
 
@@ -80,6 +87,63 @@ public class MutationTestBuilderTest {
     assertTrue(actual.get(0).priority() > actual.get(1).priority());
   }
 
+  @Test
+  public void shouldFindSameMutationsInSameOrderWhenDiscoveringOnSeveralThreads() {
+    final List<ClassName> classes = new ArrayList<>();
+    for (int i = 0; i != 50; i++) {
+      final ClassName clazz = ClassName.fromString("com.example.C" + i);
+      classes.add(clazz);
+      when(this.source.createMutations(clazz)).thenReturn(
+          Arrays.asList(createDetails(clazz.asJavaName())));
+    }
+
+    final List<MutationDetails> sequential = discoveredUsing(1, classes);
+    final List<MutationDetails> parallel = discoveredUsing(4, classes);
+
+    assertEquals(50, parallel.size());
+    assertEquals(sequential, parallel);
+  }
+
+  @Test
+  public void shouldDiscoverMutationsWithCallersContextClassLoader() {
+    final ClassLoader caller = new URLClassLoader(new URL[0]);
+    final Set<ClassLoader> seen = Collections.synchronizedSet(new HashSet<>());
+    final List<ClassName> classes = new ArrayList<>();
+    for (int i = 0; i != 10; i++) {
+      final ClassName clazz = ClassName.fromString("com.example.C" + i);
+      classes.add(clazz);
+      when(this.source.createMutations(clazz)).thenAnswer(a -> {
+        seen.add(Thread.currentThread().getContextClassLoader());
+        return Arrays.asList(createDetails(clazz.asJavaName()));
+      });
+    }
+
+    final Thread thread = Thread.currentThread();
+    final ClassLoader original = thread.getContextClassLoader();
+    thread.setContextClassLoader(caller);
+    try {
+      discoveredUsing(4, classes);
+    } finally {
+      thread.setContextClassLoader(original);
+    }
+
+    assertEquals(Collections.singleton(caller), seen);
+  }
+
+  private List<MutationDetails> discoveredUsing(int threads, List<ClassName> classes) {
+    final List<MutationDetails> discovered = new ArrayList<>();
+    final NullAnalyser analyser = new NullAnalyser() {
+      @Override
+      public Collection<MutationResult> analyse(Collection<MutationDetails> mutations) {
+        discovered.addAll(mutations);
+        return super.analyse(mutations);
+      }
+    };
+    new MutationTestBuilder(this.wf, analyser, this.source,
+        new DefaultGrouper(0), threads).createMutationTestUnits(classes);
+    return discovered;
+  }
+
   private void assertCreatesOneTestUnitForTwoMutations() {
     final MutationDetails mutation1 = createDetails("foo");
     final MutationDetails mutation2 = createDetails("foo");
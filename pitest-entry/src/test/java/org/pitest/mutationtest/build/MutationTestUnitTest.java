@@ -1,31 +1,41 @@
 package org.pitest.mutationtest.build;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.EngineArguments;
 import org.pitest.mutationtest.MutationConfig;
 import org.pitest.mutationtest.MutationMetaData;
 import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusMap;
 import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
 import org.pitest.mutationtest.config.TestPluginArguments;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationDetailsMother;
 import org.pitest.mutationtest.engine.MutationEngine;
+import org.pitest.mutationtest.execute.MutationTestProcess;
 import org.pitest.process.JavaAgent;
 import org.pitest.process.LaunchOptions;
 import org.pitest.testapi.Configuration;
+import org.pitest.util.ExitCode;
 import org.pitest.util.Verbosity;
 
 public class MutationTestUnitTest {
@@ -79,9 +89,110 @@ public class MutationTestUnitTest {
     assertThat(this.testee.priority()).isEqualTo(42);
   }
 
+  @Test
+  public void shouldResumeAfterTestThatCrashesMinion() throws Exception {
+    final List<Collection<MutationDetails>> workers = runCoveredBy(64,
+        "resume42");
+    final MutationStatusTestPair actual = this.testee.call().getMutations()
+        .iterator().next().getStatusTestPair();
+
+    assertThat(actual.getStatus()).isEqualTo(DetectionStatus.TIMED_OUT);
+    assertThat(actual.getTimeOuttests()).containsExactly("resume42");
+    assertThat(actual.getSucceedingTests()).hasSize(63);
+    // the first run, then one run for the tests after the one timing out
+    assertThat(workers).hasSize(2);
+    assertThat(workers.get(1).iterator().next().getTestsInOrder()).hasSize(21);
+  }
+
+  @Test
+  public void shouldLaunchOnceForEachTestWhenEveryTestTimesOut()
+      throws Exception {
+    final String[] all = new String[8];
+    for (int i = 0; i != all.length; i++) {
+      all[i] = "resume" + i;
+    }
+    final List<Collection<MutationDetails>> workers = runCoveredBy(8, all);
+    final MutationStatusTestPair actual = this.testee.call().getMutations()
+        .iterator().next().getStatusTestPair();
+
+    assertThat(actual.getStatus()).isEqualTo(DetectionStatus.TIMED_OUT);
+    assertThat(actual.getTimeOuttests()).containsExactlyInAnyOrder(all);
+    assertThat(workers).hasSize(8);
+  }
+
+  /**
+   * Sets the testee to analyse a mutant covered by a number of tests, with
+   * minions that time out on the named tests. Returns the units each minion
+   * is launched for.
+   */
+  private List<Collection<MutationDetails>> runCoveredBy(int testCount,
+      String... timingOut) {
+    final MutationDetails mutation = new MutationDetails(aMutationId().build(),
+        "file", "desc", 0, 0);
+    final List<TestInfo> covering = new ArrayList<>();
+    for (int i = 0; i != testCount; i++) {
+      covering.add(new TestInfo("FooTest", "resume" + i, 0, Optional.empty(), 0));
+    }
+    mutation.addTestsInOrder(covering);
+    this.mutations.add(mutation);
+
+    final List<Collection<MutationDetails>> workers = new ArrayList<>();
+    final WorkerFactory factory = Mockito.mock(WorkerFactory.class);
+    when(factory.isFullMutationMatrix()).thenReturn(true);
+    when(factory.createWorker(any(), any())).thenAnswer(invocation -> {
+      final Collection<MutationDetails> unit = invocation.getArgument(0);
+      workers.add(unit);
+      return new FakeProcess(unit.iterator().next(), Arrays.asList(timingOut));
+    });
+
+    this.testee = new MutationTestUnit(this.mutations, this.tests, factory);
+    return workers;
+  }
+
   private void addMutation() {
     this.mutations.add(new MutationDetails(aMutationId().build(), "file", "desc",
         0, 0));
   }
 
+  /**
+   * Minion that runs the tests in order, reporting each one as surviving
+   * until it reaches a test that times out
+   */
+  private static class FakeProcess implements MutationTestProcess {
+    private final List<String> passed = new ArrayList<>();
+    private final boolean      timesOut;
+
+    FakeProcess(MutationDetails mutant, List<String> timingOut) {
+      boolean timedOut = false;
+      for (final TestInfo each : mutant.getTestsInOrder()) {
+        if (timingOut.contains(each.getName())) {
+          timedOut = true;
+          break;
+        }
+        this.passed.add(each.getName());
+      }
+      this.timesOut = timedOut;
+    }
+
+    @Override
+    public void start() {
+    }
+
+    @Override
+    public void results(MutationStatusMap allmutations) {
+    }
+
+    @Override
+    public MutationStatusTestPair result(MutationDetails mutant) {
+      return new MutationStatusTestPair(this.passed.size(), this.timesOut
+          ? DetectionStatus.STARTED : DetectionStatus.SURVIVED,
+          Collections.emptyList(), this.passed);
+    }
+
+    @Override
+    public ExitCode waitToDie() {
+      return this.timesOut ? ExitCode.TIMEOUT : ExitCode.OK;
+    }
+  }
+
 }
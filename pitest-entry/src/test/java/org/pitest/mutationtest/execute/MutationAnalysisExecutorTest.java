@@ -0,0 +1,101 @@
+package org.pitest.mutationtest.execute;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationMetaData;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.build.MutationAnalysisUnit;
+import org.pitest.mutationtest.report.MutationTestResultMother;
+
+public class MutationAnalysisExecutorTest {
+
+  private final List<String> handled = Collections.synchronizedList(new ArrayList<>());
+
+  @Test
+  public void shouldDeliverResultsInTheOrderUnitsFinish() {
+    final CountDownLatch fastUnitReported = new CountDownLatch(1);
+    final MutationAnalysisUnit slow = unit(() -> {
+      fastUnitReported.await();
+      return result("slow.java");
+    });
+    final MutationAnalysisUnit fast = unit(() -> result("fast.java"));
+
+    final MutationAnalysisExecutor testee = new MutationAnalysisExecutor(2,
+        Collections.singletonList(listener(fastUnitReported)));
+    testee.run(asList(slow, fast));
+
+    assertThat(this.handled).containsExactly("fast.java", "slow.java");
+  }
+
+  @Test
+  public void shouldDeliverAllResultsWhenRunningSingleThreaded() {
+    final MutationAnalysisExecutor testee = new MutationAnalysisExecutor(1,
+        Collections.singletonList(listener(new CountDownLatch(1))));
+    testee.run(asList(unit(() -> result("a.java")), unit(() -> result("b.java"))));
+
+    assertThat(this.handled).containsExactly("a.java", "b.java");
+  }
+
+  @Test
+  public void shouldPropagateRuntimeExceptionsThrownByUnitsUnchanged() {
+    final IllegalStateException failure = new IllegalStateException("boom");
+    final MutationAnalysisExecutor testee = new MutationAnalysisExecutor(1,
+        Collections.singletonList(listener(new CountDownLatch(1))));
+
+    assertThatThrownBy(() -> testee.run(Collections.singletonList(unit(() -> {
+      throw failure;
+    })))).isSameAs(failure);
+  }
+
+  private MutationMetaData result(String file) {
+    return MutationTestResultMother.createMetaData(new MutationResult(
+        MutationTestResultMother.createDetails(file),
+        new MutationStatusTestPair(1, DetectionStatus.KILLED, "foo")));
+  }
+
+  private MutationResultListener listener(CountDownLatch latch) {
+    return new MutationResultListener() {
+      @Override
+      public void runStart() {
+      }
+
+      @Override
+      public void handleMutationResult(ClassMutationResults results) {
+        MutationAnalysisExecutorTest.this.handled.add(results.getFileName());
+        latch.countDown();
+      }
+
+      @Override
+      public void runEnd() {
+      }
+    };
+  }
+
+  private static MutationAnalysisUnit unit(Callable<MutationMetaData> body) {
+    return new MutationAnalysisUnit() {
+      @Override
+      public int priority() {
+        return 0;
+      }
+
+      @Override
+      public MutationMetaData call() throws Exception {
+        return body.call();
+      }
+    };
+  }
+
+}
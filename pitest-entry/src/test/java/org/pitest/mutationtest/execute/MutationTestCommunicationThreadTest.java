@@ -0,0 +1,62 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.SafeDataInputStream;
+
+public class MutationTestCommunicationThreadTest {
+
+  private final Map<MutationIdentifier, MutationStatusTestPair> idMap = new HashMap<>();
+  private final ByteArrayOutputStream os = new ByteArrayOutputStream();
+  private final DefaultReporter reporter = new DefaultReporter(this.os);
+  private final MutationIdentifier mutant = aMutationId().withIndex(0)
+      .withMutator("foo").build();
+
+  @Test
+  public void shouldBuildProgressFromSingleFinishedTests() {
+    this.reporter.describe(this.mutant);
+    this.reporter.progress(this.mutant, "a", false);
+    this.reporter.progress(this.mutant, "b", true);
+    receive();
+
+    final MutationStatusTestPair progress = this.idMap.get(this.mutant);
+    assertThat(progress.getStatus()).isEqualTo(DetectionStatus.STARTED);
+    assertThat(progress.getSucceedingTests()).containsExactly("a");
+    assertThat(progress.getKillingTests()).containsExactly("b");
+    assertThat(progress.getNumberOfTestsRun()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldReplaceProgressWithReportedResult() {
+    final MutationStatusTestPair result = new MutationStatusTestPair(1,
+        DetectionStatus.KILLED, "b");
+    this.reporter.describe(this.mutant);
+    this.reporter.progress(this.mutant, "b", true);
+    this.reporter.report(this.mutant, result);
+    receive();
+
+    assertThat(this.idMap.get(this.mutant)).isEqualTo(result);
+  }
+
+  private void receive() {
+    final byte[] bytes = this.os.toByteArray();
+    final ByteArrayInputStream in = new ByteArrayInputStream(bytes);
+    final SafeDataInputStream is = new SafeDataInputStream(in);
+    final MutationTestCommunicationThread.Receive testee = new MutationTestCommunicationThread.Receive(
+        this.idMap);
+    while (in.available() != 0) {
+      testee.apply(is.readByte(), is);
+    }
+  }
+
+}
@@ -0,0 +1,287 @@
+package org.pitest.mutationtest.incremental;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.classinfo.ClassIdentifier;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.coverage.CoverageDatabase;
+import org.pitest.mutationtest.ClassHistory;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+public class BinaryHistoryStoreTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private final CoverageDatabase coverage = mock(CoverageDatabase.class);
+
+  private File file;
+
+  @Before
+  public void setUp() throws IOException {
+    when(this.coverage.getCoverageIdForClass(any(ClassName.class))).thenReturn(
+        BigInteger.TEN);
+    this.file = new File(this.folder.getRoot(), "history.bin");
+  }
+
+  @Test
+  public void shouldRecordAndRetrieveClassPath() {
+    final HierarchicalClassId foo = classId("foo");
+    final HierarchicalClassId bar = classId("bar");
+
+    final BinaryHistoryStore writer = new BinaryHistoryStore(null, this.file);
+    writer.recordClassPath(asList(foo, bar), this.coverage);
+    writer.close();
+
+    final BinaryHistoryStore testee = read(this.file);
+
+    assertThat(testee.getHistoricClassPath()).containsEntry(ClassName.fromString("foo"),
+        new ClassHistory(foo, "a"));
+    assertThat(testee.getHistoricClassPath()).containsEntry(ClassName.fromString("bar"),
+        new ClassHistory(bar, "a"));
+  }
+
+  @Test
+  public void shouldRecordAndRetrieveMethodHashes() {
+    final HierarchicalClassId foo = classId("foo");
+    final Map<String, Long> hashes = new HashMap<>();
+    hashes.put("a()V", 1L);
+    hashes.put("b(I)I", Long.MIN_VALUE);
+
+    final BinaryHistoryStore writer = new BinaryHistoryStore(null, this.file);
+    writer.recordClassPath(asList(foo, classId("bar")), this.coverage,
+        c -> c.equals(foo.getName()) ? hashes : Collections.emptyMap());
+    writer.close();
+
+    final BinaryHistoryStore testee = read(this.file);
+
+    assertThat(testee.getHistoricClassPath().get(foo.getName()).getMethodHashes())
+        .isEqualTo(hashes);
+    assertThat(testee.getHistoricClassPath().get(ClassName.fromString("bar"))
+        .getMethodHashes()).isEmpty();
+  }
+
+  @Test
+  public void shouldRecordAndRetrieveResults() {
+    final MutationResult killed = result("foo", 1, new MutationStatusTestPair(3,
+        DetectionStatus.KILLED, asList("a", "b"), asList("c")));
+    final MutationResult survived = result("bar", 2, new MutationStatusTestPair(2,
+        DetectionStatus.SURVIVED, Collections.emptyList(), asList("a", "c")));
+
+    final BinaryHistoryStore writer = new BinaryHistoryStore(null, this.file);
+    writer.recordResult(killed);
+    writer.recordResult(survived);
+    writer.close();
+
+    final BinaryHistoryStore testee = read(this.file);
+
+    assertThat(testee.getHistoricResults().get(killed.getDetails().getId()))
+        .isEqualTo(killed.getStatusTestPair());
+    assertThat(testee.getHistoricResults().get(survived.getDetails().getId()))
+        .isEqualTo(survived.getStatusTestPair());
+    assertThat(testee.getHistoricResults()).hasSize(2);
+  }
+
+  @Test
+  public void shouldRecordAndRetrieveCoverageFingerprints() {
+    final MutationResult fingerprinted = result("foo", 1, new MutationStatusTestPair(1,
+        DetectionStatus.SURVIVED, Collections.emptyList(), asList("a")));
+    final MutationResult plain = result("foo", 2, new MutationStatusTestPair(1,
+        DetectionStatus.SURVIVED, Collections.emptyList(), asList("a")));
+
+    final BinaryHistoryStore writer = new BinaryHistoryStore(null, this.file);
+    writer.recordResult(fingerprinted, Long.MIN_VALUE);
+    writer.recordResult(plain);
+    writer.close();
+
+    final BinaryHistoryStore testee = read(this.file);
+
+    assertThat(testee.getHistoricCoverageFingerprints()
+        .get(fingerprinted.getDetails().getId())).isEqualTo(Long.MIN_VALUE);
+    assertThat(testee.getHistoricCoverageFingerprints()
+        .get(plain.getDetails().getId())).isNull();
+    assertThat(testee.getHistoricResults().get(fingerprinted.getDetails().getId()))
+        .isEqualTo(fingerprinted.getStatusTestPair());
+  }
+
+  @Test
+  public void shouldFindResultsForManyClassesRecordedOutOfOrder() {
+    final BinaryHistoryStore writer = new BinaryHistoryStore(null, this.file);
+    for (int i = 0; i != 50; i++) {
+      for (int c = 99; c >= 0; c--) {
+        writer.recordResult(result("com.example.C" + c, i,
+            new MutationStatusTestPair(i, DetectionStatus.KILLED, "test" + c)));
+      }
+    }
+    writer.close();
+
+    final BinaryHistoryStore testee = read(this.file);
+
+    for (int c = 0; c != 100; c++) {
+      for (int i = 0; i != 50; i++) {
+        assertThat(testee.getHistoricResults().get(id("com.example.C" + c, i)))
+            .isEqualTo(new MutationStatusTestPair(i, DetectionStatus.KILLED, "test" + c));
+      }
+    }
+  }
+
+  @Test
+  public void shouldReturnNothingForMutationsNotInHistory() {
+    final BinaryHistoryStore writer = new BinaryHistoryStore(null, this.file);
+    writer.recordResult(result("foo", 1, new MutationStatusTestPair(1,
+        DetectionStatus.KILLED, "test")));
+    writer.close();
+
+    final BinaryHistoryStore testee = read(this.file);
+
+    assertThat(testee.getHistoricResults().get(id("foo", 2))).isNull();
+    assertThat(testee.getHistoricResults().get(id("bar", 1))).isNull();
+  }
+
+  @Test
+  public void shouldRecoverResultsFromFileThatWasNotClosed() throws IOException {
+    final MutationResult mr = result("foo", 1, new MutationStatusTestPair(1,
+        DetectionStatus.KILLED, "test"));
+    final BinaryHistoryStore writer = new BinaryHistoryStore(null, this.file);
+    writer.recordClassPath(asList(classId("foo")), this.coverage);
+    writer.recordResult(mr);
+    writer.close();
+    truncateIndex(this.file);
+
+    final BinaryHistoryStore testee = read(this.file);
+
+    assertThat(testee.getHistoricClassPath()).containsKey(ClassName.fromString("foo"));
+    assertThat(testee.getHistoricResults().get(mr.getDetails().getId()))
+        .isEqualTo(mr.getStatusTestPair());
+  }
+
+  @Test
+  public void shouldRecoverResultsWhenIndexLengthRunsPastEndOfFile()
+      throws IOException {
+    final MutationResult mr = result("foo", 1, new MutationStatusTestPair(1,
+        DetectionStatus.KILLED, "test"));
+    final BinaryHistoryStore writer = new BinaryHistoryStore(null, this.file);
+    writer.recordClassPath(asList(classId("foo")), this.coverage);
+    writer.recordResult(mr);
+    writer.close();
+    corruptIndexLength(this.file);
+
+    final BinaryHistoryStore testee = read(this.file);
+
+    assertThat(testee.getHistoricResults().get(mr.getDetails().getId()))
+        .isEqualTo(mr.getStatusTestPair());
+  }
+
+  @Test
+  public void shouldReadAndReplaceSameFile() {
+    final MutationResult first = result("foo", 1, new MutationStatusTestPair(1,
+        DetectionStatus.KILLED, "test"));
+    final BinaryHistoryStore writer = new BinaryHistoryStore(this.file, this.file);
+    writer.initialize();
+    writer.recordResult(first);
+    writer.close();
+
+    final MutationResult second = result("foo", 2, new MutationStatusTestPair(1,
+        DetectionStatus.SURVIVED, Collections.emptyList(), asList("test")));
+    final BinaryHistoryStore both = new BinaryHistoryStore(this.file, this.file);
+    both.initialize();
+    both.recordResult(second);
+    assertThat(both.getHistoricResults().get(first.getDetails().getId()))
+        .isEqualTo(first.getStatusTestPair());
+    both.close();
+
+    final BinaryHistoryStore testee = read(this.file);
+    assertThat(testee.getHistoricResults().get(first.getDetails().getId())).isNull();
+    assertThat(testee.getHistoricResults().get(second.getDetails().getId()))
+        .isEqualTo(second.getStatusTestPair());
+  }
+
+  @Test
+  public void shouldReadHistoryInPreviousTextFormat() throws IOException {
+    final MutationResult mr = result("foo", 1, new MutationStatusTestPair(1,
+        DetectionStatus.KILLED, "test"));
+    final FileWriterFactory legacyWriter = new FileWriterFactory(this.file);
+    final ObjectOutputStreamHistoryStore legacy = new ObjectOutputStreamHistoryStore(
+        legacyWriter, Optional.empty());
+    legacy.recordClassPath(asList(classId("foo")), this.coverage);
+    legacy.recordResult(mr);
+    legacyWriter.close();
+
+    final BinaryHistoryStore testee = read(this.file);
+
+    assertThat(testee.getHistoricClassPath()).containsKey(ClassName.fromString("foo"));
+    assertThat(testee.getHistoricResults().get(mr.getDetails().getId()))
+        .isEqualTo(mr.getStatusTestPair());
+  }
+
+  @Test
+  public void shouldNotCreateFileWhenNothingRecorded() {
+    final BinaryHistoryStore testee = new BinaryHistoryStore(null, this.file);
+    testee.initialize();
+    testee.close();
+    assertThat(this.file).doesNotExist();
+  }
+
+  private BinaryHistoryStore read(File input) {
+    final BinaryHistoryStore store = new BinaryHistoryStore(input, null);
+    store.initialize();
+    return store;
+  }
+
+  private static void truncateIndex(File file) throws IOException {
+    try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+      raf.seek(raf.length() - 12);
+      final long footer = raf.readLong();
+      raf.setLength(footer + 3);
+    }
+  }
+
+  private static void corruptIndexLength(File file) throws IOException {
+    try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+      raf.seek(raf.length() - 12);
+      final long footer = raf.readLong();
+      raf.seek(footer + 1);
+      raf.writeInt(Integer.MAX_VALUE);
+    }
+  }
+
+  private static HierarchicalClassId classId(String name) {
+    return new HierarchicalClassId(new ClassIdentifier(42,
+        ClassName.fromString(name)), "1f");
+  }
+
+  private static MutationIdentifier id(String clazz, int index) {
+    return aMutationId().withLocation(aLocation(clazz)).withIndex(index).build();
+  }
+
+  private static MutationResult result(String clazz, int index,
+      MutationStatusTestPair status) {
+    return new MutationResult(new MutationDetails(id(clazz, index), "file",
+        "desc", 42, 0), status);
+  }
+
+}
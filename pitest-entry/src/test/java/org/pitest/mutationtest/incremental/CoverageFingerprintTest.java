@@ -0,0 +1,79 @@
+package org.pitest.mutationtest.incremental;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.pitest.classinfo.ClassIdentifier;
+import org.pitest.classinfo.ClassInfoMother;
+import org.pitest.classinfo.ClassInfoSource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.report.MutationTestResultMother;
+
+public class CoverageFingerprintTest {
+
+  private final ClassInfoSource code = mock(ClassInfoSource.class);
+
+  @Before
+  public void setUp() {
+    classHashIs("FooTest", 1);
+    classHashIs("BarTest", 2);
+  }
+
+  @Test
+  public void shouldGiveSameFingerprintForSameTestsInAnyOrder() {
+    final MutationDetails first = coveredBy(test("FooTest", "a"),
+        test("BarTest", "b"));
+    final MutationDetails second = coveredBy(test("BarTest", "b"),
+        test("FooTest", "a"));
+
+    assertThat(fingerprint(first)).isEqualTo(fingerprint(second));
+  }
+
+  @Test
+  public void shouldChangeFingerprintWhenDifferentTestsCover() {
+    final MutationDetails first = coveredBy(test("FooTest", "a"));
+    final MutationDetails second = coveredBy(test("FooTest", "a"),
+        test("FooTest", "b"));
+
+    assertThat(fingerprint(first)).isNotEqualTo(fingerprint(second));
+  }
+
+  @Test
+  public void shouldChangeFingerprintWhenTestClassChanges() {
+    final MutationDetails mutation = coveredBy(test("FooTest", "a"));
+    final long before = fingerprint(mutation);
+
+    classHashIs("FooTest", 3);
+
+    assertThat(fingerprint(mutation)).isNotEqualTo(before);
+  }
+
+  private long fingerprint(MutationDetails mutation) {
+    return new CoverageFingerprint(this.code).of(mutation);
+  }
+
+  private void classHashIs(String clazz, long hash) {
+    final ClassName name = ClassName.fromString(clazz);
+    when(this.code.fetchClass(name)).thenReturn(Optional.of(
+        ClassInfoMother.make(new ClassIdentifier(hash, name))));
+  }
+
+  private static MutationDetails coveredBy(TestInfo... tests) {
+    final MutationDetails mutation = MutationTestResultMother.createDetails();
+    mutation.addTestsInOrder(asList(tests));
+    return mutation;
+  }
+
+  private static TestInfo test(String clazz, String name) {
+    return new TestInfo(clazz, clazz + "." + name, 0, Optional.empty(), 0);
+  }
+
+}
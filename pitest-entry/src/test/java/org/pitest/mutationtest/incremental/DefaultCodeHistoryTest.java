@@ -4,6 +4,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.when;
+import static org.pitest.mutationtest.LocationMother.aLocation;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
 
 import java.util.HashMap;
@@ -19,6 +20,7 @@ import org.pitest.classinfo.ClassInfoMother;
 import org.pitest.classinfo.ClassInfoSource;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.classpath.ClassloaderByteArraySource;
 import java.util.Optional;
 import org.pitest.mutationtest.ClassHistory;
 import org.pitest.mutationtest.DetectionStatus;
@@ -109,6 +111,71 @@ public class DefaultCodeHistoryTest {
     assertFalse(this.testee.hasClassChanged(ClassName.fromString("foo")));
   }
 
+  @Test
+  public void shouldTreatMethodWithSameHashAsUnchanged() {
+    final ClassName foo = ClassName.fromString("foo");
+    final byte[] bytes = bytesOf(MethodHashesTest.Testee.class);
+    useClassBytes(bytes);
+    setCurrentClassPath(ClassInfoMother.make(new ClassIdentifier(42, foo)));
+    this.historicClassPath.put(foo, new ClassHistory(new HierarchicalClassId(41,
+        foo, "29"), "", MethodHashes.hash(bytes)));
+
+    assertTrue(this.testee.isMethodUnchanged(methodOf(foo, "first")));
+  }
+
+  @Test
+  public void shouldTreatMethodWithDifferentHashAsChanged() {
+    final ClassName foo = ClassName.fromString("foo");
+    final byte[] bytes = bytesOf(MethodHashesTest.Testee.class);
+    useClassBytes(bytes);
+    setCurrentClassPath(ClassInfoMother.make(new ClassIdentifier(42, foo)));
+    final Map<String, Long> previous = new HashMap<>(MethodHashes.hash(bytes));
+    previous.put("first(I)I", 1L);
+    this.historicClassPath.put(foo, new ClassHistory(new HierarchicalClassId(41,
+        foo, "29"), "", previous));
+
+    assertFalse(this.testee.isMethodUnchanged(methodOf(foo, "first")));
+  }
+
+  @Test
+  public void shouldTreatMethodsAsChangedWhenParentHasChanged() {
+    final ClassName foo = ClassName.fromString("foo");
+    final byte[] bytes = bytesOf(MethodHashesTest.Testee.class);
+    useClassBytes(bytes);
+    setCurrentClassPath(ClassInfoMother.make(new ClassIdentifier(42, foo)));
+    // deep hash previously included a parent hash of 1
+    this.historicClassPath.put(foo, new ClassHistory(new HierarchicalClassId(41,
+        foo, "2a"), "", MethodHashes.hash(bytes)));
+
+    assertFalse(this.testee.isMethodUnchanged(methodOf(foo, "first")));
+  }
+
+  @Test
+  public void shouldTreatMethodsAsChangedWhenNoHashesRecorded() {
+    final ClassName foo = ClassName.fromString("foo");
+    useClassBytes(bytesOf(MethodHashesTest.Testee.class));
+    setCurrentClassPath(ClassInfoMother.make(new ClassIdentifier(42, foo)));
+    this.historicClassPath.put(foo, makeHistory(new HierarchicalClassId(41,
+        foo, "29")));
+
+    assertFalse(this.testee.isMethodUnchanged(methodOf(foo, "first")));
+  }
+
+  private void useClassBytes(byte[] bytes) {
+    this.testee = new DefaultCodeHistory(this.classInfoSource,
+        name -> Optional.of(bytes), this.results, this.historicClassPath);
+  }
+
+  private static byte[] bytesOf(Class<?> clazz) {
+    return ClassloaderByteArraySource.fromContext().getBytes(clazz.getName())
+        .get();
+  }
+
+  private static MutationIdentifier methodOf(ClassName clazz, String method) {
+    return aMutationId().withLocation(aLocation().withClass(clazz)
+        .withMethod(method).withMethodDescription("(I)I")).build();
+  }
+
   private void setCurrentClassPath(final HierarchicalClassId currentId) {
     final ClassInfo currentClass = ClassInfoMother.make(currentId.getId());
     when(this.classInfoSource.fetchClass(ClassName.fromString("foo")))
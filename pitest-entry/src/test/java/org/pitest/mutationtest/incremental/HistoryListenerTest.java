@@ -1,5 +1,7 @@
 package org.pitest.mutationtest.incremental;
 
+import java.util.Optional;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
@@ -35,6 +37,17 @@ public class HistoryListenerTest {
     verify(this.store).recordResult(mr);
   }
 
+  @Test
+  public void shouldRecordCoverageFingerprintsWhenGiven() {
+    final CoverageFingerprint fingerprint = new CoverageFingerprint(
+        name -> Optional.empty());
+    this.testee = new HistoryListener(this.store, fingerprint);
+    final MutationResult mr = makeResult();
+    this.testee.handleMutationResult(MutationTestResultMother
+        .createClassResults(mr));
+    verify(this.store).recordResult(mr, fingerprint.of(mr.getDetails()));
+  }
+
   private MutationResult makeResult() {
     return new MutationResult(
         MutationTestResultMother.createDetails(), MutationStatusTestPair.notAnalysed(0,
@@ -130,6 +130,45 @@ public class IncrementalAnalyserTest {
             ));
   }
 
+  @Test
+  public void shouldStartPreviousSurvivedMutationsAtAStatusOfSurvivedWhenCoveringTestsHaveNotChanged() {
+    final MutationDetails md = makeMutation("foo");
+    setHistoryForAllMutationsTo(DetectionStatus.SURVIVED);
+    when(this.history.hasCoverageChanged(any(ClassName.class),
+        any(BigInteger.class))).thenReturn(true);
+    when(this.history.getPreviousCoverageFingerprint(md.getId()))
+        .thenReturn(Optional.of(42L));
+    when(this.history.coverageFingerprint(md)).thenReturn(42L);
+    final Collection<MutationResult> actual = this.testee.analyse(singletonList(md));
+
+    assertThat(actual, hasItem(withStatus(SURVIVED)));
+  }
+
+  @Test
+  public void shouldStartPreviousSurvivedMutationsAtAStatusOfNotStartedWhenCoveringTestsHaveChanged() {
+    final MutationDetails md = makeMutation("foo");
+    setHistoryForAllMutationsTo(DetectionStatus.SURVIVED);
+    when(this.history.hasCoverageChanged(any(ClassName.class),
+        any(BigInteger.class))).thenReturn(false);
+    when(this.history.getPreviousCoverageFingerprint(md.getId()))
+        .thenReturn(Optional.of(42L));
+    when(this.history.coverageFingerprint(md)).thenReturn(43L);
+    final Collection<MutationResult> actual = this.testee.analyse(singletonList(md));
+
+    assertThat(actual, hasItem(withStatus(NOT_STARTED)));
+  }
+
+  @Test
+  public void shouldReusePreviousStatusWhenClassHasChangedButMethodHasNot() {
+    final MutationDetails md = makeMutation("foo");
+    setHistoryForAllMutationsTo(DetectionStatus.TIMED_OUT);
+    when(this.history.hasClassChanged(any(ClassName.class))).thenReturn(true);
+    when(this.history.isMethodUnchanged(md.getId())).thenReturn(true);
+    final Collection<MutationResult> actual = this.testee.analyse(singletonList(md));
+
+    assertThat(actual, hasItem(withStatus(TIMED_OUT)));
+  }
+
   @Test
   public void shouldStartPreviousTimedOutMutationsAtAStatusOfNotStartedWhenClassHasChanged() {
     final MutationDetails md = makeMutation("foo");
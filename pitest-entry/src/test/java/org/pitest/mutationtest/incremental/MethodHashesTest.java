@@ -0,0 +1,141 @@
+package org.pitest.mutationtest.incremental;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.pitest.bytecode.ASMVersion;
+import org.pitest.classpath.ClassloaderByteArraySource;
+
+public class MethodHashesTest {
+
+  private final byte[] original = ClassloaderByteArraySource.fromContext()
+      .getBytes(Testee.class.getName()).get();
+
+  @Test
+  public void shouldHashEveryMethodByNameAndDescriptor() {
+    assertThat(MethodHashes.hash(this.original)).containsOnlyKeys("<init>()V",
+        "first(I)I", "second(I)I");
+  }
+
+  @Test
+  public void shouldGiveSameHashesForSameBytes() {
+    assertThat(MethodHashes.hash(this.original)).isEqualTo(
+        MethodHashes.hash(this.original.clone()));
+  }
+
+  @Test
+  public void shouldIgnoreShiftedLineNumbers() {
+    final byte[] shifted = transform(new ClassWriter(0),
+        cv -> new ClassVisitor(ASMVersion.ASM_VERSION, cv) {
+          @Override
+          public MethodVisitor visitMethod(int access, String name,
+              String desc, String signature, String[] exceptions) {
+            return new MethodVisitor(ASMVersion.ASM_VERSION, super.visitMethod(
+                access, name, desc, signature, exceptions)) {
+              @Override
+              public void visitLineNumber(int line, Label start) {
+                super.visitLineNumber(line + 100, start);
+              }
+            };
+          }
+        });
+
+    assertThat(MethodHashes.hash(shifted)).isEqualTo(MethodHashes.hash(this.original));
+  }
+
+  @Test
+  public void shouldIgnoreReorderedConstantPool() {
+    final ClassWriter writer = new ClassWriter(0);
+    writer.newConst("an unrelated constant");
+    writer.newConst(123456789L);
+    final byte[] reordered = transform(writer, cv -> cv);
+
+    assertThat(reordered).isNotEqualTo(this.original);
+    assertThat(MethodHashes.hash(reordered)).isEqualTo(MethodHashes.hash(this.original));
+  }
+
+  @Test
+  public void shouldChangeHashOfEditedMethodOnly() {
+    final byte[] edited = transform(new ClassWriter(0),
+        cv -> new ClassVisitor(ASMVersion.ASM_VERSION, cv) {
+          @Override
+          public MethodVisitor visitMethod(int access, String name,
+              String desc, String signature, String[] exceptions) {
+            final MethodVisitor mv = super.visitMethod(access, name, desc,
+                signature, exceptions);
+            if (!name.equals("second")) {
+              return mv;
+            }
+            return new MethodVisitor(ASMVersion.ASM_VERSION, mv) {
+              @Override
+              public void visitIntInsn(int opcode, int operand) {
+                super.visitIntInsn(opcode, operand + 1);
+              }
+            };
+          }
+        });
+
+    final Map<String, Long> before = MethodHashes.hash(this.original);
+    final Map<String, Long> after = MethodHashes.hash(edited);
+    assertThat(after.get("first(I)I")).isEqualTo(before.get("first(I)I"));
+    assertThat(after.get("<init>()V")).isEqualTo(before.get("<init>()V"));
+    assertThat(after.get("second(I)I")).isNotEqualTo(before.get("second(I)I"));
+  }
+
+  @Test
+  public void shouldDistinguishInstructionsWithoutOpcodeFromOtherCode() {
+    assertThat(hashOf(mv -> mv.visitIincInsn(3, 5))).isNotEqualTo(
+        hashOf(mv -> {
+          mv.visitInsn(Opcodes.ICONST_0);
+          mv.visitInsn(Opcodes.ICONST_2);
+        }));
+    assertThat(hashOf(mv -> mv.visitMultiANewArrayInsn("Y", 3))).isNotEqualTo(
+        hashOf(mv -> {
+          mv.visitInsn(Opcodes.ACONST_NULL);
+          mv.visitInsn(Opcodes.DUP);
+          mv.visitInsn(Opcodes.ICONST_0);
+        }));
+  }
+
+  private static Long hashOf(Consumer<MethodVisitor> body) {
+    final ClassWriter writer = new ClassWriter(0);
+    writer.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC, "Hashed", null,
+        "java/lang/Object", null);
+    final MethodVisitor mv = writer.visitMethod(Opcodes.ACC_STATIC, "m", "()V",
+        null, null);
+    mv.visitCode();
+    body.accept(mv);
+    mv.visitInsn(Opcodes.RETURN);
+    mv.visitMaxs(4, 4);
+    mv.visitEnd();
+    writer.visitEnd();
+    return MethodHashes.hash(writer.toByteArray()).get("m()V");
+  }
+
+  private byte[] transform(ClassWriter writer,
+      Function<ClassVisitor, ClassVisitor> adapter) {
+    new ClassReader(this.original).accept(adapter.apply(writer), 0);
+    return writer.toByteArray();
+  }
+
+  static class Testee {
+    int first(int i) {
+      return i + 100;
+    }
+
+    int second(int i) {
+      return i * 200;
+    }
+  }
+
+}
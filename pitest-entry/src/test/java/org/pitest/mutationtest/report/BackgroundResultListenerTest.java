@@ -0,0 +1,86 @@
+package org.pitest.mutationtest.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.MutationStatusTestPair;
+
+public class BackgroundResultListenerTest {
+
+  private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+  @Test
+  public void shouldPassResultsToListenerInOrder() {
+    final List<ClassMutationResults> results = new ArrayList<>();
+    for (int i = 0; i != 20; i++) {
+      results.add(someResults());
+    }
+    final List<ClassMutationResults> received = new ArrayList<>();
+    final BackgroundResultListener testee = new BackgroundResultListener(
+        new RecordingListener() {
+          @Override
+          public void handleMutationResult(ClassMutationResults metaData) {
+            received.add(metaData);
+          }
+        }, 2);
+
+    testee.runStart();
+    results.forEach(testee::handleMutationResult);
+    testee.runEnd();
+
+    assertThat(received).containsExactlyElementsOf(results);
+    assertThat(this.events).containsExactly("start", "end");
+  }
+
+  @Test
+  public void shouldReportFailureOfListenerAtRunEnd() {
+    final BackgroundResultListener testee = new BackgroundResultListener(
+        new RecordingListener() {
+          @Override
+          public void handleMutationResult(ClassMutationResults metaData) {
+            throw new IllegalStateException("disk full");
+          }
+        }, 1);
+
+    testee.runStart();
+    for (int i = 0; i != 5; i++) {
+      try {
+        testee.handleMutationResult(someResults());
+      } catch (final IllegalStateException e) {
+        // may be reported as soon as it is seen
+      }
+    }
+
+    assertThatThrownBy(testee::runEnd).isInstanceOf(IllegalStateException.class)
+        .hasMessage("disk full");
+    assertThat(this.events).containsExactly("start");
+  }
+
+  private static ClassMutationResults someResults() {
+    return MutationTestResultMother.createClassResults(new MutationResult(
+        MutationTestResultMother.createDetails(),
+        MutationStatusTestPair.notAnalysed(1, DetectionStatus.SURVIVED)));
+  }
+
+  private abstract class RecordingListener implements MutationResultListener {
+    @Override
+    public void runStart() {
+      BackgroundResultListenerTest.this.events.add("start");
+    }
+
+    @Override
+    public void runEnd() {
+      BackgroundResultListenerTest.this.events.add("end");
+    }
+  }
+
+}
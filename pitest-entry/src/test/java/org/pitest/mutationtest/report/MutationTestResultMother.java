@@ -22,6 +22,7 @@ import org.pitest.mutationtest.ClassMutationResults;
 import org.pitest.mutationtest.MutationMetaData;
 import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
 
 public class MutationTestResultMother {
 
@@ -33,6 +34,10 @@ public class MutationTestResultMother {
     return new MutationDetails(aMutationId().build(), sourceFile, "desc", 42, 0);
   }
 
+  public static MutationDetails createDetails(final MutationIdentifier id) {
+    return new MutationDetails(id, "file", "desc", 42, 0);
+  }
+
   public static MutationMetaData createMetaData(final MutationResult... mrs) {
     return new MutationMetaData(Arrays.asList(mrs));
   }
@@ -0,0 +1,134 @@
+package org.pitest.mutationtest.report.matrix;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.config.DirectoryResultOutputStrategy;
+import org.pitest.mutationtest.config.UndatedReportDirCreationStrategy;
+import org.pitest.mutationtest.report.MutationTestResultMother;
+import org.pitest.mutationtest.report.matrix.MutationMatrix.Outcome;
+
+public class MutationMatrixListenerTest {
+
+  @Rule
+  public TemporaryFolder         folder = new TemporaryFolder();
+
+  private MutationMatrixListener testee;
+
+  @Before
+  public void setUp() {
+    this.testee = new MutationMatrixListener(new DirectoryResultOutputStrategy(
+        this.folder.getRoot().getAbsolutePath(),
+        new UndatedReportDirCreationStrategy())
+        .createOutputStreamForFile("mutations.matrix").get());
+  }
+
+  @Test
+  public void shouldWriteMatrixOfTestsForEachMutant() throws IOException {
+    final MutationResult killed = result("com.example.Foo", 1,
+        new MutationStatusTestPair(3, DetectionStatus.KILLED, asList("a", "b"),
+            asList("c"), emptyList(), emptyList(), emptyList()));
+    final MutationResult timedOut = result("com.example.Bar", 2,
+        new MutationStatusTestPair(2, DetectionStatus.TIMED_OUT, emptyList(),
+            asList("a"), asList("d"), emptyList(), emptyList()));
+
+    this.testee.runStart();
+    this.testee.handleMutationResult(MutationTestResultMother
+        .createClassResults(killed, timedOut));
+    this.testee.runEnd();
+
+    try (MutationMatrix matrix = read()) {
+      assertThat(matrix.mutantCount()).isEqualTo(2);
+      assertThat(tests(matrix)).containsExactlyInAnyOrder("a", "b", "c", "d");
+
+      assertThat(matrix.mutationId(0)).isEqualTo(killed.getDetails().getId());
+      assertThat(matrix.status(0)).isEqualTo(DetectionStatus.KILLED);
+      assertThat(matrix.numberOfTestsRun(0)).isEqualTo(3);
+      assertThat(matrix.lineNumber(0)).isEqualTo(42);
+      assertThat(matrix.sourceFile(0)).isEqualTo("file");
+      assertThat(matrix.description(0)).isEqualTo("desc");
+      assertThat(names(matrix, 0, Outcome.KILLED)).containsExactly("a", "b");
+      assertThat(names(matrix, 0, Outcome.SURVIVED)).containsExactly("c");
+      assertThat(names(matrix, 0, Outcome.TIMED_OUT)).isEmpty();
+
+      assertThat(matrix.mutationId(1)).isEqualTo(timedOut.getDetails().getId());
+      assertThat(matrix.status(1)).isEqualTo(DetectionStatus.TIMED_OUT);
+      assertThat(names(matrix, 1, Outcome.SURVIVED)).containsExactly("a");
+      assertThat(names(matrix, 1, Outcome.TIMED_OUT)).containsExactly("d");
+    }
+  }
+
+  @Test
+  public void shouldHandleMoreTestsThanFitInOneWord() throws IOException {
+    final List<String> tests = new ArrayList<>();
+    for (int i = 0; i != 150; i++) {
+      tests.add("test" + i);
+    }
+    this.testee.runStart();
+    this.testee.handleMutationResult(MutationTestResultMother.createClassResults(
+        result("com.example.Foo", 1, new MutationStatusTestPair(150,
+            DetectionStatus.SURVIVED, emptyList(), tests))));
+    this.testee.runEnd();
+
+    try (MutationMatrix matrix = read()) {
+      assertThat(matrix.testCount()).isEqualTo(150);
+      assertThat(matrix.tests(0, Outcome.SURVIVED).cardinality()).isEqualTo(150);
+      assertThat(matrix.has(0, Outcome.SURVIVED, 149)).isTrue();
+      assertThat(matrix.has(0, Outcome.KILLED, 149)).isFalse();
+    }
+  }
+
+  @Test
+  public void shouldWriteEmptyMatrixWhenNoResults() throws IOException {
+    this.testee.runStart();
+    this.testee.runEnd();
+
+    try (MutationMatrix matrix = read()) {
+      assertThat(matrix.mutantCount()).isZero();
+      assertThat(matrix.testCount()).isZero();
+    }
+  }
+
+  private MutationMatrix read() throws IOException {
+    return MutationMatrix.open(new File(this.folder.getRoot(), "mutations.matrix"));
+  }
+
+  private static List<String> tests(MutationMatrix matrix) {
+    final List<String> names = new ArrayList<>();
+    for (int i = 0; i != matrix.testCount(); i++) {
+      names.add(matrix.testName(i));
+    }
+    return names;
+  }
+
+  private static List<String> names(MutationMatrix matrix, int mutant,
+      Outcome outcome) {
+    final List<String> names = new ArrayList<>();
+    matrix.tests(mutant, outcome).stream()
+        .forEach(test -> names.add(matrix.testName(test)));
+    return names;
+  }
+
+  private static MutationResult result(String clazz, int index,
+      MutationStatusTestPair status) {
+    return new MutationResult(MutationTestResultMother.createDetails(
+        aMutationId().withLocation(aLocation(clazz)).withIndex(index).build()),
+        status);
+  }
+
+}
@@ -0,0 +1,27 @@
+package org.pitest.mutationtest.report.matrix;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.StringWriter;
+import java.util.Properties;
+
+import org.junit.Test;
+import org.pitest.mutationtest.ListenerArguments;
+import org.pitest.util.PitError;
+import org.pitest.util.ResultOutputStrategy;
+
+public class MutationMatrixReportFactoryTest {
+
+  private final MutationMatrixReportFactory testee = new MutationMatrixReportFactory();
+
+  @Test
+  public void shouldFailBeforeAnalysisWhenOutputCannotWriteBinaryFiles() {
+    final ResultOutputStrategy textOnly = sourceFile -> new StringWriter();
+    final ListenerArguments args = new ListenerArguments(textOnly, null, null,
+        null, 0, false, null);
+
+    assertThatThrownBy(() -> this.testee.getListener(new Properties(), args))
+        .isInstanceOf(PitError.class);
+  }
+
+}
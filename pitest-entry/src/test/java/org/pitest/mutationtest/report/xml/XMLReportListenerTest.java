@@ -15,21 +15,34 @@
 package org.pitest.mutationtest.report.xml;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.config.DirectoryResultOutputStrategy;
+import org.pitest.mutationtest.config.UndatedReportDirCreationStrategy;
 import org.pitest.mutationtest.report.MutationTestResultMother;
+import org.pitest.util.StreamUtil;
 
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
 public class XMLReportListenerTest {
 
+  @Rule
+  public TemporaryFolder    folder = new TemporaryFolder();
+
   private XMLReportListener testee;
 
   private Writer            out;
@@ -107,6 +120,25 @@ public class XMLReportListenerTest {
     assertThat(expected).isEqualTo(this.out.toString());
   }
 
+  @Test
+  public void shouldWriteCompressedReportWhenRequested() throws IOException {
+    final File dir = this.folder.getRoot();
+    this.testee = new XMLReportListener(new DirectoryResultOutputStrategy(
+        dir.getAbsolutePath(), new UndatedReportDirCreationStrategy()), false,
+        true);
+    this.testee.runStart();
+    this.testee.handleMutationResult(MutationTestResultMother
+        .createClassResults(createSurvivingMutant()));
+    this.testee.runEnd();
+
+    try (InputStream in = new GZIPInputStream(new FileInputStream(new File(dir,
+        "mutations.xml.gz")))) {
+      final String xml = new String(StreamUtil.streamToByteArray(in), StandardCharsets.UTF_8);
+      assertThat(xml).startsWith("<?xml").contains("status='SURVIVED'")
+          .endsWith("</mutations>\n");
+    }
+  }
+
   private MutationResult createSurvivingMutant() {
     return new MutationResult(
         MutationTestResultMother.createDetails(),
@@ -0,0 +1,42 @@
+package org.pitest.process;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+
+import org.junit.Test;
+
+public class ClassDataArchiveTest {
+
+  @Test
+  public void shouldReadMajorVersionOfModernJvms() {
+    assertThat(ClassDataArchive.parseMajorVersion(
+        "openjdk version \"17.0.8\" 2023-07-18")).isEqualTo(17);
+    assertThat(ClassDataArchive.parseMajorVersion("version \"13\"")).isEqualTo(13);
+  }
+
+  @Test
+  public void shouldReadMajorVersionOfJava8() {
+    assertThat(ClassDataArchive.parseMajorVersion(
+        "java version \"1.8.0_382\"")).isEqualTo(8);
+  }
+
+  @Test
+  public void shouldNotFindVersionInUnrecognisedOutput() {
+    assertThat(ClassDataArchive.parseMajorVersion("no such file")).isEqualTo(-1);
+  }
+
+  @Test
+  public void shouldNotSupportMissingExecutable() {
+    assertThat(ClassDataArchive.isSupportedBy(
+        new File("does/not/exist/bin/java").getPath())).isFalse();
+  }
+
+  @Test
+  public void shouldNotIgnoreUnrecognizedOptions() {
+    final ClassDataArchive testee = new ClassDataArchive(new File("a.jsa"));
+    assertThat(testee.recordingArgs())
+        .noneMatch(arg -> arg.contains("IgnoreUnrecognizedVMOptions"));
+  }
+
+}
@@ -0,0 +1,65 @@
+package org.pitest.process;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.util.ManifestUtils;
+
+public class ClasspathJarCacheTest {
+
+  @Rule
+  public TemporaryFolder    folder = new TemporaryFolder();
+
+  private ClasspathJarCache testee;
+
+  @Before
+  public void setUp() {
+    this.testee = new ClasspathJarCache(this.folder.getRoot());
+  }
+
+  @Test
+  public void shouldReuseJarForSameClassPath() throws IOException {
+    final File first = this.testee.jarFor(classPath("a.jar", "b.jar"));
+    final long written = first.lastModified();
+    final File second = this.testee.jarFor(classPath("a.jar", "b.jar"));
+    assertThat(second).isEqualTo(first);
+    assertThat(second.lastModified()).isEqualTo(written);
+    assertThat(this.folder.getRoot().listFiles()).hasSize(1);
+  }
+
+  @Test
+  public void shouldWriteSeparateJarsForDifferentClassPaths() throws IOException {
+    final File first = this.testee.jarFor(classPath("a.jar", "b.jar"));
+    final File second = this.testee.jarFor(classPath("b.jar", "a.jar"));
+    assertThat(second).isNotEqualTo(first);
+    assertThat(ManifestUtils.readClasspathManifest(second)).containsExactly(
+        new File("b.jar").getAbsoluteFile(), new File("a.jar").getAbsoluteFile());
+  }
+
+  @Test
+  public void shouldNameJarsSoTheyAreRecognisedAsClasspathJars()
+      throws IOException {
+    final File jar = this.testee.jarFor(classPath("a.jar"));
+    assertThat(jar.getName()).startsWith(
+        ManifestUtils.CLASSPATH_JAR_FILE_PREFIX).endsWith(".jar");
+  }
+
+  @Test
+  public void shouldDeleteJarsWhenClosed() throws IOException {
+    final File jar = this.testee.jarFor(classPath("a.jar"));
+    this.testee.close();
+    assertThat(jar).doesNotExist();
+    assertThat(this.folder.getRoot()).doesNotExist();
+  }
+
+  private static String classPath(String... elements) {
+    return String.join(File.pathSeparator, elements);
+  }
+
+}
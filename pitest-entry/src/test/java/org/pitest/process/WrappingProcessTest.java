@@ -2,6 +2,7 @@ package org.pitest.process;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
 
 import java.io.File;
 import java.io.IOException;
@@ -9,7 +10,9 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.function.Consumer;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.pitest.classpath.ClassPath;
 import org.pitest.util.NullJavaAgent;
 
@@ -17,6 +20,9 @@ public class WrappingProcessTest {
 
   private static final int EXIT_CODE = 10;
 
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
   public static void main(final String[] args) {
     try {
       System.out.println("Sleeping");
@@ -51,6 +57,42 @@ public class WrappingProcessTest {
     assertEquals(EXIT_CODE, process.waitToDie());
   }
 
+  @Test
+  public void shouldRecordClassDataArchiveForLaterProcessesToShare()
+      throws IOException, InterruptedException {
+    assumeTrue(ClassDataArchive.isSupportedBy(
+        new DefaultJavaExecutableLocator().javaExecutable()));
+    final ClassDataArchive archive = new ClassDataArchive(new File(
+        this.folder.getRoot(), "minions.jsa"));
+    final ClasspathJarCache jars = new ClasspathJarCache(this.folder.getRoot());
+    assertTrue(archive.sharingArgs().isEmpty());
+
+    assertEquals(EXIT_CODE, run(archive, jars, true));
+    assertTrue(archive.getFile().length() > 0);
+
+    assertEquals(EXIT_CODE, run(archive, jars, false));
+    jars.close();
+  }
+
+  private int run(ClassDataArchive archive, ClasspathJarCache jars,
+      boolean record)
+      throws IOException, InterruptedException {
+    final LaunchOptions launchOptions = new LaunchOptions(NullJavaAgent.instance(),
+        new DefaultJavaExecutableLocator(), Collections.emptyList(),
+        new HashMap<>()).withClassDataArchive(archive).withClasspathJars(jars);
+
+    final ProcessArgs processArgs = ProcessArgs
+        .withClassPath(new ClassPath().getLocalClassPath())
+        .andBaseDir(new File(System.getProperty("user.dir")))
+        .andLaunchOptions(launchOptions).andStdout(nullHandler())
+        .andStderr(nullHandler()).andRecordClassData(record);
+
+    final WrappingProcess wrappingProcess = new WrappingProcess(-1, processArgs,
+        getClass());
+    wrappingProcess.start();
+    return wrappingProcess.getProcess().waitToDie();
+  }
+
   private Consumer<String> nullHandler() {
     return a -> {
 
@@ -392,6 +392,47 @@ public class AbstractPitMojo extends AbstractMojo {
   @Parameter(property = "failingTests")
   private ArrayList<String>           failingTests;
 
+  /**
+   * Maximum number of analysis units a mutation test minion may run before it
+   * is replaced.
+   *
+   * The default of 1 launches a new JVM for every unit. Higher values keep a
+   * pool of warm minions alive between units, which removes the JVM start up,
+   * test discovery and JIT warm up cost from all but the first unit a minion
+   * runs. Minions are also replaced after any crash or timeout, when they
+   * report high heap usage, and after a unit that mutated a class that writes
+   * static fields. Static state changed by a mutant through calls into other,
+   * unmutated classes is not detected and may carry over to the next unit.
+   */
+  @Parameter(property = "maxUnitsPerMinion", defaultValue = "1")
+  private int                         maxUnitsPerMinion;
+
+  /**
+   * Number of minion processes to split the test classes across when
+   * gathering coverage
+   */
+  @Parameter(property = "coverageMinions", defaultValue = "1")
+  private int                         coverageMinions;
+
+  /**
+   * Write the xml and csv reports gzip compressed, as mutations.xml.gz and
+   * mutations.csv.gz
+   */
+  @Parameter(property = "compressReports", defaultValue = "false")
+  private boolean                     compressReports;
+
+  /**
+   * When failing tests are given, run coverage for them first and only discover mutants in, and gather coverage of the other tests for, the code they reach.
+   */
+  @Parameter(property = "narrowToFailingTests", defaultValue = "false")
+  private boolean                     narrowToFailingTests;
+
+  /**
+   * Record a class data sharing archive while gathering coverage and share it with the mutation testing minions, so they start faster. Needs java 13 or later.
+   */
+  @Parameter(property = "useClassDataSharing", defaultValue = "false")
+  private boolean                     useClassDataSharing;
+
   public AbstractPitMojo() {
     this(new RunPitStrategy(), new DependencyFilter(PluginServices.makeForLoader(
         AbstractPitMojo.class.getClassLoader())), PluginServices.makeForLoader(
@@ -755,6 +796,26 @@ public class AbstractPitMojo extends AbstractMojo {
     return failingTests == null ? new ArrayList<>() : failingTests;
   }
 
+  public int getMaxUnitsPerMinion() {
+    return this.maxUnitsPerMinion;
+  }
+
+  public int getCoverageMinions() {
+    return this.coverageMinions;
+  }
+
+  public boolean isCompressReports() {
+    return this.compressReports;
+  }
+
+  public boolean isNarrowToFailingTests() {
+    return this.narrowToFailingTests;
+  }
+
+  public boolean isUseClassDataSharing() {
+    return this.useClassDataSharing;
+  }
+
   static class RunDecision {
     private List<String> reasons = new ArrayList<>(4);
 
@@ -161,6 +161,11 @@ public class MojoToReportOptionsConverter {
     data.setOutputEncoding(this.mojo.getOutputEncoding());
 
     data.setFailingTests(this.mojo.getFailingTests());
+    data.setMaxUnitsPerMinion(this.mojo.getMaxUnitsPerMinion());
+    data.setCoverageMinions(this.mojo.getCoverageMinions());
+    data.setCompressReports(this.mojo.isCompressReports());
+    data.setNarrowToFailingTests(this.mojo.isNarrowToFailingTests());
+    data.setUseClassDataSharing(this.mojo.isUseClassDataSharing());
 
     if (this.mojo.getProjectBase() != null) {
       data.setProjectBase(FileSystems.getDefault().getPath(this.mojo.getProjectBase()));
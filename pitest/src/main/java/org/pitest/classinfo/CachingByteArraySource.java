@@ -1,43 +1,74 @@
 package org.pitest.classinfo;
 
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
 import java.util.Optional;
 
+/**
+ * Thread safe least recently used cache of class bytes, limited by the total
+ * size of the bytes held rather than by the number of classes.
+ */
 public class CachingByteArraySource implements ClassByteArraySource {
 
-  private final ClassByteArraySource child;
-  private final Map<String,Optional<byte[]>> cache;
+  // weight given to a class that could not be found
+  private static final int                   MISSING_WEIGHT = 64;
 
-  public CachingByteArraySource(ClassByteArraySource child, int maxSize) {
+  private final ClassByteArraySource         child;
+  private final long                         maxBytes;
+  private final Map<String, Optional<byte[]>> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+  private long                               weight;
+  private long                               hits;
+  private long                               misses;
+
+  public CachingByteArraySource(ClassByteArraySource child, long maxBytes) {
     this.child = child;
-    this.cache = new FixedSizeHashMap<>(maxSize);
+    this.maxBytes = maxBytes;
   }
 
   @Override
   public Optional<byte[]> getBytes(String clazz) {
-    Optional<byte[]> maybeBytes = this.cache.get(clazz);
-    if (maybeBytes != null) {
-      return maybeBytes;
+    synchronized (this) {
+      final Optional<byte[]> maybeBytes = this.cache.get(clazz);
+      if (maybeBytes != null) {
+        this.hits++;
+        return maybeBytes;
+      }
+      this.misses++;
     }
 
-    maybeBytes  = this.child.getBytes(clazz);
-    this.cache.put(clazz, maybeBytes);
+    // read outside the lock so that other threads are not held up by io
+    final Optional<byte[]> maybeBytes = this.child.getBytes(clazz);
+    store(clazz, maybeBytes);
     return maybeBytes;
+  }
 
+  public synchronized long hits() {
+    return this.hits;
   }
 
-}
+  public synchronized long misses() {
+    return this.misses;
+  }
+
+  private synchronized void store(String clazz, Optional<byte[]> maybeBytes) {
+    final Optional<byte[]> previous = this.cache.put(clazz, maybeBytes);
+    if (previous != null) {
+      this.weight = this.weight - weigh(previous);
+    }
+    this.weight = this.weight + weigh(maybeBytes);
 
-class FixedSizeHashMap<K,V> extends LinkedHashMap<K,V> {
-  private final int maxsize;
-  FixedSizeHashMap(int maxsize) {
-    this.maxsize = maxsize;
+    final Iterator<Optional<byte[]>> eldest = this.cache.values().iterator();
+    while (this.weight > this.maxBytes && eldest.hasNext()) {
+      this.weight = this.weight - weigh(eldest.next());
+      eldest.remove();
+    }
   }
-  private static final long serialVersionUID = 2648931151905594122L;
-  @Override
-  protected boolean removeEldestEntry(Map.Entry <K,V> eldest) {
-    return size() > this.maxsize;
-}
+
+  private static int weigh(Optional<byte[]> maybeBytes) {
+    return maybeBytes.map(bytes -> bytes.length).orElse(MISSING_WEIGHT);
+  }
+
 }
@@ -22,7 +22,8 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Enumeration;
-import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -31,11 +32,16 @@ import org.pitest.util.StreamUtil;
 import org.pitest.util.Unchecked;
 
 /**
- * ClassPathRoot wrapping a jar or zip file
+ * ClassPathRoot wrapping a jar or zip file. The archive is opened once and
+ * held open, along with an index of the classes it contains, until closed.
+ * As the root holds its own index it is not wrapped in a NameCachingRoot.
  */
-public class ArchiveClassPathRoot implements ClassPathRoot, IOHeavyRoot {
+public class ArchiveClassPathRoot implements ClassPathRoot {
 
-  private final File file;
+  private final File  file;
+
+  private ZipFile     root;
+  private Set<String> names;
 
   public ArchiveClassPathRoot(final File file) {
     this.file = file;
@@ -43,36 +49,43 @@ public class ArchiveClassPathRoot implements ClassPathRoot, IOHeavyRoot {
 
   @Override
   public InputStream getData(final String name) throws IOException {
-    try (ZipFile zip = getRoot()) {
-      final ZipEntry entry = zip.getEntry(name.replace('.', '/') + ".class");
-      if (entry == null) {
-        return null;
-      }
-      return StreamUtil.copyStream(zip.getInputStream(entry));
+    if (!index().contains(name.replace('/', '.'))) {
+      return null;
+    }
+    final ZipFile zip = getRoot();
+    final ZipEntry entry = zip.getEntry(name.replace('.', '/') + ".class");
+    if (entry == null) {
+      return null;
+    }
+    try (InputStream is = zip.getInputStream(entry)) {
+      return StreamUtil.copyStream(is);
     }
   }
 
   @Override
   public URL getResource(final String name) throws MalformedURLException {
     final ZipFile zip = getRoot();
-    try {
-      final ZipEntry entry = zip.getEntry(name);
-      if (entry != null) {
-        return new URL("jar:file:" + zip.getName() + "!/" + entry.getName());
-      } else {
-        return null;
-      }
-    } finally {
-      closeQuietly(zip);
+    final ZipEntry entry = zip.getEntry(name);
+    if (entry != null) {
+      return new URL("jar:file:" + zip.getName() + "!/" + entry.getName());
+    } else {
+      return null;
     }
-
   }
 
-  private static void closeQuietly(final ZipFile zip) {
-    try {
-      zip.close();
-    } catch (final IOException e) {
-      throw Unchecked.translateCheckedException(e);
+  /**
+   * Closes the archive. It will be reopened if the root is used again.
+   */
+  @Override
+  public synchronized void close() {
+    if (this.root != null) {
+      try {
+        this.root.close();
+      } catch (final IOException e) {
+        throw Unchecked.translateCheckedException(e);
+      } finally {
+        this.root = null;
+      }
     }
   }
 
@@ -83,21 +96,22 @@ public class ArchiveClassPathRoot implements ClassPathRoot, IOHeavyRoot {
 
   @Override
   public Collection<String> classNames() {
-    final List<String> names = new ArrayList<>();
-    final ZipFile root = getRoot();
-    try {
-      final Enumeration<? extends ZipEntry> entries = root.entries();
+    return new ArrayList<>(index());
+  }
+
+  private synchronized Set<String> index() {
+    if (this.names == null) {
+      final Set<String> classes = new LinkedHashSet<>();
+      final Enumeration<? extends ZipEntry> entries = getRoot().entries();
       while (entries.hasMoreElements()) {
         final ZipEntry entry = entries.nextElement();
         if (!entry.isDirectory() && entry.getName().endsWith(".class")) {
-          names.add(stringToClassName(entry.getName()));
+          classes.add(stringToClassName(entry.getName()));
         }
       }
-      return names;
-    } finally {
-      closeQuietly(root);
+      this.names = classes;
     }
-
+    return this.names;
   }
 
   private String stringToClassName(final String name) {
@@ -110,13 +124,16 @@ public class ArchiveClassPathRoot implements ClassPathRoot, IOHeavyRoot {
     return Optional.ofNullable(this.file.getAbsolutePath());
   }
 
-  private ZipFile getRoot() {
-    try {
-      return new ZipFile(this.file);
-    } catch (final IOException ex) {
-      throw Unchecked.translateCheckedException(ex.getMessage() + " ("
-          + this.file + ")", ex);
+  private synchronized ZipFile getRoot() {
+    if (this.root == null) {
+      try {
+        this.root = new ZipFile(this.file);
+      } catch (final IOException ex) {
+        throw Unchecked.translateCheckedException(ex.getMessage() + " ("
+            + this.file + ")", ex);
+      }
     }
+    return this.root;
   }
 
 }
@@ -149,6 +149,13 @@ public class ClassPath {
     return this.root.cacheLocation().get();
   }
 
+  /**
+   * Closes any archives held open by the class path
+   */
+  public void close() {
+    this.root.close();
+  }
+
   public ClassPath getComponent(final Predicate<ClassPathRoot> predicate) {
     return new ClassPath(FCollection.filter(this.root, predicate).toArray(
         new ClassPathRoot[0]));
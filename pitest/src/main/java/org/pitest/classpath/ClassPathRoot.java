@@ -32,4 +32,10 @@ public interface ClassPathRoot {
 
   Optional<String> cacheLocation();
 
+  /**
+   * Releases any file handles held by the root
+   */
+  default void close() {
+  }
+
 }
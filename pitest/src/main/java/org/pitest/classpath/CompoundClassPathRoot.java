@@ -76,6 +76,13 @@ public class CompoundClassPathRoot implements ClassPathRoot,
     return Optional.ofNullable(classpath.toString());
   }
 
+  @Override
+  public void close() {
+    for (final ClassPathRoot each : this.roots) {
+      each.close();
+    }
+  }
+
   @Override
   public Iterator<ClassPathRoot> iterator() {
     return this.roots.iterator();
@@ -58,6 +58,11 @@ public class NameCachingRoot implements ClassPathRoot {
     return this.child.cacheLocation();
   }
 
+  @Override
+  public void close() {
+    this.child.close();
+  }
+
   public static Function<ClassPathRoot, ClassPathRoot> toCachingRoot() {
      return a -> {
       // ugly hack to determine where caching will be useful
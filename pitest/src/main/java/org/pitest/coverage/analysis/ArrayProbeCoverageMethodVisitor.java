@@ -121,11 +121,17 @@ public class ArrayProbeCoverageMethodVisitor extends AbstractCoverageStrategy {
     //else do nothing
     this.mv.visitLabel(notnull);
 
-    //Make sure that we recorded that the class was hit
+    //Make sure that we recorded that the class was hit. The store is only
+    //called the first time so it can track which classes a test touched
     this.mv.visitInsn(DUP);
     this.mv.visitInsn(ICONST_0);
-    this.mv.visitInsn(ICONST_1);
-    this.mv.visitInsn(BASTORE);
+    this.mv.visitInsn(BALOAD);
+    Label hit = new Label();
+    this.mv.visitJumpInsn(Opcodes.IFNE, hit);
+    pushConstant(this.classId);
+    this.mv.visitMethodInsn(Opcodes.INVOKESTATIC, CodeCoverageStore.CLASS_NAME,
+            "classTouched", "(I)V", false);
+    this.mv.visitLabel(hit);
     this.mv.visitVarInsn(ASTORE, this.probeHitArrayLocal);
   }
 
@@ -1,7 +1,6 @@
 package org.pitest.coverage.execute;
 
 import java.io.OutputStream;
-import java.util.Collection;
 
 import org.pitest.coverage.CoverageReceiver;
 import org.pitest.testapi.Description;
@@ -10,10 +9,12 @@ import org.pitest.util.Id;
 import org.pitest.util.SafeDataOutputStream;
 
 import sun.pitest.CodeCoverageStore;
+import sun.pitest.ProbeHitReceiver;
 
 public class CoveragePipe implements CoverageReceiver {
 
   private final SafeDataOutputStream dos;
+  private final ProbeHitReceiver     hitWriter = this::writeHits;
 
   public CoveragePipe(final OutputStream dos) {
     this.dos = new SafeDataOutputStream(dos);
@@ -22,19 +23,15 @@ public class CoveragePipe implements CoverageReceiver {
   @Override
   public synchronized void recordTestOutcome(final Description description,
       final boolean wasGreen, final int executionTime) {
-    final Collection<Long> hits = CodeCoverageStore.getHits();
-
     this.dos.writeByte(Id.OUTCOME);
     this.dos.write(description);
-    this.dos.writeInt(hits.size());
-    for (final Long each : hits) {
-      this.dos.writeLong(each);
-    }
+    CodeCoverageStore.drainHits(this.hitWriter);
     this.dos.writeBoolean(wasGreen);
     this.dos.writeInt(executionTime);
-    
-    CodeCoverageStore.reset();
+  }
 
+  private void writeHits(final long[] hits, final int count) {
+    ProbeHitCodec.write(this.dos, hits, count);
   }
 
   public synchronized void end(final ExitCode exitCode) {
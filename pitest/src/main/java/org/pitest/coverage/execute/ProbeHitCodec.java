@@ -0,0 +1,131 @@
+package org.pitest.coverage.execute;
+
+import org.pitest.util.PitError;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+
+import sun.pitest.CodeCoverageStore;
+
+/**
+ * Compact encoding of the probes hit by a test. Hits are grouped by class id
+ * and each group is sent either as delta encoded probe ids or, when most of
+ * the probes in its range were hit, as a bitmap.
+ */
+public final class ProbeHitCodec {
+
+  private static final byte DELTAS = 0;
+  private static final byte BITMAP = 1;
+
+  public interface Visitor {
+    void visit(int classId, int probe);
+  }
+
+  private ProbeHitCodec() {
+  }
+
+  /**
+   * Writes hits encoded as per CodeCoverageStore.encode. Hits for a class
+   * must be contiguous and in ascending probe order.
+   */
+  public static void write(final SafeDataOutputStream out, final long[] hits,
+      final int count) {
+    out.writeVarInt(countClasses(hits, count));
+    int start = 0;
+    while (start != count) {
+      final int classId = CodeCoverageStore.decodeClassId(hits[start]);
+      int end = start + 1;
+      while (end != count && CodeCoverageStore.decodeClassId(hits[end]) == classId) {
+        end++;
+      }
+      writeClass(out, classId, hits, start, end);
+      start = end;
+    }
+  }
+
+  public static void read(final SafeDataInputStream in, final Visitor visitor) {
+    final int classes = in.readVarInt();
+    for (int c = 0; c != classes; c++) {
+      final int classId = in.readVarInt();
+      final byte format = in.readByte();
+      if (format == DELTAS) {
+        readDeltas(in, classId, visitor);
+      } else if (format == BITMAP) {
+        readBitmap(in, classId, visitor);
+      } else {
+        throw new PitError("Unknown probe encoding " + format);
+      }
+    }
+  }
+
+  private static int countClasses(final long[] hits, final int count) {
+    int classes = 0;
+    for (int i = 0; i != count; i++) {
+      if (i == 0 || CodeCoverageStore.decodeClassId(hits[i]) != CodeCoverageStore
+          .decodeClassId(hits[i - 1])) {
+        classes++;
+      }
+    }
+    return classes;
+  }
+
+  private static void writeClass(final SafeDataOutputStream out,
+      final int classId, final long[] hits, final int start, final int end) {
+    out.writeVarInt(classId);
+    final int probes = end - start;
+    final int maxProbe = CodeCoverageStore.decodeLineId(hits[end - 1]);
+    final int words = (maxProbe >>> 6) + 1;
+    // a delta usually fits in a single byte, so use a bitmap once it is
+    // smaller than one byte per hit
+    if (words * 8 < probes) {
+      out.writeByte(BITMAP);
+      writeBitmap(out, hits, start, end, words);
+    } else {
+      out.writeByte(DELTAS);
+      out.writeVarInt(probes);
+      int previous = 0;
+      for (int i = start; i != end; i++) {
+        final int probe = CodeCoverageStore.decodeLineId(hits[i]);
+        out.writeVarInt(probe - previous);
+        previous = probe;
+      }
+    }
+  }
+
+  private static void writeBitmap(final SafeDataOutputStream out,
+      final long[] hits, final int start, final int end, final int words) {
+    out.writeVarInt(words);
+    int i = start;
+    for (int word = 0; word != words; word++) {
+      long bits = 0;
+      while (i != end && (CodeCoverageStore.decodeLineId(hits[i]) >>> 6) == word) {
+        bits |= 1L << (CodeCoverageStore.decodeLineId(hits[i]) & 63);
+        i++;
+      }
+      out.writeLong(bits);
+    }
+  }
+
+  private static void readDeltas(final SafeDataInputStream in,
+      final int classId, final Visitor visitor) {
+    final int probes = in.readVarInt();
+    int probe = 0;
+    for (int i = 0; i != probes; i++) {
+      probe += in.readVarInt();
+      visitor.visit(classId, probe);
+    }
+  }
+
+  private static void readBitmap(final SafeDataInputStream in,
+      final int classId, final Visitor visitor) {
+    final int words = in.readVarInt();
+    for (int word = 0; word != words; word++) {
+      long bits = in.readLong();
+      while (bits != 0) {
+        final int bit = Long.numberOfTrailingZeros(bits);
+        visitor.visit(classId, (word << 6) + bit);
+        bits &= bits - 1;
+      }
+    }
+  }
+
+}
@@ -14,24 +14,51 @@
  */
 package org.pitest.mutationtest;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
+/**
+ * Outcome of a mutation along with the tests that killed it or let it
+ * survive. Tests are held as ids from the {@link TestRegistry} of the run the
+ * pair was created in, with one bitset of tests per outcome, and are returned
+ * as lists of names sorted by name so that output does not depend on the
+ * order in which tests were first seen.
+ */
 public final class MutationStatusTestPair implements Serializable {
 
   private static final long serialVersionUID = 1L;
 
+  // serialized with the names of the tests, as ids differ between JVMs
+  private static final ObjectStreamField[] serialPersistentFields = {
+      new ObjectStreamField("numberOfTestsRun", int.class),
+      new ObjectStreamField("status", DetectionStatus.class),
+      new ObjectStreamField("killingTests", List.class),
+      new ObjectStreamField("succeedingTests", List.class),
+      new ObjectStreamField("timeOutTests", List.class),
+      new ObjectStreamField("runErrorTests", List.class),
+      new ObjectStreamField("memoryErrorTests", List.class) };
+
+  private transient TestRegistry registry;
+
   private int             numberOfTestsRun;
   private DetectionStatus status;
-  private final List<String>    killingTests;
-  private final List<String>    succeedingTests;
-  private final List<String>    timeOutTests;
-  private final List<String>    runErrorTests;
-  private final List<String>    memoryErrorTests;
+  private BitSet          killingTests;
+  private BitSet          succeedingTests;
+  private BitSet          timeOutTests;
+  private BitSet          runErrorTests;
+  private BitSet          memoryErrorTests;
 
   public static MutationStatusTestPair notAnalysed(int testsRun, DetectionStatus status) {
     return new MutationStatusTestPair(testsRun, status, Collections.emptyList(), Collections.emptyList(),
@@ -54,13 +81,14 @@ public final class MutationStatusTestPair implements Serializable {
       final DetectionStatus status, final List<String> killingTests,
       final List<String> succeedingTests, final List<String> timeOutTests, 
       final List<String> runErrorTests, final List<String> memoryErrorTests) {
+    this.registry = TestRegistry.current();
     this.status = status;
-    this.killingTests = new LinkedList<>(killingTests);
-    this.succeedingTests = new LinkedList<>(succeedingTests);
+    this.killingTests = toIds(killingTests);
+    this.succeedingTests = toIds(succeedingTests);
     this.numberOfTestsRun = numberOfTestsRun;
-    this.timeOutTests = new LinkedList<>(timeOutTests);
-    this.runErrorTests = new LinkedList<>(runErrorTests);
-    this.memoryErrorTests = new LinkedList<>(memoryErrorTests);
+    this.timeOutTests = toIds(timeOutTests);
+    this.runErrorTests = toIds(runErrorTests);
+    this.memoryErrorTests = toIds(memoryErrorTests);
   }
   
   private static List<String> killingTestToList(String killingTest) {
@@ -71,6 +99,30 @@ public final class MutationStatusTestPair implements Serializable {
     return Collections.singletonList(killingTest);
   }
 
+  private BitSet toIds(Collection<String> tests) {
+    final BitSet ids = new BitSet(0);
+    if (tests != null) {
+      for (final String each : tests) {
+        ids.set(this.registry.idFor(each));
+      }
+    }
+    return ids;
+  }
+
+  /**
+   * Ids in this pair's registry of tests held by another pair
+   */
+  private BitSet toIds(MutationStatusTestPair other, BitSet tests) {
+    if (other.registry == this.registry) {
+      return tests;
+    }
+    return toIds(other.names(tests));
+  }
+
+  private List<String> names(BitSet tests) {
+    return new TestNames(this.registry, tests);
+  }
+
   public DetectionStatus getStatus() {
     return this.status;
   }
@@ -83,21 +135,21 @@ public final class MutationStatusTestPair implements Serializable {
     if (this.killingTests.isEmpty()) {
       return Optional.empty();
     }
-    return Optional.of(this.killingTests.get(0));
+    return Optional.of(getKillingTests().get(0));
   }
 
   /** Get all killing tests.
    *  If the full mutation matrix is not enabled, this will only be the first killing test. 
    */
   public List<String> getKillingTests() {
-    return killingTests;
+    return names(this.killingTests);
   }
 
   /** Get all succeeding tests.
    *  If the full mutation matrix is not enabled, this list will be empty. 
    */
   public List<String> getSucceedingTests() {
-    return succeedingTests;
+    return names(this.succeedingTests);
   }
 
   public int getNumberOfTestsRun() {
@@ -109,14 +161,17 @@ public final class MutationStatusTestPair implements Serializable {
     if (this.killingTests.isEmpty()) {
       return this.status.name();
     } else {
-      return this.status.name() + " by " + this.killingTests;
+      return this.status.name() + " by " + getKillingTests();
     }
 
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(numberOfTestsRun, status, killingTests, succeedingTests, memoryErrorTests, runErrorTests, timeOutTests);
+    // ids differ between registries, the number of tests does not
+    return Objects.hash(numberOfTestsRun, status, killingTests.cardinality(),
+        succeedingTests.cardinality(), memoryErrorTests.cardinality(),
+        runErrorTests.cardinality(), timeOutTests.cardinality());
   }
 
   @Override
@@ -130,41 +185,78 @@ public final class MutationStatusTestPair implements Serializable {
     final MutationStatusTestPair other = (MutationStatusTestPair) obj;
     return numberOfTestsRun == other.numberOfTestsRun
             && status == other.status
-            && Objects.equals(killingTests, other.killingTests)
-            && Objects.equals(succeedingTests, other.succeedingTests)
-            && Objects.equals(memoryErrorTests, other.memoryErrorTests)
-            && Objects.equals(runErrorTests, other.runErrorTests)
-            && Objects.equals(timeOutTests, other.timeOutTests);
+            && sameTests(killingTests, other, other.killingTests)
+            && sameTests(succeedingTests, other, other.succeedingTests)
+            && sameTests(memoryErrorTests, other, other.memoryErrorTests)
+            && sameTests(runErrorTests, other, other.runErrorTests)
+            && sameTests(timeOutTests, other, other.timeOutTests);
+  }
+
+  private boolean sameTests(BitSet tests, MutationStatusTestPair other,
+      BitSet otherTests) {
+    if (this.registry == other.registry) {
+      return Objects.equals(tests, otherTests);
+    }
+    return names(tests).equals(other.names(otherTests));
   }
 
   public void accumulate(MutationStatusTestPair status, String testName) {
     this.numberOfTestsRun += status.numberOfTestsRun;
 
+    final int test = this.registry.idFor(testName);
     if (status.status.equals(DetectionStatus.KILLED)) {
-      if (!this.killingTests.contains(testName)) {
-        this.killingTests.add(testName);
-      }
-      this.succeedingTests.remove(testName);
-    } else if (status.status.equals(DetectionStatus.SURVIVED) && !this.killingTests.contains(testName)
-            && !this.succeedingTests.contains(testName)) {
-      this.succeedingTests.add(testName);
+      this.killingTests.set(test);
+      this.succeedingTests.clear(test);
+    } else if (status.status.equals(DetectionStatus.SURVIVED) && !this.killingTests.get(test)) {
+      this.succeedingTests.set(test);
     } else if (status.status.equals(DetectionStatus.MEMORY_ERROR)) {
-      if (!this.memoryErrorTests.contains(testName)) {
-        this.memoryErrorTests.add(testName);
-      }
-      this.succeedingTests.remove(testName);
+      this.memoryErrorTests.set(test);
+      this.succeedingTests.clear(test);
     } else if (status.status.equals(DetectionStatus.RUN_ERROR)) {
-      if (!this.runErrorTests.contains(testName)) {
-        this.runErrorTests.add(testName);
-      }
-      this.succeedingTests.remove(testName);
+      this.runErrorTests.set(test);
+      this.succeedingTests.clear(test);
     } else if (status.status.equals(DetectionStatus.TIMED_OUT)) {
-      if (!this.timeOutTests.contains(testName)) {
-        this.timeOutTests.add(testName);
-      }
-      this.succeedingTests.remove(testName);
+      this.timeOutTests.set(test);
+      this.succeedingTests.clear(test);
+    }
+
+    updateStatus(status.status);
+  }
+
+  /**
+   * Records a test finishing against a mutant that is still being analysed.
+   * The status is left as it is until the result for the mutant is known.
+   */
+  public void testFinished(String testName, boolean killed) {
+    this.numberOfTestsRun++;
+    final int test = this.registry.idFor(testName);
+    if (killed) {
+      this.killingTests.set(test);
+    } else {
+      this.succeedingTests.set(test);
     }
+  }
+
+  /**
+   * Combines the results of running a further set of tests against the same
+   * mutation.
+   */
+  public void merge(MutationStatusTestPair other) {
+    this.numberOfTestsRun += other.numberOfTestsRun;
+    this.killingTests.or(toIds(other, other.killingTests));
+    this.timeOutTests.or(toIds(other, other.timeOutTests));
+    this.runErrorTests.or(toIds(other, other.runErrorTests));
+    this.memoryErrorTests.or(toIds(other, other.memoryErrorTests));
+    this.succeedingTests.or(toIds(other, other.succeedingTests));
+    this.succeedingTests.andNot(this.killingTests);
+    this.succeedingTests.andNot(this.timeOutTests);
+    this.succeedingTests.andNot(this.runErrorTests);
+    this.succeedingTests.andNot(this.memoryErrorTests);
+
+    updateStatus(other.status);
+  }
 
+  private void updateStatus(DetectionStatus otherwise) {
     if (!this.killingTests.isEmpty()) {
       this.status = DetectionStatus.KILLED;
     } else if (!this.runErrorTests.isEmpty()) {
@@ -176,30 +268,79 @@ public final class MutationStatusTestPair implements Serializable {
     } else if (!this.succeedingTests.isEmpty()) {
       this.status = DetectionStatus.SURVIVED;
     } else {
-      this.status = status.status;
+      this.status = otherwise;
     }
   }
 
   public List<String> getMemoryErrorTests() {
-    return memoryErrorTests;
+    return names(this.memoryErrorTests);
   }
 
   public List<String> getRunErrorTests() {
-    return runErrorTests;
+    return names(this.runErrorTests);
   }
 
   public List<String> getTimeOuttests() {
-    return timeOutTests;
+    return names(this.timeOutTests);
   }
 
   public void setErrorStatusAndName(DetectionStatus status, String testName) {
     this.status = status;
     if (this.status == DetectionStatus.RUN_ERROR) {
-      this.runErrorTests.add(testName);
+      this.runErrorTests.set(this.registry.idFor(testName));
     } else if (this.status == DetectionStatus.MEMORY_ERROR) {
-      this.memoryErrorTests.add(testName);
+      this.memoryErrorTests.set(this.registry.idFor(testName));
     } else if (this.status == DetectionStatus.TIMED_OUT) {
-      this.timeOutTests.add(testName);
+      this.timeOutTests.set(this.registry.idFor(testName));
+    }
+  }
+
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    final ObjectOutputStream.PutField fields = out.putFields();
+    fields.put("numberOfTestsRun", this.numberOfTestsRun);
+    fields.put("status", this.status);
+    fields.put("killingTests", new ArrayList<>(getKillingTests()));
+    fields.put("succeedingTests", new ArrayList<>(getSucceedingTests()));
+    fields.put("timeOutTests", new ArrayList<>(getTimeOuttests()));
+    fields.put("runErrorTests", new ArrayList<>(getRunErrorTests()));
+    fields.put("memoryErrorTests", new ArrayList<>(getMemoryErrorTests()));
+    out.writeFields();
+  }
+
+  @SuppressWarnings("unchecked")
+  private void readObject(ObjectInputStream in) throws IOException,
+      ClassNotFoundException {
+    final ObjectInputStream.GetField fields = in.readFields();
+    this.registry = TestRegistry.current();
+    this.numberOfTestsRun = fields.get("numberOfTestsRun", 0);
+    this.status = (DetectionStatus) fields.get("status", null);
+    this.killingTests = toIds((List<String>) fields.get("killingTests", null));
+    this.succeedingTests = toIds((List<String>) fields.get("succeedingTests", null));
+    this.timeOutTests = toIds((List<String>) fields.get("timeOutTests", null));
+    this.runErrorTests = toIds((List<String>) fields.get("runErrorTests", null));
+    this.memoryErrorTests = toIds((List<String>) fields.get("memoryErrorTests", null));
+  }
+
+  /**
+   * Read only list of the names of a set of tests, sorted by name
+   */
+  private static final class TestNames extends AbstractList<String> {
+    private final String[] names;
+
+    TestNames(TestRegistry registry, BitSet tests) {
+      this.names = tests.stream().mapToObj(registry::nameOf)
+          .toArray(String[]::new);
+      Arrays.sort(this.names);
+    }
+
+    @Override
+    public String get(int index) {
+      return this.names[index];
+    }
+
+    @Override
+    public int size() {
+      return this.names.length;
     }
   }
 }
@@ -0,0 +1,74 @@
+package org.pitest.mutationtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Gives each test name seen during a run a dense int id, so that results can
+ * refer to tests by id rather than each holding its own copy of the names.
+ * Ids are only meaningful within the registry that assigned them.
+ *
+ * Results are created against the registry of the current run and keep a
+ * reference to it, so a registry and its names are released once the results
+ * of its run are no longer used. A new registry is started by
+ * {@link #endRun()} so names do not accumulate in long lived JVMs that
+ * analyse several projects.
+ */
+public final class TestRegistry {
+
+  private static final AtomicReference<TestRegistry> CURRENT = new AtomicReference<>(
+      new TestRegistry());
+
+  private final Map<String, Integer> ids   = new ConcurrentHashMap<>();
+  private volatile String[]          names = new String[64];
+  private int                        count;
+
+  TestRegistry() {
+  }
+
+  /**
+   * The registry used for results created during the current run
+   */
+  public static TestRegistry current() {
+    return CURRENT.get();
+  }
+
+  /**
+   * Results created after this call use a new registry. Results created
+   * before it are unaffected.
+   */
+  public static void endRun() {
+    CURRENT.set(new TestRegistry());
+  }
+
+  public int idFor(String name) {
+    final Integer existing = this.ids.get(name);
+    if (existing != null) {
+      return existing;
+    }
+    return register(name);
+  }
+
+  public String nameOf(int id) {
+    return this.names[id];
+  }
+
+  private synchronized int register(String name) {
+    final Integer existing = this.ids.get(name);
+    if (existing != null) {
+      return existing;
+    }
+    String[] grown = this.names;
+    if (this.count == grown.length) {
+      grown = Arrays.copyOf(grown, grown.length * 2);
+    }
+    grown[this.count] = name;
+    // publish the name before the id so readers of an id always see it
+    this.names = grown;
+    this.ids.put(name, this.count);
+    return this.count++;
+  }
+
+}
@@ -30,6 +30,7 @@ import java.util.stream.Collectors;
 
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.tree.ClassNode;
 import org.pitest.bytecode.FrameOptions;
 import org.pitest.bytecode.NullVisitor;
 import org.pitest.classinfo.ClassByteArraySource;
@@ -48,6 +49,11 @@ public class GregorMutater implements Mutater {
   private final ClassByteArraySource      byteSource;
   private final List<MethodMutatorFactory> mutators;
 
+  // mutants are requested a class at a time, so keep the last class parsed
+  private ClassName                       parsedClass;
+  private byte[]                          parsedBytes;
+  private ClassNode                       parsedNode;
+
   public GregorMutater(final ClassByteArraySource byteSource,
       final Predicate<MethodInfo> filter,
       final Collection<MethodMutatorFactory> mutators) {
@@ -94,16 +100,14 @@ public class GregorMutater implements Mutater {
     final ClassContext context = new ClassContext();
     context.setTargetMutation(Optional.ofNullable(id));
 
-    final Optional<byte[]> bytes = this.byteSource.getBytes(id.getClassName()
-        .asJavaName());
+    parse(id.getClassName());
 
-    final ClassReader reader = new ClassReader(bytes.get());
     final ClassWriter w = new ComputeClassWriter(this.byteSource,
-        this.computeCache, FrameOptions.pickFlags(bytes.get()));
+        this.computeCache, FrameOptions.pickFlags(this.parsedBytes));
     final MutatingClassVisitor mca = new MutatingClassVisitor(w, context,
         filterMethods(), FCollection.filter(this.mutators,
             isMutatorFor(id)));
-    reader.accept(mca, ClassReader.EXPAND_FRAMES);
+    this.parsedNode.accept(mca);
 
     final List<MutationDetails> details = context.getMutationDetails(context
         .getTargetMutation().get());
@@ -112,6 +116,18 @@ public class GregorMutater implements Mutater {
 
   }
 
+  private void parse(final ClassName clazz) {
+    if (clazz.equals(this.parsedClass)) {
+      return;
+    }
+    final byte[] bytes = this.byteSource.getBytes(clazz.asJavaName()).get();
+    final ClassNode node = new ClassNode();
+    new ClassReader(bytes).accept(node, ClassReader.EXPAND_FRAMES);
+    this.parsedClass = clazz;
+    this.parsedBytes = bytes;
+    this.parsedNode = node;
+  }
+
   private static Predicate<MethodMutatorFactory> isMutatorFor(
       final MutationIdentifier id) {
     return a -> id.getMutator().equals(a.getGloballyUniqueId());
@@ -46,6 +46,16 @@ public class DefaultReporter implements Reporter {
     this.w.flush();
   }
 
+  @Override
+  public synchronized void progress(final MutationIdentifier i,
+      final String testName, final boolean killed) {
+    this.w.writeByte(Id.PROGRESS);
+    this.w.write(i);
+    this.w.writeString(testName);
+    this.w.writeBoolean(killed);
+    this.w.flush();
+  }
+
   @Override
   public synchronized void done(final ExitCode exitCode) {
     this.w.writeByte(Id.DONE);
@@ -53,4 +63,10 @@ public class DefaultReporter implements Reporter {
     this.w.flush();
   }
 
+  @Override
+  public synchronized void recycle() {
+    this.w.writeByte(Id.RECYCLE);
+    this.w.flush();
+  }
+
 }
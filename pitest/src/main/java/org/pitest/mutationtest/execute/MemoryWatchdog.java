@@ -18,6 +18,7 @@ package org.pitest.mutationtest.execute;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
 import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
 import java.lang.management.MemoryUsage;
 import java.util.List;
 
@@ -49,4 +50,22 @@ public class MemoryWatchdog {
     }
   }
 
+  /**
+   * Checks whether any heap pool was still above the given percentage of its
+   * maximum size after the last garbage collection, i.e. whether memory is
+   * being retained rather than just awaiting collection.
+   */
+  public static boolean isHeapRetainedAbove(final long threshold) {
+    for (final MemoryPoolMXBean mp : ManagementFactory.getMemoryPoolMXBeans()) {
+      if (mp.getType() == MemoryType.HEAP && mp.isCollectionUsageThresholdSupported()) {
+        final MemoryUsage mu = mp.getCollectionUsage();
+        final long max = mu.getMax();
+        if (max > 0 && mu.getUsed() > (max * threshold) / 100) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
 }
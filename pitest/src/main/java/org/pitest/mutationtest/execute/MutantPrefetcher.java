@@ -0,0 +1,79 @@
+package org.pitest.mutationtest.execute;
+
+import static org.pitest.util.Unchecked.translateCheckedException;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * Generates mutants on a background thread a few mutations ahead of the one
+ * whose tests are running. All mutants are created on the one thread, so the
+ * mutater need not be thread safe.
+ */
+final class MutantPrefetcher implements AutoCloseable {
+
+  private final Mutater                   mutater;
+  private final Iterator<MutationDetails> upcoming;
+  private final Queue<Future<Mutant>>     pending = new ArrayDeque<>();
+  private final ExecutorService           executor;
+
+  MutantPrefetcher(final Mutater mutater,
+      final Iterable<MutationDetails> mutations, final int lookAhead) {
+    this.mutater = mutater;
+    this.upcoming = mutations.iterator();
+    this.executor = Executors.newSingleThreadExecutor(r -> {
+      final Thread thread = new Thread(r);
+      thread.setDaemon(true);
+      thread.setName("pit mutant prefetch");
+      return thread;
+    });
+    for (int i = 0; i != lookAhead; i++) {
+      submitNext();
+    }
+  }
+
+  /**
+   * Mutant for the next mutation, in the order the mutations were given
+   */
+  Mutant next() {
+    submitNext();
+    final Future<Mutant> mutant = this.pending.remove();
+    try {
+      return mutant.get();
+    } catch (final ExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      }
+      if (ex.getCause() instanceof Error) {
+        throw (Error) ex.getCause();
+      }
+      throw translateCheckedException(ex.getCause());
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw translateCheckedException(ex);
+    }
+  }
+
+  @Override
+  public void close() {
+    this.executor.shutdownNow();
+  }
+
+  private void submitNext() {
+    if (this.upcoming.hasNext()) {
+      final MutationDetails mutation = this.upcoming.next();
+      this.pending.add(this.executor
+          .submit(() -> this.mutater.getMutation(mutation.getId())));
+    }
+  }
+
+}
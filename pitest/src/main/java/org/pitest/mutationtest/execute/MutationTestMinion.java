@@ -19,6 +19,7 @@ import org.pitest.classinfo.CachingByteArraySource;
 import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.functional.SideEffect;
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.mutationtest.EngineArguments;
 import org.pitest.mutationtest.config.ClientPluginServices;
@@ -42,35 +43,52 @@ import javax.management.openmbean.CompositeData;
 import java.io.IOException;
 import java.lang.management.MemoryNotificationInfo;
 import java.net.Socket;
+import java.net.SocketException;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class MutationTestMinion {
 
   private static final Logger       LOG = Log.getLogger();
 
   // We maintain a small cache to avoid reading byte code off disk more than once
-  // Size is arbitrary but assumed to be large enough to cover likely max number of inner classes
-  private static final int CACHE_SIZE = 12;
+  // Size is arbitrary but assumed to be large enough to cover a class, its inner
+  // classes and the supertypes looked up when computing frames
+  private static final long CACHE_BYTES = 2 * 1024 * 1024;
+
+  // A pooled minion asks to be replaced once this percentage of a heap pool
+  // survives collection, so it is retired before the memory watchdog fires
+  private static final long RECYCLE_HEAP_PERCENT = 70;
 
   private final SafeDataInputStream dis;
   private final Reporter            reporter;
   private final MinionSettings      plugins;
+  private final SideEffect          beforeWaitingForWork;
+  private final Map<ClassName, List<TestUnit>> discoveredTests = new HashMap<>();
 
   public MutationTestMinion(MinionSettings plugins, final SafeDataInputStream dis,
       final Reporter reporter) {
+    this(plugins, dis, reporter, () -> { });
+  }
+
+  public MutationTestMinion(MinionSettings plugins, final SafeDataInputStream dis,
+      final Reporter reporter, final SideEffect beforeWaitingForWork) {
     this.dis = dis;
     this.reporter = reporter;
     this.plugins = plugins;
+    this.beforeWaitingForWork = beforeWaitingForWork;
   }
 
   public void run() {
     try {
 
-      final MinionArguments paramsFromParent = this.dis
+      MinionArguments paramsFromParent = this.dis
           .read(MinionArguments.class);
 
       configureVerbosity(paramsFromParent);
@@ -78,7 +96,7 @@ public class MutationTestMinion {
       final ClassLoader loader = IsolationUtils.getContextClassLoader();
 
       final ClassByteArraySource byteSource = new CachingByteArraySource(new ClassloaderByteArraySource(
-          loader), CACHE_SIZE);
+          loader), CACHE_BYTES);
 
       final HotSwap hotswap = new HotSwap();
 
@@ -88,14 +106,18 @@ public class MutationTestMinion {
       final MutationTestWorker worker = new MutationTestWorker(hotswap,
           engine.createMutator(byteSource), loader, paramsFromParent.fullMutationMatrix);
 
-      final List<TestUnit> tests = findTestsForTestClasses(loader,
-          paramsFromParent.testClasses, createTestPlugin(paramsFromParent.pitConfig));
+      final Configuration testPlugin = createTestPlugin(paramsFromParent.pitConfig);
 
-      worker.run(paramsFromParent.mutations, this.reporter,
-          new TimeOutDecoratedTestSource(paramsFromParent.timeoutStrategy,
-              tests, this.reporter));
+      while (paramsFromParent != null) {
+        final List<TestUnit> tests = findTestsForTestClasses(loader,
+            paramsFromParent.testClasses, testPlugin);
 
-      this.reporter.done(ExitCode.OK);
+        worker.run(paramsFromParent.mutations, this.reporter,
+            new TimeOutDecoratedTestSource(paramsFromParent.timeoutStrategy,
+                tests, this.reporter));
+
+        paramsFromParent = finishUnit(paramsFromParent, worker, byteSource);
+      }
     } catch (final Throwable ex) {
       ex.printStackTrace(System.out);
       LOG.log(Level.WARNING, "Error during mutation test", ex);
@@ -104,6 +126,36 @@ public class MutationTestMinion {
 
   }
 
+  /**
+   * Reports the end of a unit. A pooled minion then restores the classes it
+   * mutated and blocks until the parent sends another unit or releases it.
+   * It asks to be replaced instead if the mutated classes write static
+   * fields, as restoring their bytecode does not restore that state.
+   */
+  private MinionArguments finishUnit(final MinionArguments current,
+      final MutationTestWorker worker, final ClassByteArraySource byteSource) {
+    if (!current.pooled) {
+      this.reporter.done(ExitCode.OK);
+      return null;
+    }
+
+    // a fresh JVM is needed if mutants may have left static state behind
+    final boolean staticStateWritten = worker
+        .mutatedClassesWriteStaticState(byteSource);
+    worker.restoreOriginalClasses(byteSource);
+    if (staticStateWritten
+        || MemoryWatchdog.isHeapRetainedAbove(RECYCLE_HEAP_PERCENT)) {
+      this.reporter.recycle();
+    }
+    this.reporter.done(ExitCode.OK);
+
+    this.beforeWaitingForWork.apply();
+    if (this.dis.readBoolean()) {
+      return this.dis.read(MinionArguments.class);
+    }
+    return null;
+  }
+
   private void configureVerbosity(MinionArguments paramsFromParent) {
     Log.setVerbose(paramsFromParent.verbosity());
     if (!paramsFromParent.verbosity().showMinionOutput()) {
@@ -139,7 +191,9 @@ public class MutationTestMinion {
       addMemoryWatchDog(reporter);
       final ClientPluginServices plugins = ClientPluginServices.makeForContextLoader();
       final MinionSettings factory = new MinionSettings(plugins);
-      final MutationTestMinion instance = new MutationTestMinion(factory, dis, reporter);
+      final Socket socket = s;
+      final MutationTestMinion instance = new MutationTestMinion(factory, dis, reporter,
+          () -> waitIndefinitely(socket));
       instance.run();
     } catch (final Throwable ex) {
       ex.printStackTrace(System.out);
@@ -152,14 +206,33 @@ public class MutationTestMinion {
 
   }
 
-  private static List<TestUnit> findTestsForTestClasses(
+  private List<TestUnit> findTestsForTestClasses(
       final ClassLoader loader, final Collection<ClassName> testClasses,
       final Configuration pitConfig) {
-    final Collection<Class<?>> tcs = testClasses.stream().flatMap(ClassName.nameToClass(loader)).collect(Collectors.toList());
+    // discovered tests are kept so pooled minions scan each test class only once
+    return testClasses.stream()
+        .flatMap(c -> this.discoveredTests.computeIfAbsent(c, k -> findTestsForTestClass(loader, k, pitConfig)).stream())
+        .collect(Collectors.toList());
+  }
+
+  private static List<TestUnit> findTestsForTestClass(
+      final ClassLoader loader, final ClassName testClass,
+      final Configuration pitConfig) {
+    final Collection<Class<?>> tcs = Stream.of(testClass).flatMap(ClassName.nameToClass(loader)).collect(Collectors.toList());
     final FindTestUnits finder = new FindTestUnits(pitConfig);
     return finder.findTestUnitsForAllSuppliedClasses(tcs);
   }
 
+  private static void waitIndefinitely(final Socket s) {
+    // an idle pooled minion may wait for work for as long as the parent runs,
+    // the parent closing the socket is what signals that it should shut down
+    try {
+      s.setSoTimeout(0);
+    } catch (final SocketException e) {
+      LOG.log(Level.WARNING, "Couldn't clear socket timeout", e);
+    }
+  }
+
   private static void enablePowerMockSupport() {
     // Bwahahahahahahaha
     HotSwapAgent.addTransformer(new BendJavassistToMyWillTransformer(Prelude
@@ -14,6 +14,13 @@
  */
 package org.pitest.mutationtest.execute;
 
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.pitest.bytecode.ASMVersion;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.engine.Mutant;
@@ -36,7 +43,10 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -45,6 +55,9 @@ import static org.pitest.util.Unchecked.translateCheckedException;
 
 public class MutationTestWorker {
 
+  // mutants generated ahead of the one under test
+  private static final int                                  PREFETCH = 2;
+
   private static final Logger                               LOG   = Log
       .getLogger();
 
@@ -56,6 +69,7 @@ public class MutationTestWorker {
   private final ClassLoader                                 loader;
   private final HotSwap                                     hotswap;
   private final boolean                                     fullMutationMatrix;
+  private final Set<ClassName>                              mutatedClasses = new HashSet<>();
 
   public MutationTestWorker(
       final HotSwap hotswap,
@@ -69,15 +83,18 @@ public class MutationTestWorker {
   protected void run(final Collection<MutationDetails> range, final Reporter r,
       final TimeOutDecoratedTestSource testSource) throws IOException {
 
-    for (final MutationDetails mutation : range) {
-      if (DEBUG) {
-        LOG.fine("Running mutation " + mutation);
-      }
-      final long t0 = System.currentTimeMillis();
-      processMutation(r, testSource, mutation);
-      if (DEBUG) {
-        LOG.fine("processed mutation in " + (System.currentTimeMillis() - t0)
-            + " ms.");
+    try (MutantPrefetcher mutants = new MutantPrefetcher(this.mutater, range,
+        PREFETCH)) {
+      for (final MutationDetails mutation : range) {
+        if (DEBUG) {
+          LOG.fine("Running mutation " + mutation);
+        }
+        final long t0 = System.currentTimeMillis();
+        processMutation(r, testSource, mutation, mutants.next());
+        if (DEBUG) {
+          LOG.fine("processed mutation in " + (System.currentTimeMillis() - t0)
+              + " ms.");
+        }
       }
     }
 
@@ -85,10 +102,9 @@ public class MutationTestWorker {
 
   private void processMutation(final Reporter r,
       final TimeOutDecoratedTestSource testSource,
-      final MutationDetails mutationDetails) {
+      final MutationDetails mutationDetails, final Mutant mutatedClass) {
 
     final MutationIdentifier mutationId = mutationDetails.getId();
-    final Mutant mutatedClass = this.mutater.getMutation(mutationId);
 
     // For the benefit of mocking frameworks such as PowerMock
     // mess with the internals of Javassist so our mutated class
@@ -104,7 +120,7 @@ public class MutationTestWorker {
     r.describe(mutationId);
 
     final MutationStatusTestPair mutationDetected = handleMutation(
-        mutationDetails, mutatedClass, relevantTests);
+        mutationDetails, mutatedClass, relevantTests, r);
 
     r.report(mutationId, mutationDetected);
     if (DEBUG) {
@@ -114,7 +130,7 @@ public class MutationTestWorker {
 
   private MutationStatusTestPair handleMutation(
       final MutationDetails mutationId, final Mutant mutatedClass,
-      final List<TestUnit> relevantTests) {
+      final List<TestUnit> relevantTests, final Reporter r) {
     final MutationStatusTestPair mutationDetected;
     if ((relevantTests == null) || relevantTests.isEmpty()) {
       LOG.info(() -> "No test coverage for mutation " + mutationId + " in "
@@ -122,7 +138,7 @@ public class MutationTestWorker {
       mutationDetected =  MutationStatusTestPair.notAnalysed(0, DetectionStatus.RUN_ERROR);
     } else {
       mutationDetected = handleCoveredMutation(mutationId, mutatedClass,
-          relevantTests);
+          relevantTests, r);
 
     }
     return mutationDetected;
@@ -130,7 +146,7 @@ public class MutationTestWorker {
 
   private MutationStatusTestPair handleCoveredMutation(
       final MutationDetails mutationId, final Mutant mutatedClass,
-      final List<TestUnit> relevantTests) {
+      final List<TestUnit> relevantTests, final Reporter r) {
     final MutationStatusTestPair mutationDetected;
     if (DEBUG) {
       LOG.fine("" + relevantTests.size() + " relevant test for "
@@ -140,6 +156,7 @@ public class MutationTestWorker {
     final Container c = createNewContainer();
     final long t0 = System.currentTimeMillis();
 
+    this.mutatedClasses.add(mutationId.getClassName());
     if (this.hotswap.insertClass(mutationId.getClassName(), this.loader,
         mutatedClass.getBytes())) {
       if (DEBUG) {
@@ -147,7 +164,8 @@ public class MutationTestWorker {
             + (System.currentTimeMillis() - t0) + " ms");
       }
 
-      mutationDetected = doTestsDetectMutation(c, relevantTests);
+      mutationDetected = doTestsDetectMutation(c, relevantTests,
+          mutationId.getId(), r);
     } else {
       LOG.warning("Mutation " + mutationId + " was not viable ");
       mutationDetected = MutationStatusTestPair.notAnalysed(0,
@@ -156,6 +174,57 @@ public class MutationTestWorker {
     return mutationDetected;
   }
 
+  /**
+   * True if code in any mutated class writes static fields outside a static
+   * initializer. A mutant of such a class may leave static state behind that
+   * restoring the original bytecode does not undo.
+   */
+  boolean mutatedClassesWriteStaticState(final ClassByteArraySource source) {
+    for (final ClassName each : this.mutatedClasses) {
+      final Optional<byte[]> bytes = source.getBytes(each.asJavaName());
+      if (bytes.isPresent() && writesStaticState(bytes.get())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean writesStaticState(final byte[] bytes) {
+    final boolean[] found = new boolean[1];
+    new ClassReader(bytes).accept(new ClassVisitor(ASMVersion.ASM_VERSION) {
+      @Override
+      public MethodVisitor visitMethod(int access, String name,
+          String descriptor, String signature, String[] exceptions) {
+        if ("<clinit>".equals(name)) {
+          return null;
+        }
+        return new MethodVisitor(ASMVersion.ASM_VERSION) {
+          @Override
+          public void visitFieldInsn(int opcode, String owner, String field,
+              String fieldDescriptor) {
+            if (opcode == Opcodes.PUTSTATIC) {
+              found[0] = true;
+            }
+          }
+        };
+      }
+    }, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+    return found[0];
+  }
+
+  /**
+   * Reinstates the unmutated bytes of every class mutated since the last call
+   * so that a reused minion does not leak a mutant into its next unit of work.
+   */
+  void restoreOriginalClasses(final ClassByteArraySource source) {
+    JavassistInterceptor.setMutant(null);
+    for (final ClassName each : this.mutatedClasses) {
+      source.getBytes(each.asJavaName())
+          .ifPresent(bytes -> this.hotswap.insertClass(each, this.loader, bytes));
+    }
+    this.mutatedClasses.clear();
+  }
+
   private static Container createNewContainer() {
     return new UnContainer() {
       @Override
@@ -178,34 +247,54 @@ public class MutationTestWorker {
   }
 
   private MutationStatusTestPair doTestsDetectMutation(final Container c,
-      final List<TestUnit> tests) {
+      final List<TestUnit> tests, final MutationIdentifier mutationId,
+      final Reporter r) {
     try {
       final CheckTestHasFailedResultListener listener = new CheckTestHasFailedResultListener(fullMutationMatrix);
 
       final Pitest pit = new Pitest(listener);
       
       if (this.fullMutationMatrix) {
-        pit.run(c, tests);
+        // each test is reported as it finishes so that if a test crashes the
+        // minion the parent can resume from the test after it
+        for (final TestUnit each : tests) {
+          final int failed = listener.getFailingTests().size();
+          final int passed = listener.getSucceedingTests().size();
+          pit.run(c, Collections.singletonList(each));
+          reportProgress(r, mutationId, listener.getFailingTests(), failed,
+              true);
+          reportProgress(r, mutationId, listener.getSucceedingTests(), passed,
+              false);
+        }
       } else {
         pit.run(c, createEarlyExitTestGroup(tests));
       }
 
-      return createStatusTestPair(listener);
+      return createStatusTestPair(listener, listener.status());
     } catch (final Exception ex) {
       throw translateCheckedException(ex);
     }
 
   }
 
+  private static void reportProgress(final Reporter r,
+      final MutationIdentifier mutationId, final List<Description> tests,
+      final int from, final boolean killed) {
+    for (final Description each : tests.subList(from, tests.size())) {
+      r.progress(mutationId, each.getQualifiedName(), killed);
+    }
+  }
+
   private MutationStatusTestPair createStatusTestPair(
-      final CheckTestHasFailedResultListener listener) {
+      final CheckTestHasFailedResultListener listener,
+      final DetectionStatus status) {
     List<String> failingTests = listener.getFailingTests().stream()
         .map(Description::getQualifiedName).collect(Collectors.toList());
     List<String> succeedingTests = listener.getSucceedingTests().stream()
         .map(Description::getQualifiedName).collect(Collectors.toList());
 
     return new MutationStatusTestPair(listener.getNumberOfTestsRun(),
-        listener.status(), failingTests, succeedingTests);
+        status, failingTests, succeedingTests);
   }
 
   private List<TestUnit> createEarlyExitTestGroup(final List<TestUnit> tests) {
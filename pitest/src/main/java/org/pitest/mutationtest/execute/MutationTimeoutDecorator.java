@@ -15,7 +15,7 @@
 package org.pitest.mutationtest.execute;
 
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.FutureTask;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -47,16 +47,17 @@ public final class MutationTimeoutDecorator extends TestUnitDecorator {
     final long maxTime = this.timeOutStrategy
         .getAllowedTime(this.executionTime);
 
-    final FutureTask<?> future = createFutureForChildTestUnit(rc);
+    final Future<?> future = TestRunnerThread.submit(createRunnable(rc));
     executeFutureWithTimeOut(maxTime, future, rc);
     if (!future.isDone()) {
+      TestRunnerThread.abandon();
       this.timeOutSideEffect.apply();
     }
 
   }
 
   private void executeFutureWithTimeOut(final long maxTime,
-      final FutureTask<?> future, final ResultCollector rc) {
+      final Future<?> future, final ResultCollector rc) {
     try {
       future.get(maxTime, TimeUnit.MILLISECONDS);
     } catch (final TimeoutException | InterruptedException ex) {
@@ -66,15 +67,6 @@ public final class MutationTimeoutDecorator extends TestUnitDecorator {
     }
   }
 
-  private FutureTask<?> createFutureForChildTestUnit(final ResultCollector rc) {
-    final FutureTask<?> future = new FutureTask<>(createRunnable(rc), null);
-    final Thread thread = new Thread(future);
-    thread.setDaemon(true);
-    thread.setName("mutationTestThread");
-    thread.start();
-    return future;
-  }
-
   private Runnable createRunnable(final ResultCollector rc) {
     return () -> {
       try {
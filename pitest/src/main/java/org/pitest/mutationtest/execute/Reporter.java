@@ -24,6 +24,17 @@ public interface Reporter {
 
   void report(MutationIdentifier i, MutationStatusTestPair mutationDetected);
 
+  /**
+   * Reports a single test finishing against a mutant that is still being
+   * analysed
+   */
+  void progress(MutationIdentifier i, String testName, boolean killed);
+
   void done(ExitCode exitCode);
 
+  /**
+   * Asks the parent process not to send this minion any further units
+   */
+  void recycle();
+
 }
@@ -0,0 +1,45 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Long lived thread on which tests are run against mutants. A thread is only
+ * replaced when a test times out, as the old one may never return.
+ */
+final class TestRunnerThread {
+
+  private static ExecutorService executor = newExecutor();
+
+  private TestRunnerThread() {
+  }
+
+  static synchronized Future<?> submit(final Runnable test) {
+    // a fresh thread would inherit the caller's context loader, so pass it on
+    final ClassLoader loader = Thread.currentThread().getContextClassLoader();
+    return executor.submit(() -> {
+      Thread.currentThread().setContextClassLoader(loader);
+      test.run();
+    });
+  }
+
+  /**
+   * Leaves the current thread to finish, or not, on its own and runs later
+   * tests on a new one.
+   */
+  static synchronized void abandon() {
+    executor.shutdown();
+    executor = newExecutor();
+  }
+
+  private static ExecutorService newExecutor() {
+    return Executors.newSingleThreadExecutor(r -> {
+      final Thread thread = new Thread(r);
+      thread.setDaemon(true);
+      thread.setName("mutationTestThread");
+      return thread;
+    });
+  }
+
+}
@@ -36,10 +36,32 @@ public class ManifestUtils {
 
   public static final String CLASSPATH_JAR_FILE_PREFIX = "pitest-classpath-jar-file-";
 
+  public static File createClasspathJarFile(String classpath)
+          throws IOException {
+    File jarFile = File.createTempFile(CLASSPATH_JAR_FILE_PREFIX, ".jar");
+    writeClasspathJarFile(classpath, jarFile);
+
+    return jarFile;
+  }
+
+  /**
+   * Writes a jar holding the classpath to the given file, which must be named
+   * with {@link #CLASSPATH_JAR_FILE_PREFIX} to be recognised when read back
+   */
+  public static void writeClasspathJarFile(String classpath, File jarFile)
+          throws IOException {
+    final Manifest manifest = classpathManifest(classpath);
+    try (BufferedOutputStream out = new BufferedOutputStream(new FileOutputStream(jarFile));
+         ZipOutputStream jarPlugin = new JarOutputStream(out, manifest)
+    )  {
+      jarFile.deleteOnExit();
+    }
+  }
+
   // Method based on
   // https://github.com/JetBrains/intellij-community/blob/master/java/java-runtime/src/com/intellij/rt/execution/testFrameworks/ForkedByModuleSplitter.java
   // JetBrains copyright notice and licence retained above.
-  public static File createClasspathJarFile(String classpath)
+  private static Manifest classpathManifest(String classpath)
           throws IOException {
     final Manifest manifest = new Manifest();
     final Attributes attributes = manifest.getMainAttributes();
@@ -60,15 +82,7 @@ public class ManifestUtils {
       idx = endIdx + File.pathSeparator.length();
     }
     attributes.put(Attributes.Name.CLASS_PATH, classpathForManifest.toString());
-
-    File jarFile = File.createTempFile(CLASSPATH_JAR_FILE_PREFIX, ".jar");
-    try (BufferedOutputStream out = new BufferedOutputStream(new FileOutputStream(jarFile));
-         ZipOutputStream jarPlugin = new JarOutputStream(out, manifest)
-    )  {
-      jarFile.deleteOnExit();
-    }
-
-    return jarFile;
+    return manifest;
   }
 
   public static Collection<File> readClasspathManifest(File file) {
@@ -22,10 +22,13 @@ import java.io.ObjectInput;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 
 public class SafeDataInputStream {
 
   private final DataInputStream dis;
+  private final List<String>    strings = new ArrayList<>();
 
   public SafeDataInputStream(final InputStream is) {
     this.dis = new DataInputStream(is);
@@ -54,8 +57,44 @@ public class SafeDataInputStream {
     }
   }
 
+  public String readInternedString() {
+    final int code = readVarInt();
+    if (code == 0) {
+      return null;
+    }
+    if (code == 1) {
+      final String str = readString();
+      this.strings.add(str);
+      return str;
+    }
+    return this.strings.get(code - 2);
+  }
+
+  public int readVarInt() {
+    int value = 0;
+    int shift = 0;
+    byte b;
+    do {
+      b = readByte();
+      value |= (b & 0x7F) << shift;
+      shift += 7;
+    } while ((b & 0x80) != 0);
+    return value;
+  }
+
   @SuppressWarnings("unchecked")
   public <T extends Serializable> T read(final Class<T> type) {
+    final byte format = readByte();
+    if (format == WireCodecs.BINARY_V1) {
+      final WireCodec<T> codec = WireCodecs.forType(type);
+      if (codec == null) {
+        throw new PitError("No binary codec for " + type.getName());
+      }
+      return codec.decode(this);
+    }
+    if (format != WireCodecs.SERIALIZED) {
+      throw new PitError("Unsupported wire format " + format + " for " + type.getName());
+    }
     try {
       return (T) deserialize(readBytes());
     } catch (final IOException e) {
@@ -22,10 +22,13 @@ import java.io.ObjectOutputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
 
 public class SafeDataOutputStream {
 
-  private final DataOutputStream dos;
+  private final DataOutputStream     dos;
+  private final Map<String, Integer> strings = new HashMap<>();
 
   public SafeDataOutputStream(final OutputStream os) {
     this.dos = new DataOutputStream(os);
@@ -54,8 +57,44 @@ public class SafeDataOutputStream {
     }
   }
 
+  /**
+   * Writes a string sent earlier on this stream as a reference into the
+   * string table rather than as text. May be null.
+   */
+  public void writeInternedString(final String str) {
+    if (str == null) {
+      writeVarInt(0);
+      return;
+    }
+    final Integer index = this.strings.get(str);
+    if (index != null) {
+      writeVarInt(index + 2);
+    } else {
+      this.strings.put(str, this.strings.size());
+      writeVarInt(1);
+      writeString(str);
+    }
+  }
+
+  public void writeVarInt(final int value) {
+    int remaining = value;
+    while ((remaining & ~0x7F) != 0) {
+      writeByte((byte) ((remaining & 0x7F) | 0x80));
+      remaining >>>= 7;
+    }
+    writeByte((byte) remaining);
+  }
+
   public <T extends Serializable> void write(final T value) {
+    @SuppressWarnings("unchecked")
+    final WireCodec<T> codec = (WireCodec<T>) WireCodecs.forType(value.getClass());
+    if (codec != null) {
+      writeByte(WireCodecs.BINARY_V1);
+      codec.encode(this, value);
+      return;
+    }
     try {
+      writeByte(WireCodecs.SERIALIZED);
       writeBytes(toByteArray(value));
     } catch (final IOException e) {
       throw Unchecked.translateCheckedException(e);
@@ -0,0 +1,13 @@
+package org.pitest.util;
+
+/**
+ * Hand written binary encoding for a type sent between the main process and
+ * its minions. Types without a codec fall back to java serialization.
+ */
+interface WireCodec<T> {
+
+  void encode(SafeDataOutputStream out, T value);
+
+  T decode(SafeDataInputStream in);
+
+}
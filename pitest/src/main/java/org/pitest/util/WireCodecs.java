@@ -0,0 +1,133 @@
+package org.pitest.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.testapi.Description;
+
+/**
+ * Binary codecs for the messages exchanged over minion sockets. Class, method
+ * and test names are sent through the per connection string tables of
+ * SafeDataOutputStream, so each distinct name crosses the wire only once.
+ */
+final class WireCodecs {
+
+  /**
+   * Leading byte of each encoded value. Bump the binary version when any
+   * codec changes shape.
+   */
+  static final byte SERIALIZED = 0;
+  static final byte BINARY_V1  = 1;
+
+  private static final Map<Class<?>, WireCodec<?>> CODECS = new HashMap<>();
+
+  static {
+    CODECS.put(MutationIdentifier.class, new MutationIdentifierCodec());
+    CODECS.put(MutationStatusTestPair.class, new MutationStatusTestPairCodec());
+    CODECS.put(Description.class, new DescriptionCodec());
+  }
+
+  private WireCodecs() {
+  }
+
+  @SuppressWarnings("unchecked")
+  static <T> WireCodec<T> forType(Class<T> type) {
+    return (WireCodec<T>) CODECS.get(type);
+  }
+
+  private static void writeStrings(SafeDataOutputStream out, List<String> values) {
+    out.writeVarInt(values.size());
+    for (final String each : values) {
+      out.writeInternedString(each);
+    }
+  }
+
+  private static List<String> readStrings(SafeDataInputStream in) {
+    final int size = in.readVarInt();
+    final List<String> values = new ArrayList<>(size);
+    for (int i = 0; i != size; i++) {
+      values.add(in.readInternedString());
+    }
+    return values;
+  }
+
+  private static class MutationIdentifierCodec implements WireCodec<MutationIdentifier> {
+
+    @Override
+    public void encode(SafeDataOutputStream out, MutationIdentifier value) {
+      final Location location = value.getLocation();
+      out.writeInternedString(location.getClassName().asInternalName());
+      out.writeInternedString(location.getMethodName());
+      out.writeInternedString(location.getMethodDesc());
+      final List<Integer> indexes = value.getIndexes();
+      out.writeVarInt(indexes.size());
+      for (final int each : indexes) {
+        out.writeVarInt(each);
+      }
+      out.writeInternedString(value.getMutator());
+    }
+
+    @Override
+    public MutationIdentifier decode(SafeDataInputStream in) {
+      final Location location = new Location(
+          ClassName.fromString(in.readInternedString()),
+          in.readInternedString(), in.readInternedString());
+      final int size = in.readVarInt();
+      final List<Integer> indexes = new ArrayList<>(size);
+      for (int i = 0; i != size; i++) {
+        indexes.add(in.readVarInt());
+      }
+      return new MutationIdentifier(location, indexes, in.readInternedString());
+    }
+  }
+
+  private static class MutationStatusTestPairCodec implements WireCodec<MutationStatusTestPair> {
+
+    @Override
+    public void encode(SafeDataOutputStream out, MutationStatusTestPair value) {
+      out.writeVarInt(value.getNumberOfTestsRun());
+      out.writeInternedString(value.getStatus().name());
+      writeStrings(out, value.getKillingTests());
+      writeStrings(out, value.getSucceedingTests());
+      writeStrings(out, value.getTimeOuttests());
+      writeStrings(out, value.getRunErrorTests());
+      writeStrings(out, value.getMemoryErrorTests());
+    }
+
+    @Override
+    public MutationStatusTestPair decode(SafeDataInputStream in) {
+      final int testsRun = in.readVarInt();
+      final DetectionStatus status = DetectionStatus.valueOf(in.readInternedString());
+      final List<String> killing = readStrings(in);
+      final List<String> succeeding = readStrings(in);
+      final List<String> timeOut = readStrings(in);
+      final List<String> runError = readStrings(in);
+      final List<String> memoryError = readStrings(in);
+      return new MutationStatusTestPair(testsRun, status, killing, succeeding,
+          timeOut, runError, memoryError);
+    }
+  }
+
+  private static class DescriptionCodec implements WireCodec<Description> {
+
+    @Override
+    public void encode(SafeDataOutputStream out, Description value) {
+      out.writeInternedString(value.getName());
+      out.writeInternedString(value.getFirstTestClass());
+    }
+
+    @Override
+    public Description decode(SafeDataInputStream in) {
+      final String name = in.readInternedString();
+      return new Description(name, in.readInternedString());
+    }
+  }
+
+}
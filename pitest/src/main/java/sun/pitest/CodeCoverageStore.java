@@ -23,9 +23,6 @@ package sun.pitest;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Store for line visit information.
@@ -46,13 +43,23 @@ public final class CodeCoverageStore {
   public static final String PROBE_FIELD_NAME                    = "$$pitCoverageProbes";
   public static final String PROBE_LENGTH_FIELD_NAME             = "$$pitCoverageProbeSize";
 
-  // array of probe hits, first slot indicates any hits to the class.
+  // array of probe hits per class id, first slot indicates any hits to the
+  // class. Instrumented classes write to these arrays directly.
   // testing suggests boolean array with synchronization to ensure happens
   // before relationship significantly outperforms
   // both AtomicInteger array with bit per flag and integer per flag.
   // optimisation with other methods of ensuring a happens before not yet
   // investigated
-  private static final Map<Integer, boolean[]> CLASS_HITS        = new ConcurrentHashMap<>();
+  private static boolean[][]                   classHits         = new boolean[256][];
+
+  // ids of the classes whose first probe has been set since the last clear,
+  // so that collecting hits visits only the classes a test ran
+  private static int[]                         touchedClasses    = new int[256];
+  private static int                           touched           = 0;
+
+  // scratch space reused between tests so that collecting hits does not
+  // allocate once the buffer has grown to the size of the suite
+  private static long[]                        hitBuffer         = new long[1024];
 
   public static void init(final InvokeReceiver invokeQueue) {
     CodeCoverageStore.invokeQueue = invokeQueue;
@@ -62,30 +69,68 @@ public final class CodeCoverageStore {
   }
 
   public static synchronized void reset() {
-    for (final Entry<Integer, boolean[]> each : CLASS_HITS.entrySet()) {
-      if (each.getValue()[0]) { //Probe 0 gets covered by any method that runs
-        Arrays.fill(each.getValue(), false);
-      }
-    }
+    clear();
   }
 
   public static synchronized Collection<Long> getHits() {
-    final Collection<Long> blockHits = new ArrayList<>();
-    for (final Entry<Integer, boolean[]> each : CLASS_HITS.entrySet()) {
-      final boolean[] bs = each.getValue();
-      // first entry tracks if class has been visited at all
-      if (!bs[CLASS_HIT_INDEX]) {
-        continue;
-      }
-      final int classId = each.getKey();
+    final int count = collectHits();
+    final Collection<Long> blockHits = new ArrayList<>(count);
+    for (int i = 0; i != count; i++) {
+      blockHits.add(hitBuffer[i]);
+    }
+    return blockHits;
+  }
+
+  /**
+   * Passes the probes hit since the last call to the receiver, then clears
+   * them. Only classes that have been touched are scanned and cleared.
+   */
+  public static synchronized void drainHits(final ProbeHitReceiver receiver) {
+    final int count = collectHits();
+    receiver.receiveHits(hitBuffer, count);
+    clear();
+  }
 
+  /**
+   * Called by instrumented methods when they find the first probe of their
+   * class unset. Marks the class as hit and records it as touched.
+   */
+  public static synchronized void classTouched(final int classId) {
+    final boolean[] bs = classHits[classId];
+    if (bs == null || bs[CLASS_HIT_INDEX]) {
+      return;
+    }
+    bs[CLASS_HIT_INDEX] = true;
+    if (touched == touchedClasses.length) {
+      touchedClasses = Arrays.copyOf(touchedClasses, touched * 2);
+    }
+    touchedClasses[touched] = classId;
+    touched++;
+  }
+
+  private static int collectHits() {
+    int count = 0;
+    for (int i = 0; i != touched; i++) {
+      final int id = touchedClasses[i];
+      final boolean[] bs = classHits[id];
       for (int probeId = 1; probeId != bs.length; probeId++) {
         if (bs[probeId]) {
-          blockHits.add(encode(classId, probeId));
+          if (count == hitBuffer.length) {
+            hitBuffer = Arrays.copyOf(hitBuffer, count * 2);
+          }
+          hitBuffer[count] = encode(id, probeId);
+          count++;
         }
       }
     }
-    return blockHits;
+    return count;
+  }
+
+  private static void clear() {
+    for (int i = 0; i != touched; i++) {
+      Arrays.fill(classHits[touchedClasses[i]], false);
+    }
+    touched = 0;
   }
 
   public static int registerClass(final String className) {
@@ -116,12 +161,12 @@ public final class CodeCoverageStore {
     return ((long) classId << 32) | line;
   }
 
-  public static boolean[] getOrRegisterClassProbes(final int classId,
+  public static synchronized boolean[] getOrRegisterClassProbes(final int classId,
       int probeCount) {
-    boolean[] ret = CLASS_HITS.putIfAbsent(classId, new boolean[probeCount + 1]);
-    if (ret == null) {
-      return CLASS_HITS.get(classId);
+    if (classId >= classHits.length) {
+      classHits = Arrays.copyOf(classHits, Math.max(classId + 1, classHits.length * 2));
     }
+    final boolean[] existing = classHits[classId];
     /*
     It's possible that some other java agent has transformed this class, which has
     resulted in it getting more blocks. It seems like our intended behavior is to
@@ -130,21 +175,17 @@ public final class CodeCoverageStore {
     and it's possible that we have already instrumented the class, causing its
     coverage array to get set up at the wrong size.
      */
-    if (ret.length < probeCount + 1) {
-      synchronized (CLASS_HITS) {
-        ret = CLASS_HITS.get(classId);
-        if (ret.length < probeCount + 1) {
-          ret = new boolean[probeCount + 1];
-          CLASS_HITS.put(classId, ret);
-          return ret;
-        }
-      }
+    if (existing == null || existing.length < probeCount + 1) {
+      final boolean[] ret = new boolean[probeCount + 1];
+      classHits[classId] = ret;
+      return ret;
     }
-    return ret;
+    return existing;
   }
 
-  public static void resetAllStaticState() {
-    CLASS_HITS.clear();
+  public static synchronized void resetAllStaticState() {
+    Arrays.fill(classHits, null);
+    touched = 0;
   }
 
 }
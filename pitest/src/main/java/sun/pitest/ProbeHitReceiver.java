@@ -0,0 +1,12 @@
+package sun.pitest;
+
+/**
+ * Receives the probes hit since the store was last drained, encoded as per
+ * CodeCoverageStore.encode. The array is reused between calls and is only
+ * valid for the duration of the callback.
+ */
+public interface ProbeHitReceiver {
+
+  void receiveHits(long[] hits, int count);
+
+}
@@ -70,6 +70,15 @@ public class ArchiveClassPathRootTest {
     }
   }
 
+  @Test
+  public void shouldReopenArchiveWhenUsedAfterBeingClosed() throws Exception {
+    assertNotNull(this.testee.getData("injar.p1.P1Test"));
+    this.testee.close();
+    assertNotNull(this.testee.getData("injar.p2.P2Test"));
+    assertNotNull(this.testee.getResource("injar/p1/P1Test.class"));
+    this.testee.close();
+  }
+
   @Test
   public void getResourceShouldReturnNullForAnUnknownResource()
       throws Exception {
@@ -1,14 +1,142 @@
 package org.pitest.mutationtest;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.BitSet;
+
 import org.junit.Test;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.Warning;
 
 public class MutationStatusTestPairTest {
 
   @Test
   public void shouldObeyHashcodeEqualsContract() {
-    EqualsVerifier.forClass(MutationStatusTestPair.class).verify();
+    EqualsVerifier.forClass(MutationStatusTestPair.class)
+        .withPrefabValues(TestRegistry.class, registryOf("a", "b"),
+            registryOf("a", "b"))
+        .withPrefabValues(BitSet.class, BitSet.valueOf(new long[] { 1 }),
+            BitSet.valueOf(new long[] { 3 }))
+        .withNonnullFields("registry", "killingTests", "succeedingTests",
+            "timeOutTests", "runErrorTests", "memoryErrorTests")
+        .suppress(Warning.NONFINAL_FIELDS)
+        .verify();
+  }
+
+  @Test
+  public void shouldAccumulateResultsOfSingleTests() {
+    final MutationStatusTestPair testee = MutationStatusTestPair.notAnalysed(0,
+        DetectionStatus.SURVIVED);
+    testee.accumulate(survived(), "accumulateA");
+    testee.accumulate(survived(), "accumulateB");
+    testee.accumulate(killed(), "accumulateB");
+    testee.accumulate(survived(), "accumulateB");
+
+    assertThat(testee.getStatus()).isEqualTo(DetectionStatus.KILLED);
+    assertThat(testee.getKillingTests()).containsExactly("accumulateB");
+    assertThat(testee.getSucceedingTests()).containsExactly("accumulateA");
+    assertThat(testee.getNumberOfTestsRun()).isEqualTo(4);
+  }
+
+  @Test
+  public void shouldRecordTestNameForErrors() {
+    final MutationStatusTestPair testee = MutationStatusTestPair.notAnalysed(1,
+        DetectionStatus.STARTED);
+    testee.setErrorStatusAndName(DetectionStatus.TIMED_OUT, "errorA");
+
+    assertThat(testee.getStatus()).isEqualTo(DetectionStatus.TIMED_OUT);
+    assertThat(testee.getTimeOuttests()).containsExactly("errorA");
+  }
+
+  @Test
+  public void shouldTreatTestsAsSets() {
+    final MutationStatusTestPair testee = new MutationStatusTestPair(1,
+        DetectionStatus.KILLED, asList("setA", "setB", "setA"), emptyList());
+    assertThat(testee.getKillingTests()).containsExactly("setA", "setB");
+    assertThat(testee).isEqualTo(new MutationStatusTestPair(1,
+        DetectionStatus.KILLED, asList("setB", "setA"), emptyList()));
+  }
+
+  @Test
+  public void shouldListTestsInNameOrderWhateverOrderTheyWereFirstSeen() {
+    TestRegistry.current().idFor("orderB");
+    final MutationStatusTestPair testee = new MutationStatusTestPair(2,
+        DetectionStatus.KILLED, asList("orderB", "orderA"), emptyList());
+    assertThat(testee.getKillingTests()).containsExactly("orderA", "orderB");
+    assertThat(testee.getKillingTest()).contains("orderA");
+  }
+
+  @Test
+  public void shouldCompareTestsByNameWhenCreatedInDifferentRuns() {
+    final MutationStatusTestPair first = new MutationStatusTestPair(2,
+        DetectionStatus.KILLED, asList("runA"), asList("runB"));
+    TestRegistry.endRun();
+    TestRegistry.current().idFor("runB");
+    final MutationStatusTestPair second = new MutationStatusTestPair(2,
+        DetectionStatus.KILLED, asList("runA"), asList("runB"));
+
+    assertThat(first).isEqualTo(second);
+    assertThat(first.hashCode()).isEqualTo(second.hashCode());
+    assertThat(first.getKillingTests()).containsExactly("runA");
+  }
+
+  @Test
+  public void shouldMergeResultsCreatedInDifferentRuns() {
+    final MutationStatusTestPair first = new MutationStatusTestPair(1,
+        DetectionStatus.SURVIVED, emptyList(), asList("mergeA"));
+    TestRegistry.endRun();
+    TestRegistry.current().idFor("mergeB");
+    final MutationStatusTestPair second = new MutationStatusTestPair(1,
+        DetectionStatus.KILLED, asList("mergeA"), emptyList());
+
+    first.merge(second);
+
+    assertThat(first.getKillingTests()).containsExactly("mergeA");
+    assertThat(first.getSucceedingTests()).isEmpty();
+  }
+
+  @Test
+  public void shouldSerializeTestNames() throws Exception {
+    final MutationStatusTestPair testee = new MutationStatusTestPair(3,
+        DetectionStatus.KILLED, asList("serialA"), asList("serialB"),
+        asList("serialC"), emptyList(), emptyList());
+    assertThat(roundTrip(testee)).isEqualTo(testee);
+  }
+
+  private static MutationStatusTestPair roundTrip(MutationStatusTestPair pair)
+      throws IOException, ClassNotFoundException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(pair);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(
+        bytes.toByteArray()))) {
+      return (MutationStatusTestPair) in.readObject();
+    }
+  }
+
+  private static TestRegistry registryOf(String... names) {
+    final TestRegistry registry = new TestRegistry();
+    for (final String each : names) {
+      registry.idFor(each);
+    }
+    return registry;
+  }
+
+  private static MutationStatusTestPair survived() {
+    return MutationStatusTestPair.notAnalysed(1, DetectionStatus.SURVIVED);
+  }
+
+  private static MutationStatusTestPair killed() {
+    return MutationStatusTestPair.notAnalysed(1, DetectionStatus.KILLED);
   }
 
 }
@@ -15,6 +15,9 @@
 package org.pitest.mutationtest.engine.gregor;
 
 import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.mutationtest.engine.Mutant;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.gregor.config.Mutator;
 import org.pitest.mutationtest.engine.gregor.mutators.IncrementsMutator;
@@ -70,6 +73,23 @@ public class TestGregorMutater {
                 .noMutantsCreated();
     }
 
+    @Test
+    public void shouldCreateSameMutantsWhenMutantsOfOtherClassesRequestedBetween() {
+        GregorMutater testee = new GregorMutater(ClassloaderByteArraySource.fromContext(),
+                m -> true, Mutator.all());
+        List<MutationDetails> first = testee.findMutations(ClassName.fromClass(HasMultipleMutations.class));
+        List<MutationDetails> second = testee.findMutations(ClassName.fromClass(HasTwoMutableMethods.class));
+
+        Mutant a = testee.getMutation(first.get(0).getId());
+        Mutant b = testee.getMutation(first.get(1).getId());
+        testee.getMutation(second.get(0).getId());
+        Mutant aAgain = testee.getMutation(first.get(0).getId());
+
+        assertThat(a.getBytes()).isNotEqualTo(b.getBytes());
+        assertThat(aAgain.getBytes()).isEqualTo(a.getBytes());
+        assertThat(aAgain.getDetails()).isEqualTo(first.get(0));
+    }
+
     @Test
     public void shouldNotMutateCodeGeneratedByCompilerToImplementEnums() {
         MutatorVerifierStart.forMutator(Mutator.all())
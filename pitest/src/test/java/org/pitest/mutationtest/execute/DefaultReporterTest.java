@@ -51,6 +51,18 @@ public class DefaultReporterTest {
     assertEquals(is.read(MutationStatusTestPair.class), ms);
   }
 
+  @Test
+  public void shouldSendSingleFinishedTest() {
+    final MutationIdentifier mi = aMutationId().withIndex(0).withMutator("foo")
+        .build();
+    this.testee.progress(mi, "aTest", true);
+    final SafeDataInputStream is = resultToStream();
+    assertEquals(Id.PROGRESS, is.readByte());
+    assertEquals(is.read(MutationIdentifier.class), mi);
+    assertEquals("aTest", is.readString());
+    assertEquals(true, is.readBoolean());
+  }
+
   private SafeDataInputStream resultToStream() {
     return new SafeDataInputStream(
         new ByteArrayInputStream(this.os.toByteArray()));
@@ -0,0 +1,89 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+public class MutantPrefetcherTest {
+
+  private final List<Thread> generatingThreads = Collections.synchronizedList(new ArrayList<>());
+
+  @Test
+  public void shouldReturnMutantsInTheOrderMutationsGiven() {
+    final List<MutationDetails> mutations = Arrays.asList(mutation(1),
+        mutation(2), mutation(3));
+    try (MutantPrefetcher testee = new MutantPrefetcher(recordingMutater(),
+        mutations, 2)) {
+      assertThat(testee.next().getDetails()).isEqualTo(mutations.get(0));
+      assertThat(testee.next().getDetails()).isEqualTo(mutations.get(1));
+      assertThat(testee.next().getDetails()).isEqualTo(mutations.get(2));
+    }
+  }
+
+  @Test
+  public void shouldGenerateMutantsOffTheCallingThread() {
+    try (MutantPrefetcher testee = new MutantPrefetcher(recordingMutater(),
+        Arrays.asList(mutation(1), mutation(2)), 1)) {
+      testee.next();
+      testee.next();
+    }
+    assertThat(this.generatingThreads).hasSize(2)
+        .doesNotContain(Thread.currentThread());
+    assertThat(this.generatingThreads.get(0)).isSameAs(this.generatingThreads.get(1));
+  }
+
+  @Test
+  public void shouldRethrowErrorsFromMutater() {
+    final Mutater failing = new Mutater() {
+      @Override
+      public Mutant getMutation(final MutationIdentifier id) {
+        throw new IllegalStateException("boom");
+      }
+
+      @Override
+      public List<MutationDetails> findMutations(
+          final ClassName classToMutate) {
+        return Collections.emptyList();
+      }
+    };
+    try (MutantPrefetcher testee = new MutantPrefetcher(failing,
+        Collections.singletonList(mutation(1)), 1)) {
+      assertThatThrownBy(testee::next).isInstanceOf(IllegalStateException.class)
+          .hasMessage("boom");
+    }
+  }
+
+  private Mutater recordingMutater() {
+    return new Mutater() {
+      @Override
+      public Mutant getMutation(final MutationIdentifier id) {
+        MutantPrefetcherTest.this.generatingThreads.add(Thread.currentThread());
+        return new Mutant(new MutationDetails(id, "file", "desc", 1, 0), new byte[0]);
+      }
+
+      @Override
+      public List<MutationDetails> findMutations(
+          final ClassName classToMutate) {
+        return Collections.emptyList();
+      }
+    };
+  }
+
+  private static MutationDetails mutation(final int index) {
+    return new MutationDetails(aMutationId().withIndex(index).build(), "file",
+        "desc", 1, 0);
+  }
+
+}
@@ -2,6 +2,7 @@ package org.pitest.mutationtest.execute;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
@@ -89,6 +90,24 @@ public class MutationTestMinionTest {
     verify(this.reporter, atLeastOnce()).done(ExitCode.OK);
   }
 
+  @Test
+  public void shouldNotWaitForMoreWorkWhenNotPooled() {
+    this.testee.run();
+    verify(this.is, times(0)).readBoolean();
+  }
+
+  @Test
+  public void shouldAnalyseUnitsUntilReleasedWhenPooled() {
+    final MinionArguments pooled = new MinionArguments(this.mutations, this.tests,  "anEgine", EngineArguments.arguments(),
+        this.timeoutStrategy, Verbosity.DEFAULT, false, TestPluginArguments.defaults(), true);
+    when(this.is.read(MinionArguments.class)).thenReturn(pooled);
+    when(this.is.readBoolean()).thenReturn(true, true, false);
+
+    this.testee.run();
+
+    verify(this.reporter, times(3)).done(ExitCode.OK);
+  }
+
   @Test
   public void shouldReportErrorWhenOneOccursDuringAnalysis() {
     this.mutations.add(new MutationDetails(aMutationId().withIndex(0)
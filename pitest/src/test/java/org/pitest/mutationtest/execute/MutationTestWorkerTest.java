@@ -1,6 +1,8 @@
 package org.pitest.mutationtest.execute;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aLocation;
@@ -16,9 +18,11 @@ import java.util.List;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassloaderByteArraySource;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.engine.Mutant;
@@ -127,6 +131,57 @@ public class MutationTestWorkerTest {
             .getDescription().getName()));
   }
 
+  @Test
+  public void shouldReportProgressAfterEachTestWhenBuildingFullMatrix()
+      throws IOException {
+    this.testee = new MutationTestWorker(this.hotswapper, this.mutater,
+        this.loader, true);
+    final MutationDetails mutantOne = makeMutant("foo", 1);
+    final TestUnit tu = makePassingTest();
+    when(this.testSource.translateTests(any(List.class))).thenReturn(
+        Collections.singletonList(tu));
+    when(
+        this.hotswapper.insertClass(any(ClassName.class), any(ClassLoader.class),
+            any(byte[].class))).thenReturn(true);
+    this.testee.run(Collections.singletonList(mutantOne), this.reporter,
+        this.testSource);
+
+    final String test = tu.getDescription().getQualifiedName();
+    final List<String> passed = Collections.singletonList(test);
+    final InOrder order = inOrder(this.reporter);
+    order.verify(this.reporter).progress(mutantOne.getId(), test, false);
+    order.verify(this.reporter).report(mutantOne.getId(),
+        new MutationStatusTestPair(1, DetectionStatus.SURVIVED,
+            Collections.emptyList(), passed));
+  }
+
+  @Test
+  public void shouldDetectMutatedClassesThatWriteStaticFields()
+      throws IOException {
+    runMutantOf(WritesStaticField.class);
+    assertThat(this.testee.mutatedClassesWriteStaticState(
+        ClassloaderByteArraySource.fromContext())).isTrue();
+  }
+
+  @Test
+  public void shouldNotTreatStaticInitialisationAsStaticState()
+      throws IOException {
+    runMutantOf(InitialisesStaticField.class);
+    assertThat(this.testee.mutatedClassesWriteStaticState(
+        ClassloaderByteArraySource.fromContext())).isFalse();
+  }
+
+  private void runMutantOf(Class<?> clazz) throws IOException {
+    final MutationDetails mutant = makeMutant(clazz.getName(), 1);
+    when(this.testSource.translateTests(any(List.class))).thenReturn(
+        Collections.singletonList(makePassingTest()));
+    when(
+        this.hotswapper.insertClass(any(ClassName.class), any(ClassLoader.class),
+            any(byte[].class))).thenReturn(true);
+    this.testee.run(Collections.singletonList(mutant), this.reporter,
+        this.testSource);
+  }
+
   private TestUnit makeFailingTest() {
     return new TestUnit() {
 
@@ -175,3 +230,19 @@ public class MutationTestWorkerTest {
   }
 
 }
+
+class WritesStaticField {
+  static int count;
+
+  void increment() {
+    count++;
+  }
+}
+
+class InitialisesStaticField {
+  static final Object LOCK = new Object();
+
+  int read() {
+    return LOCK.hashCode();
+  }
+}
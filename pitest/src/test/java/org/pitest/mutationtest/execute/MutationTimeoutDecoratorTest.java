@@ -14,6 +14,9 @@
  */
 package org.pitest.mutationtest.execute;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -24,6 +27,7 @@ import org.pitest.mutationtest.TimeoutLengthStrategy;
 import org.pitest.testapi.ResultCollector;
 import org.pitest.testapi.TestUnit;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
@@ -78,4 +82,50 @@ public class MutationTimeoutDecoratorTest {
     verify(this.child).execute(any(ResultCollector.class));
     verify(this.sideEffect).apply();
   }
+
+  @Test
+  public void shouldRunSuccessiveTestsOnTheSameThread() {
+    when(this.timeoutStrategy.getAllowedTime(NORMAL_EXECUTION)).thenReturn(
+        1000L);
+    final AtomicReference<Thread> first = new AtomicReference<>();
+    final AtomicReference<Thread> second = new AtomicReference<>();
+    recordThreadInto(first);
+    this.testee.execute(this.rc);
+    recordThreadInto(second);
+    this.testee.execute(this.rc);
+
+    assertThat(second.get()).isSameAs(first.get());
+    assertThat(first.get()).isNotSameAs(Thread.currentThread());
+  }
+
+  @Test
+  public void shouldRunTestsOnANewThreadAfterATimeout() {
+    when(this.timeoutStrategy.getAllowedTime(NORMAL_EXECUTION)).thenReturn(
+        50L);
+    final CountDownLatch release = new CountDownLatch(1);
+    final AtomicReference<Thread> hung = new AtomicReference<>();
+    doAnswer(invocation -> {
+      hung.set(Thread.currentThread());
+      release.await();
+      return null;
+    }).when(this.child).execute(any(ResultCollector.class));
+    this.testee.execute(this.rc);
+    verify(this.sideEffect).apply();
+
+    when(this.timeoutStrategy.getAllowedTime(NORMAL_EXECUTION)).thenReturn(
+        1000L);
+    final AtomicReference<Thread> next = new AtomicReference<>();
+    recordThreadInto(next);
+    this.testee.execute(this.rc);
+    release.countDown();
+
+    assertThat(next.get()).isNotNull().isNotSameAs(hung.get());
+  }
+
+  private void recordThreadInto(final AtomicReference<Thread> thread) {
+    doAnswer(invocation -> {
+      thread.set(Thread.currentThread());
+      return null;
+    }).when(this.child).execute(any(ResultCollector.class));
+  }
 }
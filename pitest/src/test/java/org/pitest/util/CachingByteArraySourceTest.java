@@ -43,4 +43,37 @@ public class CachingByteArraySourceTest {
     verify(this.source, times(1)).getBytes("someClass");
   }
 
+  @Test
+  public void shouldEvictLeastRecentlyUsedClassesWhenSizeLimitExceeded() {
+    when(this.source.getBytes("a")).thenReturn(Optional.of(new byte[4]));
+    when(this.source.getBytes("b")).thenReturn(Optional.of(new byte[4]));
+    when(this.source.getBytes("c")).thenReturn(Optional.of(new byte[4]));
+
+    final CachingByteArraySource testee = new CachingByteArraySource(this.source, 8);
+
+    testee.getBytes("a");
+    testee.getBytes("b");
+    testee.getBytes("a");
+    testee.getBytes("c");
+    testee.getBytes("a");
+    testee.getBytes("b");
+
+    verify(this.source, times(1)).getBytes("a");
+    verify(this.source, times(2)).getBytes("b");
+  }
+
+  @Test
+  public void shouldCountHitsAndMisses() {
+    when(this.source.getBytes("someClass")).thenReturn(Optional.of(new byte[1]));
+
+    final CachingByteArraySource testee = new CachingByteArraySource(this.source, 100);
+
+    testee.getBytes("someClass");
+    testee.getBytes("someClass");
+    testee.getBytes("someClass");
+
+    assertThat(testee.hits()).isEqualTo(2);
+    assertThat(testee.misses()).isEqualTo(1);
+  }
+
 }
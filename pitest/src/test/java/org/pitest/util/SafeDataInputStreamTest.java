@@ -14,13 +14,23 @@
  */
 package org.pitest.util;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.testapi.Description;
 
 public class SafeDataInputStreamTest {
 
@@ -43,4 +53,78 @@ public class SafeDataInputStreamTest {
 
   }
 
+  @Test
+  public void shouldRoundTripMutationIdentifiers() {
+    final MutationIdentifier id = new MutationIdentifier(
+        Location.location(ClassName.fromString("com.example.Foo"), "bar", "()V"),
+        Arrays.asList(1, 300, 70000), "mutator");
+
+    final ByteArrayOutputStream o = new ByteArrayOutputStream();
+    final SafeDataOutputStream dos = new SafeDataOutputStream(o);
+    dos.write(id);
+    dos.write(id);
+
+    final SafeDataInputStream dis = toInput(o);
+    assertEquals(id, dis.read(MutationIdentifier.class));
+    assertEquals(id, dis.read(MutationIdentifier.class));
+  }
+
+  @Test
+  public void shouldRoundTripMutationStatusTestPairs() {
+    final MutationStatusTestPair pair = new MutationStatusTestPair(3,
+        DetectionStatus.KILLED, Arrays.asList("a", "b"),
+        Collections.singletonList("c"), Collections.emptyList(),
+        Collections.singletonList("a"), Collections.emptyList());
+
+    final ByteArrayOutputStream o = new ByteArrayOutputStream();
+    new SafeDataOutputStream(o).write(pair);
+
+    assertEquals(pair, toInput(o).read(MutationStatusTestPair.class));
+  }
+
+  @Test
+  public void shouldRoundTripDescriptionsWithoutATestClass() {
+    final Description d = new Description("foo");
+
+    final ByteArrayOutputStream o = new ByteArrayOutputStream();
+    new SafeDataOutputStream(o).write(d);
+
+    assertEquals(d, toInput(o).read(Description.class));
+  }
+
+  @Test
+  public void shouldSendRepeatedStringsOnlyOnce() {
+    final List<String> tests = new ArrayList<>();
+    for (int i = 0; i != 100; i++) {
+      tests.add("com.example.SomeLongTestClassName.someLongTestMethodName" + i);
+    }
+    final MutationStatusTestPair pair = new MutationStatusTestPair(100,
+        DetectionStatus.SURVIVED, Collections.emptyList(), tests);
+
+    final ByteArrayOutputStream o = new ByteArrayOutputStream();
+    final SafeDataOutputStream dos = new SafeDataOutputStream(o);
+    dos.write(pair);
+    final int first = o.size();
+    dos.write(pair);
+
+    assertThat(o.size() - first).isLessThan(first / 10);
+    final SafeDataInputStream dis = toInput(o);
+    assertEquals(pair, dis.read(MutationStatusTestPair.class));
+    assertEquals(pair, dis.read(MutationStatusTestPair.class));
+  }
+
+  @Test
+  public void shouldFallBackToSerializationForTypesWithoutACodec() {
+    final ArrayList<String> value = new ArrayList<>(Arrays.asList("foo", "bar"));
+
+    final ByteArrayOutputStream o = new ByteArrayOutputStream();
+    new SafeDataOutputStream(o).write(value);
+
+    assertEquals(value, toInput(o).read(ArrayList.class));
+  }
+
+  private SafeDataInputStream toInput(ByteArrayOutputStream o) {
+    return new SafeDataInputStream(new ByteArrayInputStream(o.toByteArray()));
+  }
+
 }
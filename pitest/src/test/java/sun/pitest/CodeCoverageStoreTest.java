@@ -17,11 +17,15 @@ package sun.pitest;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.verify;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.ConcurrentModificationException;
+import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -97,7 +101,7 @@ public class CodeCoverageStoreTest {
     final int classId = CodeCoverageStore.registerClass("foo");
 
     boolean[] ar = CodeCoverageStore.getOrRegisterClassProbes(classId, 2);
-    ar[0] = true;
+    CodeCoverageStore.classTouched(classId);
     ar[1] = true;
     CodeCoverageStore.reset();
 
@@ -105,13 +109,45 @@ public class CodeCoverageStoreTest {
     assertEquals(Collections.emptyList(), actual);
   }
 
+  @Test
+  public void shouldDrainHitsForTouchedClassesOnly() {
+    final int touched = CodeCoverageStore.registerClass("foo");
+    final int untouched = CodeCoverageStore.registerClass("bar");
+    final boolean[] ar = CodeCoverageStore.getOrRegisterClassProbes(touched, 3);
+    final boolean[] other = CodeCoverageStore.getOrRegisterClassProbes(untouched, 1);
+    CodeCoverageStore.classTouched(touched);
+    ar[2] = true;
+    other[1] = true;
+
+    final List<Long> actual = new ArrayList<>();
+    CodeCoverageStore.drainHits((hits, count) -> {
+      for (int i = 0; i != count; i++) {
+        actual.add(hits[i]);
+      }
+    });
+
+    assertEquals(Collections.singletonList(CodeCoverageStore.encode(touched, 2)), actual);
+    assertFalse(ar[0] || ar[2]);
+    assertTrue(other[1]);
+  }
+
+  @Test
+  public void shouldGrowProbesWhenClassIsRetransformed() {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    final boolean[] first = CodeCoverageStore.getOrRegisterClassProbes(classId, 1);
+    final boolean[] second = CodeCoverageStore.getOrRegisterClassProbes(classId, 4);
+    assertEquals(2, first.length);
+    assertEquals(5, second.length);
+    assertSame(second, CodeCoverageStore.getOrRegisterClassProbes(classId, 2));
+  }
+
   @Test
   public void shouldBeSafeToAccessAcrossMultipleThreads()
       throws InterruptedException, ExecutionException {
 
     int classId = CodeCoverageStore.registerClass("foo");
     boolean[] ar = CodeCoverageStore.getOrRegisterClassProbes(classId, 2);
-    ar[0] = true;
+    CodeCoverageStore.classTouched(classId);
     ar[1] = true;
 
     final Callable<ConcurrentModificationException> read = makeReader();